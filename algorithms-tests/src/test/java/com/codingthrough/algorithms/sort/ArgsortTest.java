@@ -0,0 +1,101 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link Argsort}.
+ */
+public class ArgsortTest extends SortSupportTest {
+    @Test
+    public void canArgsortUsingComparatorKeepingIndexOrderOfEqualItems() {
+        final Integer[] a = new Integer[]{2, null, 1, null, 2};
+
+        assertArrayEquals(new int[]{1, 3, 2, 0, 4}, Argsort.argsort(a, new CustomComparator()));
+        assertThat(a, arrayContaining(2, null, 1, null, 2));
+    }
+
+    @Test
+    public void argsortIsStable() {
+        final Random random = new Random(42);
+        final Integer[] a = new Integer[10_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt(10);
+        }
+
+        final int[] perm = Argsort.argsort(a);
+        for (int i = 1; i < perm.length; i++) {
+            assertThat(a[perm[i - 1]] < a[perm[i]] || perm[i - 1] < perm[i], is(true));
+        }
+    }
+
+    @Test
+    public void canArgsortIntArray() {
+        final int[] a = new int[]{7, -1, 3, Integer.MIN_VALUE, 3};
+
+        assertArrayEquals(new int[]{3, 1, 2, 4, 0}, Argsort.argsort(a));
+    }
+
+    @Test
+    public void canArgsortLongArray() {
+        final long[] a = new long[]{Long.MAX_VALUE, -1L << 40, 0, 1L << 40};
+
+        assertArrayEquals(new int[]{1, 2, 3, 0}, Argsort.argsort(a));
+    }
+
+    @Test
+    public void canArgsortDoubleArrayWithNaNAndSignedZeros() {
+        final double[] a = new double[]{Double.NaN, 0.0, -0.0, 1.5, -2.0};
+
+        assertArrayEquals(new int[]{4, 2, 1, 3, 0}, Argsort.argsort(a));
+    }
+
+    @Test
+    public void canApplyPermutationToSeveralArrays() {
+        final int[] keys = new int[]{30, 10, 20, 10};
+        final String[] names = new String[]{"c", "a", "b", "a2"};
+        final double[] values = new double[]{3.0, 1.0, 2.0, 1.5};
+        final int[] perm = Argsort.argsort(keys);
+
+        Argsort.applyPermutation(perm, keys, names, values);
+        assertArrayEquals(new int[]{10, 10, 20, 30}, keys);
+        assertThat(names, arrayContaining("a", "a2", "b", "c"));
+        assertArrayEquals(new double[]{1.0, 1.5, 2.0, 3.0}, values, 0.0);
+        assertArrayEquals(new int[]{1, 3, 2, 0}, perm);
+    }
+
+    @Test
+    public void canApplyPermutationToSingleObjectArray() {
+        final String[] names = new String[]{"b", "c", "a"};
+
+        Argsort.applyPermutation(new int[]{2, 0, 1}, names);
+        assertThat(names, arrayContaining("a", "b", "c"));
+    }
+
+    @Test
+    public void throwsAndRestoresWhenApplyNotPermutation() {
+        final int[] perm = new int[]{0, 2, 2};
+        final int[] a = new int[]{1, 2, 3};
+
+        try {
+            Argsort.applyPermutation(perm, a);
+            fail("Should throw when apply not permutation.");
+        } catch (IllegalArgumentException e) {
+            // ok, it's expected exception
+        }
+        assertArrayEquals(new int[]{0, 2, 2}, perm);
+        assertArrayEquals(new int[]{1, 2, 3}, a);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenArrayLengthDiffersFromPermutation() {
+        Argsort.applyPermutation(new int[]{1, 0}, new int[3]);
+    }
+}
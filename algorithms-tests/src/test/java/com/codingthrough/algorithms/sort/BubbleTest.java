@@ -0,0 +1,44 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Bubble}.
+ */
+public class BubbleTest {
+    @Test
+    public void canSortIntArrayInDescendingOrder() {
+        final int[] a = new int[]{9, 8, 7, 6, 5, -5};
+
+        Bubble.sort(a);
+        assertArrayEquals(new int[]{-5, 5, 6, 7, 8, 9}, a);
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndNegativeZero() {
+        final double[] a = new double[]{Double.POSITIVE_INFINITY, Double.NaN, -0.0, -Double.MAX_VALUE, 0.0, Double.MIN_VALUE};
+
+        Bubble.sort(a);
+        assertThat(a, is(new double[]{-Double.MAX_VALUE, -0.0, 0.0, Double.MIN_VALUE, Double.POSITIVE_INFINITY, Double.NaN}));
+    }
+
+    @Test
+    public void canSortCharArray() {
+        final char[] a = new char[]{'z', 'b', Character.MAX_VALUE, 'b', 'a'};
+
+        Bubble.sort(a);
+        assertArrayEquals(new char[]{'a', 'b', 'b', 'z', Character.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortFloatArrayInsideBounds() {
+        final float[] a = new float[]{3f, Float.NaN, -0.0f, 0.0f, -1f, 2f};
+
+        Bubble.sort(a, 1, 4);
+        assertThat(a, is(new float[]{3f, -1f, -0.0f, 0.0f, Float.NaN, 2f}));
+    }
+}
@@ -0,0 +1,82 @@
+package com.codingthrough.algorithms.sort;
+
+import com.codingthrough.algorithms.adt.bag.ArrayBag;
+import com.codingthrough.algorithms.adt.stack.LinkedStack;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link CollectionSort}.
+ */
+public class CollectionSortTest {
+    @Test
+    public void canSortArrayList() {
+        final List<Integer> list = new ArrayList<>(Arrays.asList(5, 3, 1, 4, 2));
+
+        CollectionSort.sort(list);
+        assertThat(list, contains(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void linkedListSortIsStable() {
+        final List<String> list = new LinkedList<>(Arrays.asList("bb", "a", "cc", "b", "aa", "c"));
+
+        CollectionSort.sort(list, Comparator.comparingInt(String::length));
+        assertThat(list, contains("a", "b", "c", "bb", "cc", "aa"));
+    }
+
+    @Test
+    public void canSortFixedSizeList() {
+        final List<Integer> list = Arrays.asList(3, 1, 2);
+
+        CollectionSort.sort(list);
+        assertThat(list, contains(1, 2, 3));
+    }
+
+    @Test
+    public void randomAccessSortIsStable() {
+        final Random random = new Random(42);
+        final List<int[]> list = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            list.add(new int[]{random.nextInt(100), i});
+        }
+
+        CollectionSort.sort(list, Comparator.comparingInt(e -> e[0]));
+
+        for (int i = 1; i < list.size(); i++) {
+            assertThat(list.get(i - 1)[0] < list.get(i)[0] || list.get(i - 1)[1] < list.get(i)[1], is(true));
+        }
+    }
+
+    @Test
+    public void returnsSortedArrayOfBag() {
+        final ArrayBag<String> bag = new ArrayBag<>(new String[]{"c", "a", "b"});
+
+        assertThat(CollectionSort.sortedArray(bag, new String[0]), arrayContaining("a", "b", "c"));
+    }
+
+    @Test
+    public void returnsSortedArrayOfStackInGivenArray() {
+        final LinkedStack<Integer> stack = new LinkedStack<>(new Integer[]{2, 3, 1});
+        final Integer[] a = new Integer[]{0, 0, 0, 9};
+
+        assertThat(CollectionSort.sortedArray(stack, a, Comparator.reverseOrder()), is(a));
+        assertThat(a, arrayContaining(3, 2, 1, 9));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenListIsNull() {
+        CollectionSort.sort((List<Integer>) null);
+    }
+}
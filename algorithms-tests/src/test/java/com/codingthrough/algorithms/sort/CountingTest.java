@@ -0,0 +1,95 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link Counting}.
+ */
+public class CountingTest {
+    @Test
+    public void canSortByteArray() {
+        final byte[] a = new byte[]{3, -128, 127, 0, -1, 3};
+
+        Counting.sort(a);
+        assertArrayEquals(new byte[]{-128, -1, 0, 3, 3, 127}, a);
+    }
+
+    @Test
+    public void canSortShortArrayInsideBounds() {
+        final short[] a = new short[]{9, Short.MAX_VALUE, 3, Short.MIN_VALUE, 1, 0};
+
+        Counting.sort(a, 1, 4);
+        assertArrayEquals(new short[]{9, Short.MIN_VALUE, 1, 3, Short.MAX_VALUE, 0}, a);
+    }
+
+    @Test
+    public void canSortCharArray() {
+        final char[] a = new char[]{'c', Character.MAX_VALUE, 'a', '\u0000', 'b'};
+
+        Counting.sort(a);
+        assertArrayEquals(new char[]{'\u0000', 'a', 'b', 'c', Character.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortIntArrayInRange() {
+        final int[] a = new int[]{-3, 7, 0, -3, 5};
+
+        Counting.sort(a, -5, 10);
+        assertArrayEquals(new int[]{-3, -3, 0, 5, 7}, a);
+    }
+
+    @Test
+    public void canSortObjectsByEnumOrdinal() {
+        final DayOfWeek[] a = new DayOfWeek[]{DayOfWeek.SUNDAY, DayOfWeek.MONDAY, DayOfWeek.FRIDAY};
+
+        Counting.sort(a, DayOfWeek::ordinal, 0, DayOfWeek.values().length - 1);
+        assertThat(a, arrayContaining(DayOfWeek.MONDAY, DayOfWeek.FRIDAY, DayOfWeek.SUNDAY));
+    }
+
+    @Test
+    public void objectSortIsStable() {
+        final Random random = new Random(42);
+        final int[][] a = new int[10_000][];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new int[]{random.nextInt(10), i};
+        }
+
+        Counting.sort(a, 0, a.length - 1, e -> e[0], 0, 9);
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    @Test
+    public void throwsAndKeepsArrayWhenKeyIsOutsideRange() {
+        final int[] a = new int[]{1, 5, 2};
+
+        try {
+            Counting.sort(a, 0, 4);
+            fail("Should throw when key is outside range.");
+        } catch (IllegalArgumentException e) {
+            // ok, it's expected exception
+        }
+        assertArrayEquals(new int[]{1, 5, 2}, a);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenRangeIsTooLarge() {
+        Counting.sort(new Integer[]{1}, Integer::intValue, 0, Integer.MAX_VALUE);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenRangeIsEmpty() {
+        Counting.sort(new int[]{1}, 1, 0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link ExternalSort}.
+ */
+public class ExternalSortTest {
+    /**
+     * The record of 8 bytes: the key followed by the position in the input.
+     */
+    private static final RecordCodec<int[]> CODEC = new RecordCodec<int[]>() {
+        @Override
+        public int recordSize() {
+            return 8;
+        }
+
+        @Override
+        public int[] decode(ByteBuffer buffer) {
+            return new int[]{buffer.getInt(), buffer.getInt()};
+        }
+
+        @Override
+        public void encode(int[] record, ByteBuffer buffer) {
+            buffer.putInt(record[0]).putInt(record[1]);
+        }
+    };
+
+    private static final Comparator<int[]> BY_KEY = Comparator.comparingInt(r -> r[0]);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void canSortFileFittingInMemory() throws IOException {
+        final Path input = randomFile(1_000);
+        final Path output = folder.getRoot().toPath().resolve("sorted");
+
+        new ExternalSort<>(CODEC, BY_KEY, 1 << 20, folder.getRoot().toPath()).sort(input, output);
+        assertSortedAndStable(output, 1_000);
+    }
+
+    @Test
+    public void canSortFileUsingSeveralMergePasses() throws IOException {
+        final Path input = randomFile(100_000);
+        final Path output = folder.getRoot().toPath().resolve("sorted");
+
+        new ExternalSort<>(CODEC, BY_KEY, 8 * 500, folder.getRoot().toPath()).sort(input, output);
+        assertSortedAndStable(output, 100_000);
+    }
+
+    @Test
+    public void removesTemporaryFiles() throws IOException {
+        final File temp = folder.newFolder();
+        final Path input = randomFile(10_000);
+        final Path output = folder.getRoot().toPath().resolve("sorted");
+
+        new ExternalSort<>(CODEC, BY_KEY, 8 * 1_000, temp.toPath()).sort(input, output);
+        assertThat(temp.list().length, is(0));
+    }
+
+    @Test
+    public void canSortEmptyFile() throws IOException {
+        final Path input = folder.newFile().toPath();
+        final Path output = folder.getRoot().toPath().resolve("sorted");
+
+        new ExternalSort<>(CODEC, BY_KEY, 1 << 20).sort(input, output);
+        assertThat(Files.size(output), is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenInputIsNotMadeOfWholeRecords() throws IOException {
+        final Path input = folder.newFile().toPath();
+        Files.write(input, new byte[12]);
+
+        new ExternalSort<>(CODEC, BY_KEY, 1 << 20).sort(input, folder.getRoot().toPath().resolve("sorted"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenMemoryBudgetIsTooSmall() {
+        new ExternalSort<>(CODEC, BY_KEY, 4);
+    }
+
+    private Path randomFile(int n) throws IOException {
+        final Random random = new Random(n);
+        final ByteBuffer buffer = ByteBuffer.allocate(8 * n);
+        for (int i = 0; i < n; i++) {
+            buffer.putInt(random.nextInt(n / 10 + 1)).putInt(i);
+        }
+
+        final Path input = folder.newFile().toPath();
+        Files.write(input, buffer.array());
+        return input;
+    }
+
+    private static void assertSortedAndStable(Path output, int n) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(output));
+        assertThat(buffer.remaining(), is(8 * n));
+
+        int[] prev = CODEC.decode(buffer);
+        while (buffer.hasRemaining()) {
+            final int[] next = CODEC.decode(buffer);
+            assertThat(prev[0] < next[0] || prev[0] == next[0] && prev[1] < next[1], is(true));
+            prev = next;
+        }
+    }
+}
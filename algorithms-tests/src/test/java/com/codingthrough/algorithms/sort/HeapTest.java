@@ -0,0 +1,82 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Heap}.
+ */
+public class HeapTest extends SortSupportTest {
+    @Test
+    public void canSortArrayOfOddLength() {
+        final Integer[] a = new Integer[]{5, 3, 4, 1, 2};
+
+        Heap.sort(a);
+        assertThat(a, arrayContaining(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void canSortArrayInsideBounds() {
+        final Integer[] a = new Integer[]{9, 5, 3, 4, 1, 0};
+
+        Heap.sort(a, 1, 4);
+        assertThat(a, arrayContaining(9, 1, 3, 4, 5, 0));
+    }
+
+    @Test
+    public void canSortEveryArrayOfOneToThreeItems() {
+        final Integer[][] arrays = new Integer[][]{
+                {1}, {1, 2}, {2, 1}, {1, 2, 3}, {1, 3, 2}, {2, 1, 3}, {2, 3, 1}, {3, 1, 2}, {3, 2, 1}};
+
+        for (Integer[] a : arrays) {
+            Heap.sort(a, new CustomComparator());
+            assertThat(SortSupport.sorted(a), is(true));
+        }
+    }
+
+    @Test
+    public void keepsEveryItemOfArrayOfEqualKeys() {
+        final int[][] a = new int[1_000][];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new int[]{7, i};
+        }
+
+        Heap.sort(a, Comparator.comparingInt(e -> e[0]));
+
+        final boolean[] kept = new boolean[a.length];
+        for (int[] e : a) {
+            assertThat(e[0], is(7));
+            kept[e[1]] = true;
+        }
+        for (boolean k : kept) {
+            assertThat(k, is(true));
+        }
+    }
+
+    @Test
+    public void canSortIntArray() {
+        final int[] a = new int[]{7, -1, 3, Integer.MIN_VALUE, 3, 0, Integer.MAX_VALUE};
+
+        Heap.sort(a);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 3, 3, 7, Integer.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndSignedZeros() {
+        final double[] a = new double[]{Double.NaN, 0.0, -0.0, 1.5, -2.0};
+
+        Heap.sort(a);
+        assertArrayEquals(new double[]{-2.0, -0.0, 0.0, 1.5, Double.NaN}, a, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenSortIntArrayWithInvalidBounds() {
+        Heap.sort(new int[]{1, 2, 3}, 2, 1);
+    }
+}
@@ -0,0 +1,44 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Insertion}.
+ */
+public class InsertionTest {
+    @Test
+    public void canSortIntArray() {
+        final int[] a = new int[]{5, Integer.MIN_VALUE, 3, 5, -2, Integer.MAX_VALUE, 0};
+
+        Insertion.sort(a);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -2, 0, 3, 5, 5, Integer.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndNegativeZero() {
+        final double[] a = new double[]{Double.NaN, 1.5, -0.0, Double.NEGATIVE_INFINITY, 0.0, -1.0};
+
+        Insertion.sort(a);
+        assertThat(a, is(new double[]{Double.NEGATIVE_INFINITY, -1.0, -0.0, 0.0, 1.5, Double.NaN}));
+    }
+
+    @Test
+    public void canSortCharArray() {
+        final char[] a = new char[]{'q', 'a', Character.MAX_VALUE, 'A', Character.MIN_VALUE};
+
+        Insertion.sort(a);
+        assertArrayEquals(new char[]{Character.MIN_VALUE, 'A', 'a', 'q', Character.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortLongArrayInsideBounds() {
+        final long[] a = new long[]{8, -1, 7, Long.MIN_VALUE, 2, -3};
+
+        Insertion.sort(a, 1, 4);
+        assertArrayEquals(new long[]{8, Long.MIN_VALUE, -1, 2, 7, -3}, a);
+    }
+}
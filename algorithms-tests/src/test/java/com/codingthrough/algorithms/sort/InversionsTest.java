@@ -0,0 +1,84 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Inversions}.
+ */
+public class InversionsTest extends SortSupportTest {
+    @Test
+    public void countsInversionsWithoutModifyingArray() {
+        final Integer[] a = new Integer[]{3, 1, 2, 5, 4};
+
+        assertThat(Inversions.count(a), is(3L));
+        assertThat(a, arrayContaining(3, 1, 2, 5, 4));
+    }
+
+    @Test
+    public void countsInversionsUsingComparator() {
+        final Integer[] a = new Integer[]{1, null, 3, 2};
+
+        assertThat(Inversions.count(a, new CustomComparator()), is(2L));
+    }
+
+    @Test
+    public void countsInversionsInsideBounds() {
+        final int[] a = new int[]{9, 3, 2, 1, 0};
+
+        assertThat(Inversions.count(a, 1, 3), is(3L));
+    }
+
+    @Test
+    public void countsAllPairsOfLargeDescendingArray() {
+        final long[] a = new long[100_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = -i;
+        }
+
+        assertThat(Inversions.count(a), is(4_999_950_000L));
+        assertThat(Inversions.parallelCount(a), is(4_999_950_000L));
+    }
+
+    @Test
+    public void doesNotCountPairsOfEqualKeys() {
+        // 1, 0, 1, 0, ... : the p-th one precedes n/2 - p zeros
+        final int[] a = new int[20_000];
+        for (int i = 0; i < a.length; i += 2) {
+            a[i] = 1;
+        }
+        final int[] copy = a.clone();
+
+        assertThat(Inversions.count(a), is(50_005_000L));
+        assertThat(Inversions.parallelCount(a), is(50_005_000L));
+        assertArrayEquals(copy, a);
+    }
+
+    @Test
+    public void countsDoublesInOrderOfDoubleCompare() {
+        assertThat(Inversions.count(new double[]{Double.NaN, 1.0, 0.0, -0.0}), is(6L));
+        assertThat(Inversions.count(new double[]{-0.0, 0.0, Double.NaN, Double.NaN}), is(0L));
+    }
+
+    @Test
+    public void measuresRunsAndSortedness() {
+        final double[] a = new double[]{1.0, 2.0, 2.0, 0.5, 3.0, 1.0};
+
+        final Inversions.Metrics metrics = Inversions.measure(a);
+        assertThat(metrics.size(), is(6));
+        assertThat(metrics.runs(), is(3));
+        assertThat(metrics.longestRun(), is(3));
+        assertThat(metrics.inversions(), is(6L));
+        assertThat(metrics.sortedness(), is(0.6));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenBoundsAreInvalid() {
+        Inversions.count(new int[]{1, 2, 3}, 2, 1);
+    }
+}
@@ -0,0 +1,111 @@
+package com.codingthrough.algorithms.sort;
+
+import com.codingthrough.algorithms.adt.ArrayIterator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link KWayMerge}.
+ */
+public class KWayMergeTest extends SortSupportTest {
+    @Test
+    public void canMergeArrays() {
+        final Integer[][] runs = new Integer[][]{{1, 4, 7}, {}, {2, 5, 8}, {3, 6, 9}};
+
+        assertThat(KWayMerge.merge(runs), arrayContaining(1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    public void canMergeArraysUsingComparator() {
+        final Integer[][] runs = new Integer[][]{{null, 3}, {1, 2}};
+
+        assertThat(KWayMerge.merge(runs, new CustomComparator()), arrayContaining(null, 1, 2, 3));
+    }
+
+    @Test
+    public void canMergeNoArrays() {
+        assertThat(KWayMerge.merge(new Integer[0][]), is(emptyArray()));
+    }
+
+    @Test
+    public void mergesManyRunsStablyInLogarithmicComparisonsPerItem() {
+        final Random random = new Random(42);
+        final int[][][] runs = new int[300][][];
+        int total = 0;
+        for (int i = 0; i < runs.length; i++) {
+            runs[i] = new int[random.nextInt(100)][];
+            for (int j = 0; j < runs[i].length; j++) {
+                runs[i][j] = new int[]{random.nextInt(10), i, j};
+            }
+            Arrays.sort(runs[i], Comparator.comparingInt(e -> e[0]));
+            total += runs[i].length;
+        }
+        final long[] comparisons = new long[1];
+
+        final int[][] a = KWayMerge.merge(runs, (x, y) -> {
+            comparisons[0]++;
+            return Integer.compare(x[0], y[0]);
+        });
+
+        assertThat(a.length, is(total));
+        for (int i = 1; i < a.length; i++) {
+            final int[] x = a[i - 1], y = a[i];
+            assertThat(x[0] < y[0] || x[0] == y[0] && (x[1] < y[1] || x[1] == y[1] && x[2] < y[2]), is(true));
+        }
+        // ceil(log2(300)) comparisons per item plus building the tree
+        assertThat(comparisons[0] <= 9L * total + runs.length, is(true));
+    }
+
+    @Test
+    public void mergeIsStable() {
+        final int[][][] runs = new int[][][]{{{1, 0}, {2, 0}}, {{1, 1}, {2, 1}}, {{1, 2}}};
+
+        final int[][] a = KWayMerge.merge(runs, Comparator.comparingInt(e -> e[0]));
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    @Test
+    public void canMergeIteratorsOverSlices() {
+        final Integer[] a = new Integer[]{9, 1, 3, 5, 9, 2, 4, 6, 9};
+        final List<Iterator<Integer>> runs = Arrays.asList(
+                new ArrayIterator<>(a, 1, 3), new ArrayIterator<>(a, 5, 7));
+
+        final Iterator<Integer> iterator = KWayMerge.merge(runs);
+        for (int i = 1; i <= 6; i++) {
+            assertThat(iterator.next(), is(i));
+        }
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void throwsWhenCallNextForExhaustedIterator() {
+        final Iterator<Integer> iterator = KWayMerge.merge(Collections.<Iterator<Integer>>emptyList());
+
+        try {
+            iterator.next();
+            fail("Should throw when call next for exhausted iterator.");
+        } catch (NoSuchElementException e) {
+            // ok, it's expected exception
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenRunIsNull() {
+        KWayMerge.merge(new Integer[][]{{1}, null});
+    }
+}
@@ -0,0 +1,88 @@
+package com.codingthrough.algorithms.sort;
+
+import com.codingthrough.algorithms.sort.KeyEncoder.Nulls;
+import com.codingthrough.algorithms.sort.KeyEncoder.Order;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link KeyEncoder}.
+ */
+public class KeyEncoderTest {
+    @Test
+    public void encodesKeysPreservingTheirOrder() {
+        final KeyEncoder<Integer> ints = KeyEncoder.byInt(Integer::intValue, Order.ASCENDING);
+        final KeyEncoder<Double> doubles = KeyEncoder.byDouble(Double::doubleValue, Order.ASCENDING);
+        final KeyEncoder<String> strings = KeyEncoder.byString(s -> s, Order.ASCENDING, Nulls.LAST);
+
+        assertThat(compare(ints.encode(-1), ints.encode(0)), lessThan(0));
+        assertThat(compare(ints.encode(Integer.MAX_VALUE), ints.encode(Integer.MIN_VALUE)), greaterThan(0));
+        assertThat(compare(doubles.encode(-0.0), doubles.encode(0.0)), lessThan(0));
+        assertThat(compare(doubles.encode(Double.NaN), doubles.encode(Double.POSITIVE_INFINITY)), greaterThan(0));
+        assertThat(compare(strings.encode("ab"), strings.encode("abc")), lessThan(0));
+        assertThat(compare(strings.encode("a\u0000"), strings.encode("a")), greaterThan(0));
+        assertThat(compare(strings.encode("z"), strings.encode(String.valueOf((char) 0xE9))), lessThan(0));
+        assertThat(compare(strings.encode(null), strings.encode("zzz")), greaterThan(0));
+    }
+
+    @Test
+    public void canSortByFieldsInDescendingOrderAndNullsFirst() {
+        final String[] a = new String[]{"bb", null, "a", "ccc", "b", null, "aa"};
+
+        KeyEncoder.<String>byInt(s -> s == null ? 0 : s.length(), Order.DESCENDING)
+                .thenString(s -> s, Order.DESCENDING, Nulls.FIRST)
+                .sort(a);
+        assertThat(a, arrayContaining("ccc", "bb", "aa", "b", "a", null, null));
+    }
+
+    @Test
+    public void canSortInsideBounds() {
+        final Long[] a = new Long[]{9L, 5L, -3L, 7L, 0L};
+
+        KeyEncoder.byLong(Long::longValue, Order.ASCENDING).sort(a, 1, 3);
+        assertThat(a, arrayContaining(9L, -3L, 5L, 7L, 0L));
+    }
+
+    @Test
+    public void sortsLikeChainedComparator() {
+        final Random random = new Random(42);
+        final Object[][] a = new Object[50_000][];
+        for (int i = 0; i < a.length; i++) {
+            final String s = random.nextInt(10) == 0 ? null : "prefix-" + random.nextInt(100);
+            a[i] = new Object[]{random.nextInt(3), s, random.nextInt(5) / 2.0, i};
+        }
+        final Object[][] expected = a.clone();
+        Arrays.sort(expected, Comparator.<Object[]>comparingInt(e -> (Integer) e[0])
+                .thenComparing(e -> (String) e[1], Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                .thenComparing(Comparator.<Object[]>comparingDouble(e -> (Double) e[2]).reversed()));
+
+        KeyEncoder.<Object[]>byInt(e -> (Integer) e[0], Order.ASCENDING)
+                .thenString(e -> (String) e[1], Order.ASCENDING, Nulls.LAST)
+                .thenDouble(e -> (Double) e[2], Order.DESCENDING)
+                .sort(a);
+        assertThat(a, is(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenOrderIsNull() {
+        KeyEncoder.byInt(Integer::intValue, null);
+    }
+
+    private static int compare(byte[] x, byte[] y) {
+        for (int i = 0; i < Math.min(x.length, y.length); i++) {
+            if (x[i] != y[i]) {
+                return (x[i] & 0xFF) - (y[i] & 0xFF);
+            }
+        }
+        return x.length - y.length;
+    }
+}
@@ -0,0 +1,233 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link MergeBU}.
+ */
+public class MergeBUTest extends SortSupportTest {
+    @Test
+    public void canSortArrayOfOddLength() {
+        final Integer[] a = new Integer[]{5, 3, 4, 1, 2};
+
+        MergeBU.sort(a);
+        assertThat(a, arrayContaining(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void canSortArrayInsideBounds() {
+        final Integer[] a = new Integer[]{9, 5, 3, 4, 1, 0};
+
+        MergeBU.sort(a, 1, 4);
+        assertThat(a, arrayContaining(9, 1, 3, 4, 5, 0));
+    }
+
+    @Test
+    public void naturalSortKeepsOrderOfEqualItemsInDescendingRuns() {
+        // only strictly descending runs are reversed, equal neighbours start a new run
+        final int[][] a = new int[1_000][];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new int[]{(a.length - i) / 2, i};
+        }
+
+        MergeBU.sortNatural(a, Comparator.comparingInt(e -> e[0]));
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    @Test
+    public void canSortNaturalRuns() {
+        final Integer[] a = new Integer[]{1, 4, 7, 9, 6, 5, 3, 2, 8, 10, 11};
+
+        MergeBU.sortNatural(a);
+        assertThat(a, arrayContaining(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11));
+    }
+
+    @Test
+    public void canSortNaturalRunsInsideBounds() {
+        final Integer[] a = new Integer[]{9, 5, 3, 4, 1, 0};
+
+        MergeBU.sortNatural(a, 1, 4);
+        assertThat(a, arrayContaining(9, 1, 3, 4, 5, 0));
+    }
+
+    @Test
+    public void canSortLargeArrayOfNaturalRuns() {
+        final Integer[] a = new Integer[10_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i < 5_000 ? 2 * i : 2 * (a.length - i) - 1;
+        }
+
+        MergeBU.sortNatural(a, new CustomComparator());
+        for (int i = 0; i < a.length; i++) {
+            assertThat(a[i], is(i));
+        }
+    }
+
+    @Test
+    public void naturalSortIsStable() {
+        final Random random = new Random(42);
+        final int[][] a = new int[10_000][];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new int[]{random.nextInt(10), i};
+        }
+
+        MergeBU.sortNatural(a, Comparator.comparingInt(e -> e[0]));
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    @Test
+    public void naturalSortOfSortedArrayTakesSinglePass() {
+        final Integer[] a = new Integer[100_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i;
+        }
+        final long[] compares = new long[1];
+
+        MergeBU.sortNatural(a, (v, w) -> {
+            compares[0]++;
+            return v.compareTo(w);
+        });
+
+        // the bound allows for the n - 1 comparisons of the sorted assertion run with -ea
+        assertThat(compares[0] <= 2L * (a.length - 1), is(true));
+    }
+
+    @Test
+    public void naturalSortGallopsShortRunIntoLongOne() {
+        final Random random = new Random(42);
+        final int n = 100_000;
+        final Integer[] a = new Integer[n + 16];
+        for (int i = 0; i < n; i++) {
+            a[i] = 2 * i;
+        }
+        for (int i = n; i < a.length; i++) {
+            a[i] = random.nextInt(2 * n);
+        }
+        final long[] compares = new long[1];
+
+        MergeBU.sortNatural(a, (v, w) -> {
+            compares[0]++;
+            return v.compareTo(w);
+        });
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1] <= a[i], is(true));
+        }
+        // a linear merge would take another n comparisons, the bound allows for the sorted assertion with -ea
+        assertThat(compares[0] < 2L * n + 2_000, is(true));
+    }
+
+    @Test
+    public void canSortIntArray() {
+        final int[] a = new int[]{7, -1, 3, Integer.MIN_VALUE, 3, 0, Integer.MAX_VALUE};
+
+        MergeBU.sort(a);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 3, 3, 7, Integer.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortIntArrayInsideBounds() {
+        final int[] a = new int[]{9, 5, 3, 4, 1, 0};
+
+        MergeBU.sort(a, 1, 4);
+        assertArrayEquals(new int[]{9, 1, 3, 4, 5, 0}, a);
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndSignedZeros() {
+        final double[] a = new double[]{Double.NaN, 0.0, -0.0, 1.5, -2.0};
+
+        MergeBU.sort(a);
+        assertArrayEquals(new double[]{-2.0, -0.0, 0.0, 1.5, Double.NaN}, a, 0.0);
+        assertThat(SortSupport.sorted(a), is(true));
+    }
+
+    @Test
+    public void canSortByteArray() {
+        final byte[] a = new byte[]{3, -128, 127, 0, -1};
+
+        MergeBU.sort(a);
+        assertArrayEquals(new byte[]{-128, -1, 0, 3, 127}, a);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenSortIntArrayWithInvalidBounds() {
+        MergeBU.sort(new int[]{1, 2, 3}, 2, 1);
+    }
+
+    @Test
+    public void canSortWithCancellationTokenReportingProgress() {
+        final Random random = new Random(42);
+        final int[] a = new int[100_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt();
+        }
+        final int[] expected = a.clone();
+        Arrays.sort(expected);
+        final List<Long> reported = new ArrayList<>();
+
+        MergeBU.sort(a, CancellationToken.never(), (done, total) -> {
+            assertThat(total, is(100_000L * 17));
+            reported.add(done);
+        });
+
+        assertArrayEquals(expected, a);
+        assertThat(reported.get(0), is(0L));
+        assertThat(reported.get(reported.size() - 1), is(100_000L * 17));
+        for (int i = 1; i < reported.size(); i++) {
+            assertThat(reported.get(i - 1) < reported.get(i), is(true));
+        }
+    }
+
+    @Test
+    public void cancelledSortLeavesPermutationOfArray() {
+        final Random random = new Random(42);
+        final Integer[] a = new Integer[100_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt();
+        }
+        final Integer[] expected = a.clone();
+        Arrays.sort(expected);
+        final AtomicBoolean cancelled = new AtomicBoolean();
+
+        try {
+            MergeBU.sort(a, Comparator.<Integer>naturalOrder(), cancelled::get, (done, total) -> {
+                if (done >= total / 2) {
+                    cancelled.set(true);
+                }
+            });
+            fail("Should throw when sort is cancelled.");
+        } catch (SortCancelledException e) {
+            // ok, it's expected exception
+        }
+
+        assertThat(SortSupport.sorted(a), is(false));
+        Arrays.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test(expected = SortCancelledException.class)
+    public void throwsWhenDeadlineHasPassed() {
+        MergeBU.sort(new long[]{3, 2, 1}, CancellationToken.deadline(0, TimeUnit.NANOSECONDS), null);
+    }
+}
@@ -0,0 +1,102 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link MergeInPlace}.
+ */
+public class MergeInPlaceTest extends SortSupportTest {
+    @Test
+    public void canSortArrayOfOddLength() {
+        final Integer[] a = new Integer[]{5, 3, 4, 1, 2};
+
+        MergeInPlace.sort(a);
+        assertThat(a, arrayContaining(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void canSortArrayInsideBounds() {
+        final Integer[] a = new Integer[]{9, 5, 3, 4, 1, 0};
+
+        MergeInPlace.sort(a, 1, 4);
+        assertThat(a, arrayContaining(9, 1, 3, 4, 5, 0));
+    }
+
+    @Test
+    public void canSortArraysAroundBlockAndBufferSizes() {
+        for (int n : new int[]{19, 20, 21, 32, 33, 1_025}) {
+            final Integer[] a = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                a[i] = n - i;
+            }
+
+            MergeInPlace.sort(a, new CustomComparator());
+            assertThat(SortSupport.sorted(a), is(true));
+        }
+    }
+
+    @Test
+    public void rotatesPartsLargerThanBufferStably() {
+        // sorted halves whose key ranges overlap in the middle, so the final merge
+        // rotates pieces of about n/4 items while the buffer holds only 64
+        final int n = 4_096;
+        final int[][] a = new int[n][];
+        for (int i = 0; i < n / 2; i++) {
+            a[i] = new int[]{(n / 4 + i) / 2, i};
+        }
+        for (int i = n / 2; i < n; i++) {
+            final int j = i - n / 2;
+            a[i] = new int[]{(j < n / 4 ? j : j + n / 2) / 2, i};
+        }
+
+        MergeInPlace.sort(a, Comparator.comparingInt(e -> e[0]));
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    @Test
+    public void sortIsStable() {
+        final Random random = new Random(42);
+        final int[][] a = new int[100_000][];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new int[]{random.nextInt(100), i};
+        }
+
+        MergeInPlace.sort(a, Comparator.comparingInt(e -> e[0]));
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    @Test
+    public void canSortIntArray() {
+        final int[] a = new int[]{7, -1, 3, Integer.MIN_VALUE, 3, 0, Integer.MAX_VALUE};
+
+        MergeInPlace.sort(a);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 3, 3, 7, Integer.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndSignedZeros() {
+        final double[] a = new double[]{Double.NaN, 0.0, -0.0, 1.5, -2.0};
+
+        MergeInPlace.sort(a);
+        assertArrayEquals(new double[]{-2.0, -0.0, 0.0, 1.5, Double.NaN}, a, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenSortIntArrayWithInvalidBounds() {
+        MergeInPlace.sort(new int[]{1, 2, 3}, 2, 1);
+    }
+}
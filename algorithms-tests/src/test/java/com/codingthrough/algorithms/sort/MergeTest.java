@@ -0,0 +1,58 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Merge}.
+ */
+public class MergeTest {
+    @Test
+    public void canSortIntArray() {
+        final int[] a = new Random(42).ints(1_000).toArray();
+        final int[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        Merge.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndNegativeZero() {
+        final double[] values = new double[]{Double.NaN, -0.0, 0.0, -1.0, 1.0, Double.NEGATIVE_INFINITY};
+        final Random random = new Random(42);
+        final double[] a = new double[500];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = values[random.nextInt(values.length)];
+        }
+        final double[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        Merge.sort(a);
+        assertThat(a, is(expected));
+    }
+
+    @Test
+    public void canSortCharArrayAboveLatin1() {
+        final char[] a = new char[]{Character.MAX_VALUE, 'b', (char) 0x100, 'a', (char) 0xFF, Character.MIN_VALUE};
+
+        Merge.sort(a);
+        assertArrayEquals(new char[]{Character.MIN_VALUE, 'a', 'b', (char) 0xFF, (char) 0x100, Character.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortIntArrayInsideBoundsUsingContext() {
+        final int[] a = new Random(7).ints(300, -50, 50).toArray();
+        final int[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected, 10, 290);
+
+        Merge.sort(a, 10, 289, new SortContext());
+        assertArrayEquals(expected, a);
+    }
+}
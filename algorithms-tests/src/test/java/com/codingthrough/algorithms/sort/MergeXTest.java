@@ -0,0 +1,108 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link MergeX}.
+ */
+public class MergeXTest {
+    @Test
+    public void sortIsStableWhenContextIsReused() {
+        final SortContext ctx = new SortContext();
+        for (int n : new int[]{1_000, 10_000}) {
+            final Integer[] keys = randomArray(n, 10);
+            final int[][] a = new int[n][];
+            for (int i = 0; i < n; i++) {
+                a[i] = new int[]{keys[i], i};
+            }
+
+            MergeX.sort(a, Comparator.comparingInt(e -> e[0]), ctx);
+
+            for (int i = 1; i < a.length; i++) {
+                assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+            }
+        }
+    }
+
+    @Test
+    public void canSortDescendingArrayInsideBoundsInParallel() {
+        final Integer[] a = new Integer[100_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = a.length - i;
+        }
+
+        MergeX.parallelSort(a, 10, 89_999);
+
+        for (int i = 0; i < a.length; i++) {
+            assertThat(a[i], is(i < 10 || i > 89_999 ? a.length - i : 10_001 + i - 10));
+        }
+    }
+
+    @Test
+    public void parallelSortIsStable() {
+        final Integer[] keys = randomArray(100_000, 100);
+        final int[][] a = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            a[i] = new int[]{keys[i], i};
+        }
+
+        MergeX.parallelSort(a, Comparator.comparingInt(e -> e[0]));
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    @Test
+    public void canSortIntArrayInsideBounds() {
+        final int[] a = new Random(42).ints(1_000).toArray();
+        final int[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected, 100, 901);
+
+        MergeX.sort(a, 100, 900);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndNegativeZero() {
+        final double[] values = new double[]{Double.NaN, -0.0, 0.0, 3.0, -3.0, Double.NEGATIVE_INFINITY};
+        final Random random = new Random(42);
+        final double[] a = new double[1_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = values[random.nextInt(values.length)];
+        }
+        final double[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        MergeX.sort(a);
+        assertThat(a, is(expected));
+    }
+
+    @Test
+    public void canSortByteArray() {
+        final byte[] a = new byte[1_000];
+        new Random(42).nextBytes(a);
+        final byte[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        MergeX.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    private static Integer[] randomArray(int n, int bound) {
+        final Random random = new Random(42);
+        final Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(bound);
+        }
+        return a;
+    }
+}
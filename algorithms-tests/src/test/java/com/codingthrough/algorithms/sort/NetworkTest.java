@@ -0,0 +1,65 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.Comparator;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Network}.
+ */
+public class NetworkTest extends SortSupportTest {
+    @Test
+    public void canSortEveryZeroOneInputOfEverySize() {
+        for (int n = 1; n <= Network.MAX_SIZE; n++) {
+            for (int bits = 0; bits < 1 << n; bits++) {
+                final int[] a = new int[n];
+                for (int i = 0; i < n; i++) {
+                    a[i] = (bits >>> i) & 1;
+                }
+
+                Network.sort(a);
+                assertThat(SortSupport.sorted(a), is(true));
+            }
+        }
+    }
+
+    @Test
+    public void canSortArrayInsideBounds() {
+        final Integer[] a = new Integer[]{9, 5, 3, 4, 1, 0};
+
+        Network.sort(a, 1, 4);
+        assertThat(a, arrayContaining(9, 1, 3, 4, 5, 0));
+    }
+
+    @Test
+    public void canSortEveryZeroOneInputOfEverySizeUsingComparator() {
+        for (int n = 1; n <= Network.MAX_SIZE; n++) {
+            for (int bits = 0; bits < 1 << n; bits++) {
+                final Integer[] a = new Integer[n];
+                for (int i = 0; i < n; i++) {
+                    a[i] = (bits >>> i) & 1;
+                }
+
+                Network.sort(a, Comparator.reverseOrder());
+                assertThat(SortSupport.sorted(a, Comparator.reverseOrder()), is(true));
+            }
+        }
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaN() {
+        final double[] a = new double[]{Double.NaN, 2.0, -0.0, 0.0, -1.0};
+
+        Network.sort(a);
+        assertArrayEquals(new double[]{-1.0, -0.0, 0.0, 2.0, Double.NaN}, a, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenArrayIsTooLarge() {
+        Network.sort(new long[Network.MAX_SIZE + 1]);
+    }
+}
@@ -0,0 +1,68 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Quick3String}.
+ */
+public class Quick3StringTest {
+    @Test
+    public void canSortEmptyStringsAndPrefixes() {
+        final String[] a = new String[]{"abc", "", "ab", "b", "", "a", "abcd", "ab"};
+
+        Quick3String.sort(a);
+        assertThat(a, arrayContaining("", "", "a", "ab", "ab", "abc", "abcd", "b"));
+    }
+
+    @Test
+    public void canSortCharactersAboveByteRange() {
+        final String[] a = new String[20];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = String.valueOf(new char[]{(char) (0x1FF - i * 0x11), (char) (i % 3 * 0x100)});
+        }
+        final String[] expected = a.clone();
+        Arrays.sort(expected);
+
+        Quick3String.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void canSortStringsInsideBounds() {
+        final String[] a = new String[]{"z", "c", "b", "a", "y"};
+
+        Quick3String.sort(a, 1, 3);
+        assertThat(a, arrayContaining("z", "a", "b", "c", "y"));
+    }
+
+    @Test
+    public void canSortByteKeysAsUnsigned() {
+        final byte[][] a = new byte[][]{{(byte) 0x80}, {0x7F}, {}, {(byte) 0xFF, 0}, {0x7F, (byte) 0x80}, {(byte) 0xFF}};
+
+        Quick3String.sort(a);
+        assertArrayEquals(new byte[][]{{}, {0x7F}, {0x7F, (byte) 0x80}, {(byte) 0x80}, {(byte) 0xFF}, {(byte) 0xFF, 0}}, a);
+    }
+
+    @Test
+    public void canSortStringsSharingLongPrefix() {
+        final char[] prefix = new char[50_000];
+        Arrays.fill(prefix, 'x');
+        final Random random = new Random(42);
+        final String[] a = new String[100];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new String(prefix) + random.nextInt(1_000);
+        }
+        final String[] expected = a.clone();
+        Arrays.sort(expected);
+
+        Quick3String.sort(a);
+        assertArrayEquals(expected, a);
+    }
+}
@@ -0,0 +1,137 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.Comparator;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Quick}.
+ */
+public class QuickTest extends SortSupportTest {
+    @Test
+    public void canSortSmallArray() {
+        final Integer[] a = new Integer[]{5, 3, 4, 1, 2};
+
+        Quick.sort(a);
+        assertThat(a, arrayContaining(1, 2, 3, 4, 5));
+    }
+
+    @Test
+    public void canSortArrayInsideBounds() {
+        final Integer[] a = new Integer[]{9, 5, 3, 4, 1, 0};
+
+        Quick.sort(a, 1, 4);
+        assertThat(a, arrayContaining(9, 1, 3, 4, 5, 0));
+    }
+
+    @Test
+    public void fallsBackToHeapSortOnAdversarialInput() {
+        final int n = 10_000;
+        final Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = i;
+        }
+        final Adversary adversary = new Adversary(n);
+
+        Quick.sort(a, adversary);
+
+        // without the depth limit the adversary forces about n^2 / 4 comparisons
+        assertThat(adversary.comparisons < 10L * n * 14, is(true));
+        for (int i = 1; i < n; i++) {
+            assertThat(adversary.values[a[i - 1]] <= adversary.values[a[i]], is(true));
+        }
+    }
+
+    @Test
+    public void partitionsEqualKeysInLinearTime() {
+        final Integer[] a = new Integer[10_000];
+        Arrays.fill(a, 5);
+        final long[] comparisons = new long[1];
+
+        Quick.sort(a, (x, y) -> {
+            comparisons[0]++;
+            return x.compareTo(y);
+        });
+
+        // one 3-way partitioning pass and the check of the result when assertions are enabled
+        assertThat(comparisons[0] < 4L * a.length, is(true));
+    }
+
+    @Test
+    public void canSortLargeArrayOfDistinctKeys() {
+        final Integer[] a = randomArray(10_000, Integer.MAX_VALUE);
+        final Integer[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        Quick.sort(a);
+        assertThat(a, is(expected));
+    }
+
+    @Test
+    public void canSortLargeArrayWithManyDuplicates() {
+        final Integer[] a = randomArray(10_000, 3);
+        final Integer[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        Quick.sort(a, new CustomComparator());
+        assertThat(a, is(expected));
+    }
+
+    @Test
+    public void canSortReversedArray() {
+        final Integer[] a = new Integer[10_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = a.length - i;
+        }
+
+        Quick.sort(a);
+        assertThat(SortSupport.sorted(a), is(true));
+    }
+
+    /**
+     * McIlroy's adversary: the items are indexes of values frozen only when they are
+     * compared, so that the item chosen as pivot is always among the smallest ones.
+     */
+    private static class Adversary implements Comparator<Integer> {
+        private final int[] values;
+        private final int gas;
+        private int frozen;
+        private int candidate;
+        private long comparisons;
+
+        Adversary(int n) {
+            values = new int[n];
+            gas = n;
+            Arrays.fill(values, gas);
+        }
+
+        @Override
+        public int compare(Integer x, Integer y) {
+            comparisons++;
+            if (values[x] == gas && values[y] == gas) {
+                values[x == candidate ? x : y] = frozen++;
+            }
+            if (values[x] == gas) {
+                candidate = x;
+            } else if (values[y] == gas) {
+                candidate = y;
+            }
+            return Integer.compare(values[x], values[y]);
+        }
+    }
+
+    private static Integer[] randomArray(int n, int bound) {
+        final Random random = new Random(42);
+        final Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(bound);
+        }
+        return a;
+    }
+}
@@ -0,0 +1,113 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Radix}.
+ */
+public class RadixTest {
+    @Test
+    public void canSortIntArrayWithNegativeKeys() {
+        final int[] a = new int[]{7, -1, 3, Integer.MIN_VALUE, 3, 0, Integer.MAX_VALUE};
+
+        Radix.sort(a);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 3, 3, 7, Integer.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortIntArrayInsideBounds() {
+        final int[] a = new int[]{9, 5, 3, 4, 1, 0};
+
+        Radix.sort(a, 1, 4);
+        assertArrayEquals(new int[]{9, 1, 3, 4, 5, 0}, a);
+    }
+
+    @Test
+    public void canSortIntArrayUsingEveryDigitSize() {
+        final int[] a = new Random(42).ints(10_000).toArray();
+        final int[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        for (int bits : new int[]{8, 11, 16}) {
+            final int[] actual = Arrays.copyOf(a, a.length);
+            Radix.sort(actual, 0, actual.length - 1, bits);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void canSortLongArrayUsingEveryDigitSize() {
+        final long[] a = new Random(42).longs(10_000).toArray();
+        final long[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        for (int bits : new int[]{8, 11, 16}) {
+            final long[] actual = Arrays.copyOf(a, a.length);
+            Radix.sort(actual, 0, actual.length - 1, bits);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void canSortArrayWithConstantKeys() {
+        final long[] a = new long[]{-5, -5, -5, -5};
+
+        Radix.sort(a);
+        assertArrayEquals(new long[]{-5, -5, -5, -5}, a);
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndSignedZeros() {
+        final double[] a = new double[]{Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY, -Double.MIN_VALUE, -2.0};
+
+        Radix.sort(a);
+        assertArrayEquals(new double[]{-2.0, -Double.MIN_VALUE, -0.0, 0.0, Double.POSITIVE_INFINITY, Double.NaN}, a, 0.0);
+    }
+
+    @Test
+    public void canSortFloatArrayLikeArraysSort() {
+        final Random random = new Random(42);
+        final float[] a = new float[10_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i % 100 == 0 ? Float.NaN : (float) random.nextGaussian();
+        }
+        final float[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        Radix.sort(a);
+        assertArrayEquals(expected, a, 0.0f);
+    }
+
+    @Test
+    public void sortByIntIsStable() {
+        final String[] a = new String[]{"bb", "a", "cc", "d", "ee", "f"};
+
+        Radix.sortByInt(a, String::length);
+        assertThat(a, arrayContaining("a", "d", "f", "bb", "cc", "ee"));
+    }
+
+    @Test
+    public void canSortByLongKeyInsideBounds() {
+        final String[] a = new String[]{"x", "ccc", "a", "bb", "y"};
+
+        Radix.sortByLong(a, 1, 3, s -> -s.length());
+        assertThat(a, arrayContaining("x", "ccc", "bb", "a", "y"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenDigitSizeIsNotSupported() {
+        Radix.sort(new int[]{3, 2, 1}, 0, 2, 12);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenKeyExtractorIsNull() {
+        Radix.sortByInt(new String[]{"a"}, null);
+    }
+}
@@ -0,0 +1,105 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link RecordSort}.
+ */
+public class RecordSortTest {
+    private static final int RECORD_SIZE = 12;
+
+    @Test
+    public void canSortByIntKey() {
+        final ByteBuffer buffer = records(ByteBuffer.allocate(5 * RECORD_SIZE), 3, -1, Integer.MIN_VALUE, 7, 0);
+
+        RecordSort.byInt(RECORD_SIZE, 0).sort(buffer);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 3, 7}, keys(buffer));
+    }
+
+    @Test
+    public void canRadixSortByIntKeyInLittleEndianDirectBuffer() {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(5 * RECORD_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        records(buffer, 3, -1, Integer.MIN_VALUE, 7, 0);
+
+        RecordSort.byInt(RECORD_SIZE, 0).radixSort(buffer);
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, -1, 0, 3, 7}, keys(buffer));
+    }
+
+    @Test
+    public void canSortByUnsignedBytes() {
+        final ByteBuffer buffer = records(ByteBuffer.allocate(4 * RECORD_SIZE), 0x80000000, 0x7FFFFFFF, 0xFF, 0);
+
+        RecordSort.byBytes(RECORD_SIZE, 0, 4).sort(buffer);
+        assertArrayEquals(new int[]{0, 0xFF, 0x7FFFFFFF, 0x80000000}, keys(buffer));
+    }
+
+    @Test
+    public void canSortRecordsBetweenPositionAndLimit() {
+        final ByteBuffer buffer = records(ByteBuffer.allocate(4 * RECORD_SIZE), 9, 5, 3, 0);
+        buffer.position(RECORD_SIZE).limit(3 * RECORD_SIZE);
+
+        RecordSort.byInt(RECORD_SIZE, 0).radixSort(buffer);
+        buffer.clear();
+        assertArrayEquals(new int[]{9, 3, 5, 0}, keys(buffer));
+    }
+
+    @Test
+    public void mergeAndRadixSortsAreStable() {
+        final Random random = new Random(42);
+        final int n = 10_000;
+        final int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt(100) - 50;
+        }
+        final ByteBuffer merged = records(ByteBuffer.allocate(n * RECORD_SIZE), keys);
+        final ByteBuffer radix = records(ByteBuffer.allocate(n * RECORD_SIZE), keys);
+
+        RecordSort.byInt(RECORD_SIZE, 0).sort(merged, ByteBuffer.allocate(n * RECORD_SIZE));
+        RecordSort.byInt(RECORD_SIZE, 0).radixSort(radix);
+
+        Arrays.sort(keys);
+        assertArrayEquals(keys, keys(merged));
+        for (int i = 1; i < n; i++) {
+            final int p = (i - 1) * RECORD_SIZE, q = i * RECORD_SIZE;
+            assertThat(merged.getInt(p) < merged.getInt(q) || merged.getLong(p + 4) < merged.getLong(q + 4), is(true));
+        }
+        assertThat(radix, is(merged));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenBufferSizeIsNotMultipleOfRecordSize() {
+        RecordSort.byInt(RECORD_SIZE, 0).sort(ByteBuffer.allocate(RECORD_SIZE + 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenKeyIsOutsideRecord() {
+        RecordSort.byLong(RECORD_SIZE, 5);
+    }
+
+    /**
+     * Writes records of the int key followed by the long sequence number.
+     */
+    private static ByteBuffer records(ByteBuffer buffer, int... keys) {
+        for (int i = 0; i < keys.length; i++) {
+            buffer.putInt(i * RECORD_SIZE, keys[i]).putLong(i * RECORD_SIZE + 4, i);
+        }
+        return buffer;
+    }
+
+    private static int[] keys(ByteBuffer buffer) {
+        final int[] keys = new int[buffer.remaining() / RECORD_SIZE];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = buffer.getInt(buffer.position() + i * RECORD_SIZE);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,85 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link SampleSort}.
+ */
+public class SampleSortTest {
+    @Test
+    public void keepsOrderOfItemsEqualToSplitters() {
+        // every third key is 500, so it is picked as a splitter and gets its own bucket
+        final Integer[] keys = randomArray(100_000, 1_000);
+        final int[][] a = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            a[i] = new int[]{i % 3 == 0 ? 500 : keys[i], i};
+        }
+
+        SampleSort.parallelSort(a, Comparator.comparingInt(e -> e[0]));
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    @Test
+    public void canSortLargeArray() {
+        final Integer[] a = randomArray(300_000, Integer.MAX_VALUE);
+        final Integer[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        SampleSort.parallelSort(a);
+        assertThat(a, is(expected));
+    }
+
+    @Test
+    public void canSortLargeArrayWithFewDistinctKeys() {
+        final Integer[] a = randomArray(300_000, 3);
+        final Integer[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        SampleSort.parallelSort(a);
+        assertThat(a, is(expected));
+    }
+
+    @Test
+    public void canSortLargeArrayInsideBounds() {
+        final Integer[] a = randomArray(300_000, 1_000);
+        final Integer[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected, 10, 290_000, Comparator.reverseOrder());
+
+        SampleSort.parallelSort(a, 10, 289_999, Comparator.reverseOrder());
+        assertThat(a, is(expected));
+    }
+
+    @Test
+    public void parallelSortIsStable() {
+        final Integer[] keys = randomArray(300_000, 1_000);
+        final int[][] a = new int[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            a[i] = new int[]{keys[i], i};
+        }
+
+        SampleSort.parallelSort(a, Comparator.comparingInt(e -> e[0]));
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    private static Integer[] randomArray(int n, int bound) {
+        final Random random = new Random(42);
+        final Integer[] a = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = random.nextInt(bound);
+        }
+        return a;
+    }
+}
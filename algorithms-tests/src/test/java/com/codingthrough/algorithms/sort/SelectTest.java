@@ -0,0 +1,107 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Select}.
+ */
+public class SelectTest extends SortSupportTest {
+    @Test
+    public void canSelectMedian() {
+        final Integer[] a = new Integer[]{5, 1, 4, 2, 3};
+
+        assertThat(Select.select(a, 2), is(3));
+        assertThat(a[2], is(3));
+    }
+
+    @Test
+    public void canSelectEveryRankOfManyEqualKeysUsingComparator() {
+        final Integer[] a = new Integer[]{2, 2, null, 3, 2, null, 3, 3, 2};
+        final Integer[] expected = new Integer[]{null, null, 2, 2, 2, 2, 3, 3, 3};
+
+        for (int k = 0; k < a.length; k++) {
+            assertThat(Select.select(a.clone(), k, new CustomComparator()), is(expected[k]));
+        }
+    }
+
+    @Test
+    public void selectPartitionsLargeArray() {
+        final int[] a = new Random(42).ints(100_000, 0, 1_000).toArray();
+        final int[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        final int k = 12_345;
+        assertThat(Select.select(a, k), is(expected[k]));
+        for (int i = 0; i < k; i++) {
+            assertThat(a[i] <= a[k], is(true));
+        }
+        for (int i = k + 1; i < a.length; i++) {
+            assertThat(a[i] >= a[k], is(true));
+        }
+    }
+
+    @Test
+    public void canSelectInsideBounds() {
+        final double[] a = new double[]{9, 5, 4, 3, 2, 1, 0};
+
+        assertThat(Select.select(a, 1, 5, 2), is(2.0));
+        assertThat(a[0], is(9.0));
+        assertThat(a[6], is(0.0));
+    }
+
+    @Test
+    public void canSortSmallestItems() {
+        final Integer[] a = new Integer[]{7, 3, 9, 1, 8, 2, 6};
+
+        Select.partialSort(a, 3);
+        assertThat(Arrays.copyOf(a, 3), arrayContaining(1, 2, 3));
+    }
+
+    @Test
+    public void canSortSmallestItemsOfLargeArray() {
+        final long[] a = new Random(42).longs(100_000).toArray();
+        final long[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        Select.partialSort(a, 1_000);
+        assertThat(Arrays.copyOf(a, 1_000), is(Arrays.copyOf(expected, 1_000)));
+    }
+
+    @Test
+    public void canTakeSmallestItemsFromIterator() {
+        final List<Integer> items = Arrays.asList(7, 3, 9, 1, 8, 2, 6);
+
+        assertThat(Select.topK(items.iterator(), 3), contains(1, 2, 3));
+        assertThat(Select.topK(items.iterator(), 2, Comparator.<Integer>reverseOrder()), contains(9, 8));
+    }
+
+    @Test
+    public void topKReturnsAllItemsWhenIteratorIsShort() {
+        final List<Integer> items = Arrays.asList(3, 1, 2);
+
+        assertThat(Select.topK(items.iterator(), 10), contains(1, 2, 3));
+        assertThat(Select.topK(Collections.<Integer>emptyIterator(), 10), is(empty()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenRankIsOutsideArray() {
+        Select.select(new int[]{1, 2, 3}, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenNumberOfItemsIsNegative() {
+        Select.topK(Arrays.asList(1, 2).iterator(), -1);
+    }
+}
@@ -0,0 +1,44 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Selection}.
+ */
+public class SelectionTest {
+    @Test
+    public void canSortIntArrayWithDuplicates() {
+        final int[] a = new int[]{3, 3, -7, 0, Integer.MAX_VALUE, -7};
+
+        Selection.sort(a);
+        assertArrayEquals(new int[]{-7, -7, 0, 3, 3, Integer.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndNegativeZero() {
+        final double[] a = new double[]{0.0, Double.NaN, -0.0, 2.0, Double.NaN, -0.0};
+
+        Selection.sort(a);
+        assertThat(a, is(new double[]{-0.0, -0.0, 0.0, 2.0, Double.NaN, Double.NaN}));
+    }
+
+    @Test
+    public void canSortByteArray() {
+        final byte[] a = new byte[]{1, Byte.MIN_VALUE, Byte.MAX_VALUE, 0, -1};
+
+        Selection.sort(a);
+        assertArrayEquals(new byte[]{Byte.MIN_VALUE, -1, 0, 1, Byte.MAX_VALUE}, a);
+    }
+
+    @Test
+    public void canSortShortArrayInsideBounds() {
+        final short[] a = new short[]{4, Short.MAX_VALUE, -9, Short.MIN_VALUE, 4, 1};
+
+        Selection.sort(a, 1, 4);
+        assertArrayEquals(new short[]{4, Short.MIN_VALUE, -9, 4, Short.MAX_VALUE, 1}, a);
+    }
+}
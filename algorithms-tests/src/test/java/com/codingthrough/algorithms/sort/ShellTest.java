@@ -0,0 +1,109 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Shell}.
+ */
+public class ShellTest extends SortSupportTest {
+    @Test
+    public void canSortArrayInsideBounds() {
+        final Integer[] a = new Integer[]{9, 5, 3, 4, 1, 0};
+
+        Shell.sort(a, 1, 4);
+        assertThat(a, arrayContaining(9, 1, 3, 4, 5, 0));
+    }
+
+    @Test
+    public void canSortArraysShorterThanSecondGapUsingComparator() {
+        for (GapSequence gaps : GapSequence.values()) {
+            final Integer[] a = new Integer[]{2, null, 1};
+
+            Shell.sort(a, new CustomComparator(), gaps);
+            assertThat(a, arrayContaining(null, 1, 2));
+        }
+    }
+
+    @Test
+    public void canSortUsingEveryGapSequence() {
+        final Random random = new Random(42);
+        final int[] a = new int[10_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt();
+        }
+        final int[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        for (GapSequence gaps : GapSequence.values()) {
+            final int[] actual = Arrays.copyOf(a, a.length);
+            Shell.sort(actual, gaps);
+            assertArrayEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void canSortLongArrayInsideBounds() {
+        final long[] a = new long[]{9, 5, Long.MIN_VALUE, 4, Long.MAX_VALUE, 0};
+
+        Shell.sort(a, 1, 4, GapSequence.PRATT);
+        assertArrayEquals(new long[]{9, Long.MIN_VALUE, 4, 5, Long.MAX_VALUE, 0}, a);
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndNegativeZeroUsingEveryGapSequence() {
+        final double[] values = new double[]{Double.NaN, -0.0, 0.0, Double.MIN_VALUE, -2.5, Double.POSITIVE_INFINITY};
+        final Random random = new Random(42);
+        final double[] a = new double[1_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = values[random.nextInt(values.length)];
+        }
+        final double[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        for (GapSequence gaps : GapSequence.values()) {
+            final double[] actual = Arrays.copyOf(a, a.length);
+            Shell.sort(actual, gaps);
+            assertThat(actual, is(expected));
+        }
+    }
+
+    @Test
+    public void canSortByteArray() {
+        final byte[] a = new byte[2_000];
+        new Random(42).nextBytes(a);
+        final byte[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        Shell.sort(a);
+        assertArrayEquals(expected, a);
+    }
+
+    @Test
+    public void canSortCharArrayInsideBounds() {
+        final char[] a = new char[]{'x', 'c', Character.MAX_VALUE, 'a', 'b', 'x'};
+
+        Shell.sort(a, 1, 4);
+        assertArrayEquals(new char[]{'x', 'a', 'b', 'c', Character.MAX_VALUE, 'x'}, a);
+    }
+
+    @Test
+    public void gapsEndWithOneAndAreSmallerThanNumberOfItems() {
+        assertArrayEquals(new int[]{23, 10, 4, 1}, GapSequence.CIURA.gaps(30));
+        assertArrayEquals(new int[]{13, 4, 1}, GapSequence.KNUTH.gaps(30));
+        assertArrayEquals(new int[]{1}, GapSequence.SEDGEWICK.gaps(1));
+        assertThat(GapSequence.PRATT.gaps(10)[0], is(9));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenGapSequenceIsNull() {
+        Shell.sort(new int[]{2, 1}, null);
+    }
+}
@@ -0,0 +1,67 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link SortContext}.
+ */
+public class SortContextTest extends SortSupportTest {
+    @Test
+    public void reusesBufferForSmallerRanges() {
+        final SortContext ctx = new SortContext();
+        final int[] aux = ctx.aux(new int[0], 100);
+
+        assertThat(ctx.aux(new int[0], 50), sameInstance(aux));
+        assertThat(ctx.aux(new int[0], 100), sameInstance(aux));
+    }
+
+    @Test
+    public void reallocatesObjectBufferWhenTypeChanges() {
+        final SortContext ctx = new SortContext();
+        ctx.aux(new Integer[0], 10);
+
+        final String[] aux = ctx.aux(new String[0], 10);
+        assertThat(aux.getClass() == String[].class, is(true));
+    }
+
+    @Test
+    public void canSortArraysOfDifferentSizesUsingTheSameContext() {
+        final SortContext ctx = new SortContext();
+        final Random random = new Random(42);
+        for (int n : new int[]{1000, 10, 5000, 17}) {
+            final int[] a = random.ints(n, 0, 100).toArray();
+            final int[] expected = Arrays.copyOf(a, n);
+            Arrays.sort(expected);
+
+            final int[] b = Arrays.copyOf(a, n);
+            final int[] c = Arrays.copyOf(a, n);
+            Merge.sort(a, ctx);
+            MergeBU.sort(b, ctx);
+            MergeX.sort(c, ctx);
+            assertThat(a, is(expected));
+            assertThat(b, is(expected));
+            assertThat(c, is(expected));
+        }
+    }
+
+    @Test
+    public void canSortArrayInsideBoundsUsingContext() {
+        final Integer[] a = new Integer[]{9, 5, 4, 3, 2, 1, 0};
+
+        MergeX.sort(a, 1, 5, new CustomComparator(), new SortContext());
+        assertThat(a, arrayContaining(9, 1, 2, 3, 4, 5, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenContextIsNull() {
+        Merge.sort(new int[]{2, 1}, null);
+    }
+}
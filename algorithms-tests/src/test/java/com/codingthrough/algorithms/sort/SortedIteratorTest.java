@@ -0,0 +1,101 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Unit tests for {@link SortedIterator}.
+ */
+public class SortedIteratorTest extends SortSupportTest {
+    @Test
+    public void returnsSmallestElementsWithoutSortingWholeArray() {
+        final List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            items.add(i);
+        }
+        Collections.shuffle(items, new Random(42));
+        final Integer[] a = items.toArray(new Integer[0]);
+        final long[] comparisons = new long[1];
+
+        final SortedIterator<Integer> iterator = new SortedIterator<>(a, (x, y) -> {
+            comparisons[0]++;
+            return x.compareTo(y);
+        });
+        for (int i = 0; i < 10; i++) {
+            assertThat(iterator.next(), is(i));
+        }
+
+        // sorting the whole array takes at least log2(n!), about 16n comparisons
+        assertThat(comparisons[0] < 8L * a.length, is(true));
+        assertThat(Arrays.copyOf(a, 10), arrayContaining(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    public void returnsEqualElementsInLinearTime() {
+        final Integer[] a = new Integer[10_000];
+        Arrays.fill(a, 3);
+        a[a.length / 2] = null;
+        final Comparator<Integer> c = new CustomComparator();
+        final long[] comparisons = new long[1];
+        final SortedIterator<Integer> iterator = new SortedIterator<>(a, (x, y) -> {
+            comparisons[0]++;
+            return c.compare(x, y);
+        });
+
+        assertThat(iterator.next(), is((Integer) null));
+        int count = 1;
+        while (iterator.hasNext()) {
+            assertThat(iterator.next(), is(3));
+            count++;
+        }
+        assertThat(count, is(a.length));
+        assertThat(comparisons[0] < 3L * a.length, is(true));
+    }
+
+    @Test
+    public void returnsElementsInsideBounds() {
+        final Integer[] a = new Integer[]{9, 5, 4, 3, 2, 1, 0};
+        final SortedIterator<Integer> iterator = SortedIterator.naturalOrder(a, 1, 5);
+
+        for (int i = 1; i <= 5; i++) {
+            assertThat(iterator.next(), is(i));
+        }
+        assertThat(iterator.hasNext(), is(false));
+        assertThat(a, arrayContaining(9, 1, 2, 3, 4, 5, 0));
+    }
+
+    @Test
+    public void shouldNotHaveNextForEmptyArray() {
+        final SortedIterator<Integer> iterator = SortedIterator.naturalOrder(new Integer[0]);
+
+        assertThat(iterator.hasNext(), is(false));
+        try {
+            iterator.next();
+            fail("Should throw when call next for empty array.");
+        } catch (NoSuchElementException e) {
+            // ok, it's expected exception
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenCreateWithNullArray() {
+        SortedIterator.naturalOrder((Integer[]) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenBoundsAreOutsideArray() {
+        SortedIterator.naturalOrder(new Integer[]{1, 2}, 0, 2);
+    }
+}
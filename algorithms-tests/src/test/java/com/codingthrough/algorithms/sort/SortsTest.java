@@ -0,0 +1,156 @@
+package com.codingthrough.algorithms.sort;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for {@link Sorts}.
+ */
+public class SortsTest extends SortSupportTest {
+    @Test
+    public void sortsSmallArrayByInsertion() {
+        final Integer[] a = new Integer[]{4, null, 4, -1, 0};
+
+        assertThat(Sorts.sort(a, new CustomComparator()), is(Sorts.Strategy.INSERTION));
+        assertThat(a, arrayContaining(null, -1, 0, 4, 4));
+    }
+
+    @Test
+    public void detectsSortedArray() {
+        final int[] a = new int[1_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i;
+        }
+
+        assertThat(Sorts.sort(a), is(Sorts.Strategy.ALREADY_SORTED));
+    }
+
+    @Test
+    public void reversesDescendingArray() {
+        final long[] a = new long[1_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = a.length - i;
+        }
+
+        assertThat(Sorts.sort(a), is(Sorts.Strategy.REVERSED));
+        assertThat(SortSupport.sorted(a), is(true));
+    }
+
+    @Test
+    public void mergesNaturalRunsOfNearlySortedObjects() {
+        final Integer[] a = new Integer[10_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i;
+        }
+        a[10] = -1;
+        a[5_000] = -2;
+
+        assertThat(Sorts.sort(a), is(Sorts.Strategy.NATURAL_MERGE));
+        assertThat(SortSupport.sorted(a), is(true));
+    }
+
+    @Test
+    public void sortsRandomIntsByRadixAndFewDistinctIntsByCounting() {
+        final Random random = new Random(42);
+        final int[] a = new int[100_000];
+        final int[] b = new int[100_000];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt();
+            b[i] = random.nextInt(100);
+        }
+        final int[] expectedA = Arrays.copyOf(a, a.length);
+        final int[] expectedB = Arrays.copyOf(b, b.length);
+        Arrays.sort(expectedA);
+        Arrays.sort(expectedB);
+
+        assertThat(Sorts.sort(a), is(Sorts.Strategy.RADIX));
+        assertThat(Sorts.sort(b), is(Sorts.Strategy.COUNTING));
+        assertArrayEquals(expectedA, a);
+        assertArrayEquals(expectedB, b);
+    }
+
+    @Test
+    public void objectSortIsStable() {
+        final Random random = new Random(42);
+        final int[][] a = new int[100_000][];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new int[]{random.nextInt(100), i};
+        }
+
+        Sorts.sort(a, Comparator.comparingInt(e -> e[0]));
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    @Test
+    public void canSortDoubleArrayWithNaNAndSignedZeros() {
+        final double[] a = new double[]{Double.NaN, 0.0, -0.0, 1.5, -2.0};
+
+        Sorts.sort(a);
+        assertArrayEquals(new double[]{-2.0, -0.0, 0.0, 1.5, Double.NaN}, a, 0.0);
+    }
+
+    @Test
+    public void sortsRandomDoublesByRadix() {
+        final double[] a = new Random(42).doubles(10_000).toArray();
+        final double[] expected = Arrays.copyOf(a, a.length);
+        Arrays.sort(expected);
+
+        assertThat(Sorts.sort(a), is(Sorts.Strategy.RADIX));
+        assertArrayEquals(expected, a, 0.0);
+    }
+
+    @Test
+    public void sortsObjectsByIntKeyStably() {
+        final Random random = new Random(42);
+        final int[][] a = new int[100_000][];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = new int[]{random.nextInt(100) - 50, i};
+        }
+
+        assertThat(Sorts.sortByInt(a, e -> e[0]), is(Sorts.Strategy.RADIX));
+
+        for (int i = 1; i < a.length; i++) {
+            assertThat(a[i - 1][0] < a[i][0] || a[i - 1][1] < a[i][1], is(true));
+        }
+    }
+
+    @Test
+    public void sortsObjectsByLongKeyInsideBounds() {
+        final String[] a = new String[]{"dddd", "ccc", "bb", "aaaa", "a", "z"};
+
+        assertThat(Sorts.sortByLong(a, 1, 4, s -> -(long) s.length()), is(Sorts.Strategy.INSERTION));
+        assertThat(a, arrayContaining("dddd", "aaaa", "ccc", "bb", "a", "z"));
+    }
+
+    @Test
+    public void sortsObjectsByDoubleKeyWithNaNAndSignedZeros() {
+        final Double[] a = new Double[]{Double.NaN, 0.0, -0.0, 1.5, -2.0, Double.NEGATIVE_INFINITY};
+
+        Sorts.sortByDouble(a, Double::doubleValue);
+        assertThat(a, arrayContaining(Double.NEGATIVE_INFINITY, -2.0, -0.0, 0.0, 1.5, Double.NaN));
+    }
+
+    @Test
+    public void keepsObjectsSortedByKey() {
+        final Integer[] a = new Integer[]{5, 4, 3, 2, 1};
+
+        assertThat(Sorts.sortByInt(a, i -> -i), is(Sorts.Strategy.ALREADY_SORTED));
+        assertThat(a, arrayContaining(5, 4, 3, 2, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsWhenKeyExtractorIsNull() {
+        Sorts.sortByInt(new Integer[]{1, 2}, null);
+    }
+}
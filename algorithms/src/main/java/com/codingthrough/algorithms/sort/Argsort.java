@@ -0,0 +1,262 @@
+package com.codingthrough.algorithms.sort;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Array;
+import java.util.Comparator;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+import static com.codingthrough.algorithms.Preconditions.requireTrue;
+
+/**
+ * The <tt>Argsort</tt> provides a number of static methods to compute the permutation
+ * sorting an array without moving its items, and to apply a permutation to arrays in place.
+ * <p>
+ * The permutation p lists the indexes of the items in ascending order, so a[p[0]] is the
+ * smallest item and a[p[i]] <= a[p[i+1]]. Equal items keep the order of their indexes.
+ * Object arrays are ordered by bottom-up merge sort of the indexes, primitive arrays by
+ * {@link Radix} sort of copies of the keys moving the indexes along with them.
+ * </p>
+ * <p>
+ * {@link #applyPermutation(int[], Object, Object...)} reorders any number of parallel arrays
+ * in a single pass over the cycles of the permutation, moving every item by swaps without
+ * copies of the arrays. The visited cycles are marked in the permutation itself, which is
+ * restored before the method returns.
+ * </p>
+ */
+public class Argsort extends SortSupport {
+    /**
+     * Blocks of this size are sorted by insertion sort before merging.
+     */
+    private static final int BLOCK_SIZE = 16;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private Argsort() {
+    }
+
+    /**
+     * Returns the permutation sorting the array in the natural order.
+     *
+     * @param a the array to be ordered
+     * @return the indexes of the items in ascending order
+     * @throws IllegalArgumentException if the array is {@code null}
+     */
+    public static <T extends Comparable<T>> int[] argsort(@Nonnull T[] a) {
+        return argsort(a, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Returns the permutation sorting the array in the order of the comparator.
+     *
+     * @param a the array to be ordered
+     * @param c the comparator specifying the order
+     * @return the indexes of the items in ascending order
+     * @throws IllegalArgumentException if the array or the comparator is {@code null}
+     */
+    public static <T> int[] argsort(@Nonnull T[] a, @Nonnull Comparator<T> c) {
+        ensureNotNull(a, "Array [a] should not be null.");
+        ensureNotNull(c, "Comparator [c] should not be null.");
+
+        int n = a.length;
+        int[] index = identity(n);
+        for (int lo = 0; lo < n; lo += BLOCK_SIZE) {
+            int hi = Math.min(lo + BLOCK_SIZE, n);
+            for (int i = lo + 1; i < hi; i++) {
+                int v = index[i];
+                int j = i;
+                for (; j > lo && less(a[v], a[index[j - 1]], c); j--) {
+                    index[j] = index[j - 1];
+                }
+                index[j] = v;
+            }
+        }
+
+        int[] from = index, to = new int[n];
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * sz) {
+                merge(a, from, to, lo, Math.min(lo + sz, n), Math.min(lo + 2 * sz, n), c);
+            }
+            int[] t = from;
+            from = to;
+            to = t;
+        }
+
+        return from;
+    }
+
+    /**
+     * Returns the permutation sorting the array in ascending numerical order.
+     *
+     * @param a the array to be ordered
+     * @return the indexes of the items in ascending order
+     * @throws IllegalArgumentException if the array is {@code null}
+     */
+    public static int[] argsort(@Nonnull int[] a) {
+        ensureNotNull(a, "Array [a] should not be null.");
+
+        int[] index = identity(a.length);
+        Radix.sort(a.clone(), index);
+        return index;
+    }
+
+    /**
+     * Returns the permutation sorting the array in ascending numerical order.
+     *
+     * @param a the array to be ordered
+     * @return the indexes of the items in ascending order
+     * @throws IllegalArgumentException if the array is {@code null}
+     */
+    public static int[] argsort(@Nonnull long[] a) {
+        ensureNotNull(a, "Array [a] should not be null.");
+
+        int[] index = identity(a.length);
+        Radix.sort(a.clone(), index);
+        return index;
+    }
+
+    /**
+     * Returns the permutation sorting the array in ascending numerical order,
+     * as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be ordered
+     * @return the indexes of the items in ascending order
+     * @throws IllegalArgumentException if the array is {@code null}
+     */
+    public static int[] argsort(@Nonnull double[] a) {
+        ensureNotNull(a, "Array [a] should not be null.");
+
+        long[] keys = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            keys[i] = Radix.sortableBits(a[i]);
+        }
+
+        int[] index = identity(a.length);
+        Radix.sort(keys, index);
+        return index;
+    }
+
+    /**
+     * Reorders the arrays in place so that the i-th item of every array becomes
+     * its perm[i]-th item before the call. An array sorted by {@link #argsort} becomes
+     * sorted. The arrays can be object arrays or arrays of any primitive type.
+     *
+     * @param perm    the permutation of the indexes of the arrays
+     * @param column  the array to be reordered
+     * @param columns more arrays to be reordered
+     * @throws IllegalArgumentException if any argument is {@code null} or not an array, the arrays
+     *                                  differ in length from the permutation, or it is not a permutation
+     */
+    public static void applyPermutation(@Nonnull int[] perm, @Nonnull Object column, @Nonnull Object... columns) {
+        ensureNotNull(perm, "Permutation [perm] should not be null.");
+        ensureNotNull(columns, "Arrays [columns] should not be null.");
+
+        int n = perm.length;
+        Object[] arrays = new Object[columns.length + 1];
+        arrays[0] = column;
+        System.arraycopy(columns, 0, arrays, 1, columns.length);
+        for (int k = 0; k < arrays.length; k++) {
+            ensureNotNull(arrays[k], "Array %d should not be null.", k);
+            requireTrue(arrays[k].getClass().isArray(), "Argument %d should be an array.", k);
+            requireTrue(Array.getLength(arrays[k]) == n,
+                    "Array %d should have the length of the permutation %d.", k, n);
+        }
+
+        // mark every index as a target, a duplicate target means it is not a permutation
+        for (int i = 0; i < n; i++) {
+            requireTrue(perm[i] >= 0 && perm[i] < n, "Permutation item %d should be between 0 and %d.", i, n - 1);
+        }
+        for (int i = 0; i < n; i++) {
+            int k = perm[i] < 0 ? ~perm[i] : perm[i];
+            if (perm[k] < 0) {
+                for (int j = 0; j < n; j++) {
+                    perm[j] = perm[j] < 0 ? ~perm[j] : perm[j];
+                }
+                throw new IllegalArgumentException("Index " + k + " should occur in the permutation only once.");
+            }
+            perm[k] = ~perm[k];
+        }
+
+        // follow every cycle once, restoring the marked items
+        for (int i = 0; i < n; i++) {
+            if (perm[i] >= 0) {
+                continue;
+            }
+
+            int j = i;
+            for (int k = ~perm[j]; ; k = ~perm[j]) {
+                perm[j] = k;
+                if (k == i) {
+                    break;
+                }
+                for (Object array : arrays) {
+                    swap(array, j, k);
+                }
+                j = k;
+            }
+        }
+    }
+
+    /**
+     * Merges index[lo .. mid-1] with index[mid .. hi-1] of {@param from} into {@param to}
+     * in the order of the items they point to.
+     */
+    private static <T> void merge(T[] a, int[] from, int[] to, int lo, int mid, int hi, Comparator<T> c) {
+        int i = lo, j = mid;
+        if (mid == hi || !less(a[from[mid]], a[from[mid - 1]], c)) {
+            System.arraycopy(from, lo, to, lo, hi - lo);
+            return;
+        }
+
+        for (int k = lo; k < hi; k++) {
+            if (i >= mid) {
+                to[k] = from[j++];
+            } else if (j >= hi) {
+                to[k] = from[i++];
+            } else if (less(a[from[j]], a[from[i]], c)) {
+                to[k] = from[j++];
+            } else {
+                to[k] = from[i++];
+            }
+        }
+    }
+
+    /**
+     * @return the identity permutation of {@param n} indexes.
+     */
+    private static int[] identity(int n) {
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+        return index;
+    }
+
+    /**
+     * Exchanges the i-th and the j-th items of the array of any type.
+     */
+    private static void swap(Object array, int i, int j) {
+        if (array instanceof Object[]) {
+            swap((Object[]) array, i, j);
+        } else if (array instanceof int[]) {
+            swap((int[]) array, i, j);
+        } else if (array instanceof long[]) {
+            swap((long[]) array, i, j);
+        } else if (array instanceof double[]) {
+            swap((double[]) array, i, j);
+        } else if (array instanceof float[]) {
+            swap((float[]) array, i, j);
+        } else if (array instanceof short[]) {
+            swap((short[]) array, i, j);
+        } else if (array instanceof char[]) {
+            swap((char[]) array, i, j);
+        } else if (array instanceof byte[]) {
+            swap((byte[]) array, i, j);
+        } else {
+            boolean[] a = (boolean[]) array;
+            boolean t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+}
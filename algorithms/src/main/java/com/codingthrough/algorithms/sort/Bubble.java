@@ -88,4 +88,249 @@ public class Bubble extends SortSupport {
 
         assert sorted(a, lo, hi, c);
     }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int k = 0;
+        boolean sorted = false;
+        while (!sorted) {
+            sorted = true;
+            for (int i = lo; i < hi - k; i++) {
+                if (less(a[i + 1], a[i])) {
+                    swap(a, i + 1, i);
+                    sorted = false;
+                }
+            }
+            k++;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int k = 0;
+        boolean sorted = false;
+        while (!sorted) {
+            sorted = true;
+            for (int i = lo; i < hi - k; i++) {
+                if (less(a[i + 1], a[i])) {
+                    swap(a, i + 1, i);
+                    sorted = false;
+                }
+            }
+            k++;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int k = 0;
+        boolean sorted = false;
+        while (!sorted) {
+            sorted = true;
+            for (int i = lo; i < hi - k; i++) {
+                if (less(a[i + 1], a[i])) {
+                    swap(a, i + 1, i);
+                    sorted = false;
+                }
+            }
+            k++;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(float[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int k = 0;
+        boolean sorted = false;
+        while (!sorted) {
+            sorted = true;
+            for (int i = lo; i < hi - k; i++) {
+                if (less(a[i + 1], a[i])) {
+                    swap(a, i + 1, i);
+                    sorted = false;
+                }
+            }
+            k++;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(short[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int k = 0;
+        boolean sorted = false;
+        while (!sorted) {
+            sorted = true;
+            for (int i = lo; i < hi - k; i++) {
+                if (less(a[i + 1], a[i])) {
+                    swap(a, i + 1, i);
+                    sorted = false;
+                }
+            }
+            k++;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(char[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int k = 0;
+        boolean sorted = false;
+        while (!sorted) {
+            sorted = true;
+            for (int i = lo; i < hi - k; i++) {
+                if (less(a[i + 1], a[i])) {
+                    swap(a, i + 1, i);
+                    sorted = false;
+                }
+            }
+            k++;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int k = 0;
+        boolean sorted = false;
+        while (!sorted) {
+            sorted = true;
+            for (int i = lo; i < hi - k; i++) {
+                if (less(a[i + 1], a[i])) {
+                    swap(a, i + 1, i);
+                    sorted = false;
+                }
+            }
+            k++;
+        }
+
+        assert sorted(a, lo, hi);
+    }
 }
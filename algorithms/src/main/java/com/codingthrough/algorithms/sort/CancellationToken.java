@@ -0,0 +1,42 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The <tt>CancellationToken</tt> tells a cancellable sort whether to stop,
+ * see {@link MergeBU#sort(Comparable[], CancellationToken, SortProgress)}.
+ * <p>
+ * The token is polled by the thread running the sort, so it should be cheap to check
+ * and safe to read from that thread, for example backed by a volatile flag.
+ * </p>
+ */
+@FunctionalInterface
+public interface CancellationToken {
+    /**
+     * Returns whether the sort should stop.
+     *
+     * @return {@code true} if the sort should be cancelled
+     */
+    boolean isCancelled();
+
+    /**
+     * Returns the token that is never cancelled.
+     *
+     * @return the token that is never cancelled
+     */
+    static CancellationToken never() {
+        return () -> false;
+    }
+
+    /**
+     * Returns the token cancelled once the timeout elapses, counting from now.
+     *
+     * @param timeout the time to wait before the token is cancelled
+     * @param unit    the time unit of the timeout
+     * @return the token cancelled after the timeout
+     */
+    static CancellationToken deadline(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        return () -> System.nanoTime() - deadline >= 0;
+    }
+}
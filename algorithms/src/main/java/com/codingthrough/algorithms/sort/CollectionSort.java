@@ -0,0 +1,266 @@
+package com.codingthrough.algorithms.sort;
+
+import com.codingthrough.algorithms.adt.bag.Bag;
+import com.codingthrough.algorithms.adt.stack.Stack;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+
+/**
+ * The <tt>CollectionSort</tt> provides a number of static methods to sort collections
+ * without copying them to an array and back.
+ * <p>
+ * A {@link List} implementing {@link RandomAccess} is sorted in place through {@link List#get(int)}
+ * and {@link List#set(int, Object)} by the same algorithm as {@link MergeInPlace}: blocks of 20 items
+ * are sorted by insertion sort and merged bottom-up through a buffer of sqrt(n) items, parts larger
+ * than the buffer are merged by the SymMerge algorithm. The sort takes sqrt(n) extra references
+ * instead of the n of a copy, at the cost of calling the list for every access. Only a list without
+ * random access, where every positional access would walk the list, is copied once to an array,
+ * sorted by {@link MergeInPlace} and written back through a single {@link ListIterator}.
+ * Both sorts are stable.
+ * </p>
+ * <p>
+ * The items of a {@link Bag} or a {@link Stack} are copied by {@code toArray(T[])} into an array of
+ * the requested type, which for an {@link com.codingthrough.algorithms.adt.bag.ArrayBag} is a single
+ * copy of its backing array, and sorted in place by {@link Sorts}.
+ * </p>
+ */
+public class CollectionSort extends SortSupport {
+    /**
+     * Blocks of this size are sorted by insertion sort before merging.
+     */
+    private static final int BLOCK_SIZE = 20;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private CollectionSort() {
+    }
+
+    /**
+     * Rearranges the list in ascending order using the natural order.
+     *
+     * @param list the list to be sorted
+     * @throws IllegalArgumentException      if the list is {@code null}
+     * @throws UnsupportedOperationException if the list does not support setting its items
+     */
+    public static <T extends Comparable<T>> void sort(@Nonnull List<T> list) {
+        sort(list, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Rearranges the list in ascending order using the comparator.
+     *
+     * @param list the list to be sorted
+     * @param c    the comparator specifying the order
+     * @throws IllegalArgumentException      if the list is {@code null}
+     * @throws UnsupportedOperationException if the list does not support setting its items
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sort(@Nonnull List<T> list, Comparator<T> c) {
+        ensureNotNull(list, "List [list] should not be null.");
+
+        int n = list.size();
+        if (n < 2) {
+            return;
+        }
+
+        if (!(list instanceof RandomAccess)) {
+            T[] a = (T[]) list.toArray();
+            MergeInPlace.sort(a, c);
+
+            ListIterator<T> it = list.listIterator();
+            for (T item : a) {
+                it.next();
+                it.set(item);
+            }
+            return;
+        }
+
+        for (int i = 0; i < n; i += BLOCK_SIZE) {
+            insertionSort(list, i, Math.min(i + BLOCK_SIZE, n), c);
+        }
+
+        Object[] buf = new Object[MergeInPlace.bufferSize(n)];
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int i = 0; i < n - sz; i += 2 * sz) {
+                merge(list, buf, i, i + sz, Math.min(i + 2 * sz, n), c);
+            }
+        }
+    }
+
+    /**
+     * Returns the items of the bag in ascending order using the natural order.
+     *
+     * @param bag the bag of items to be sorted
+     * @param a   the array into which the items are stored if it is big enough,
+     *            otherwise a new array of the same runtime type is allocated
+     * @return the array holding the sorted items of the bag at its beginning
+     * @throws IllegalArgumentException if the bag or the array is {@code null}
+     */
+    public static <T extends Comparable<T>> T[] sortedArray(@Nonnull Bag<T> bag, @Nonnull T[] a) {
+        return sortedArray(bag, a, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Returns the items of the bag in ascending order using the comparator.
+     *
+     * @param bag the bag of items to be sorted
+     * @param a   the array into which the items are stored if it is big enough,
+     *            otherwise a new array of the same runtime type is allocated
+     * @param c   the comparator specifying the order
+     * @return the array holding the sorted items of the bag at its beginning
+     * @throws IllegalArgumentException if the bag or the array is {@code null}
+     */
+    public static <T> T[] sortedArray(@Nonnull Bag<T> bag, @Nonnull T[] a, Comparator<T> c) {
+        ensureNotNull(bag, "Bag [bag] should not be null.");
+        ensureNotNull(a, "Array [a] should not be null.");
+
+        return sorted(bag.toArray(a), bag.size(), c);
+    }
+
+    /**
+     * Returns the items of the stack in ascending order using the natural order.
+     *
+     * @param stack the stack of items to be sorted
+     * @param a     the array into which the items are stored if it is big enough,
+     *              otherwise a new array of the same runtime type is allocated
+     * @return the array holding the sorted items of the stack at its beginning
+     * @throws IllegalArgumentException if the stack or the array is {@code null}
+     */
+    public static <T extends Comparable<T>> T[] sortedArray(@Nonnull Stack<T> stack, @Nonnull T[] a) {
+        return sortedArray(stack, a, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Returns the items of the stack in ascending order using the comparator.
+     *
+     * @param stack the stack of items to be sorted
+     * @param a     the array into which the items are stored if it is big enough,
+     *              otherwise a new array of the same runtime type is allocated
+     * @param c     the comparator specifying the order
+     * @return the array holding the sorted items of the stack at its beginning
+     * @throws IllegalArgumentException if the stack or the array is {@code null}
+     */
+    public static <T> T[] sortedArray(@Nonnull Stack<T> stack, @Nonnull T[] a, Comparator<T> c) {
+        ensureNotNull(stack, "Stack [stack] should not be null.");
+        ensureNotNull(a, "Array [a] should not be null.");
+
+        return sorted(stack.toArray(a), stack.size(), c);
+    }
+
+    /**
+     * @return the array with its first {@param n} items sorted.
+     */
+    private static <T> T[] sorted(T[] a, int n, Comparator<T> c) {
+        if (n > 1) {
+            Sorts.sort(a, 0, n - 1, c);
+        }
+        return a;
+    }
+
+    /**
+     * Rearranges list[lo .. hi-1] in ascending order using insertion sort.
+     */
+    private static <T> void insertionSort(List<T> list, int lo, int hi, Comparator<T> c) {
+        for (int i = lo + 1; i < hi; i++) {
+            T item = list.get(i);
+            int j = i;
+            for (; j > lo && less(item, list.get(j - 1), c); j--) {
+                list.set(j, list.get(j - 1));
+            }
+            if (j != i) {
+                list.set(j, item);
+            }
+        }
+    }
+
+    /**
+     * Merges list[lo .. mid-1] with list[mid .. hi-1] in place, see {@link MergeInPlace}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void merge(List<T> list, Object[] buf, int lo, int mid, int hi, Comparator<T> c) {
+        if (!less(list.get(mid), list.get(mid - 1), c)) {
+            return;
+        }
+
+        if (mid - lo <= buf.length) {
+            for (int i = lo; i < mid; i++) {
+                buf[i - lo] = list.get(i);
+            }
+            int i = 0, j = mid, k = lo, n = mid - lo;
+            while (i < n && j < hi) {
+                T right = list.get(j);
+                if (less(right, (T) buf[i], c)) {
+                    list.set(k++, right);
+                    j++;
+                } else {
+                    list.set(k++, (T) buf[i++]);
+                }
+            }
+            while (i < n) {
+                list.set(k++, (T) buf[i++]);
+            }
+            return;
+        }
+
+        if (hi - mid <= buf.length) {
+            for (int j = mid; j < hi; j++) {
+                buf[j - mid] = list.get(j);
+            }
+            int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+            while (i >= lo && j >= 0) {
+                T left = list.get(i);
+                if (less((T) buf[j], left, c)) {
+                    list.set(k--, left);
+                    i--;
+                } else {
+                    list.set(k--, (T) buf[j--]);
+                }
+            }
+            while (j >= 0) {
+                list.set(k--, (T) buf[j--]);
+            }
+            return;
+        }
+
+        // find the split of list[lo .. hi-1] around its middle m so that moving list[start .. mid-1]
+        // after list[mid .. end-1] keeps every item of the left pieces not greater than the right ones
+        int m = (lo + hi) >>> 1;
+        int n = m + mid;
+        int start, r;
+        if (mid > m) {
+            start = n - hi;
+            r = m;
+        } else {
+            start = lo;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int h = (start + r) >>> 1;
+            if (!less(list.get(p - h), list.get(h), c)) {
+                start = h + 1;
+            } else {
+                r = h;
+            }
+        }
+
+        int end = n - start;
+        if (start < mid && mid < end) {
+            Collections.rotate(list.subList(start, end), end - mid);
+        }
+        if (lo < start && start < m) {
+            merge(list, buf, lo, start, m, c);
+        }
+        if (m < end && end < hi) {
+            merge(list, buf, m, end, hi, c);
+        }
+    }
+}
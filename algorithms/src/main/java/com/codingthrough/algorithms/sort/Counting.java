@@ -0,0 +1,248 @@
+package com.codingthrough.algorithms.sort;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+import static com.codingthrough.algorithms.Preconditions.requireTrue;
+
+/**
+ * The <tt>Counting</tt> provides a number of static methods to sort an array of keys
+ * from a small range using counting sort algorithm.
+ * <p>
+ * A single pass over the input counts the occurrences of every key of the range, then
+ * primitive keys are written back in ascending order as runs of their counts. Objects are
+ * sorted by an extracted <tt>int</tt> key: the prefix sums of the counts give the first
+ * position of every key and items are moved to their positions in the input order, so
+ * the sort is stable. Every key is extracted exactly once. The sort takes O(n + k) time
+ * for k keys in the range and O(k) extra memory, O(n + k) for objects.
+ * </p>
+ * <p>
+ * <tt>byte</tt>, <tt>short</tt> and <tt>char</tt> arrays are sorted over the whole range of their
+ * type, <tt>int</tt> keys need a range of at most 2^24 keys.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Counting_sort">Wikipedia article - Counting Sort</a>.
+ * </p>
+ */
+public class Counting extends SortSupport {
+    /**
+     * The maximum number of keys in the range of <tt>int</tt> keys.
+     */
+    private static final int MAX_RANGE = 1 << 24;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private Counting() {
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int[] count = new int[1 << Byte.SIZE];
+        for (int i = lo; i <= hi; i++) {
+            count[a[i] - Byte.MIN_VALUE]++;
+        }
+
+        for (int r = 0, i = lo; r < count.length; r++) {
+            Arrays.fill(a, i, i + count[r], (byte) (r + Byte.MIN_VALUE));
+            i += count[r];
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(short[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int[] count = new int[1 << Short.SIZE];
+        for (int i = lo; i <= hi; i++) {
+            count[a[i] - Short.MIN_VALUE]++;
+        }
+
+        for (int r = 0, i = lo; r < count.length; r++) {
+            Arrays.fill(a, i, i + count[r], (short) (r + Short.MIN_VALUE));
+            i += count[r];
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(char[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int[] count = new int[1 << Character.SIZE];
+        for (int i = lo; i <= hi; i++) {
+            count[a[i]]++;
+        }
+
+        for (int r = 0, i = lo; r < count.length; r++) {
+            Arrays.fill(a, i, i + count[r], (char) r);
+            i += count[r];
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array of keys from the range [min, max] in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param min the smallest possible key
+     * @param max the largest possible key
+     * @throws IllegalArgumentException if the range is empty or too large, or a key is outside the range
+     */
+    public static void sort(int[] a, int min, int max) {
+        sort(a, 0, a.length - 1, min, max);
+    }
+
+    /**
+     * Rearranges the array inside bounds of keys from the range [min, max] in ascending numerical order.
+     * The array is not modified if a key is outside the range.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param min the smallest possible key
+     * @param max the largest possible key
+     * @throws IllegalArgumentException if the range is empty or too large, or a key is outside the range
+     */
+    public static void sort(int[] a, int lo, int hi, int min, int max) {
+        checkBounds(a.length, lo, hi);
+        checkRange(min, max);
+
+        int[] count = new int[max - min + 1];
+        for (int i = lo; i <= hi; i++) {
+            count[index(a[i], min, max)]++;
+        }
+
+        for (int r = 0, i = lo; r < count.length; r++) {
+            Arrays.fill(a, i, i + count[r], r + min);
+            i += count[r];
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending order of the {@code int} keys from the range [min, max]
+     * extracted from its items. The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param key the function extracting the sort key
+     * @param min the smallest possible key
+     * @param max the largest possible key
+     * @throws IllegalArgumentException if the key extractor is {@code null}, the range is empty
+     *                                  or too large, or a key is outside the range
+     */
+    public static <T> void sort(T[] a, @Nonnull ToIntFunction<? super T> key, int min, int max) {
+        sort(a, 0, a.length - 1, key, min, max);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order of the {@code int} keys from the range
+     * [min, max] extracted from its items. The sort is stable, every key is extracted exactly once.
+     * The array is not modified if a key is outside the range.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param key the function extracting the sort key
+     * @param min the smallest possible key
+     * @param max the largest possible key
+     * @throws IllegalArgumentException if the key extractor is {@code null}, the range is empty
+     *                                  or too large, or a key is outside the range
+     */
+    public static <T> void sort(T[] a, int lo, int hi, @Nonnull ToIntFunction<? super T> key, int min, int max) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(key, "Key extractor [key] should not be null.");
+        checkRange(min, max);
+
+        int n = hi - lo + 1;
+        int[] keys = new int[n];
+        int[] count = new int[max - min + 2];
+        for (int i = 0; i < n; i++) {
+            keys[i] = index(key.applyAsInt(a[lo + i]), min, max);
+            count[keys[i] + 1]++;
+        }
+
+        // compute the first position of every key and distribute
+        for (int r = 0; r < count.length - 1; r++) {
+            count[r + 1] += count[r];
+        }
+        Object[] aux = new Object[n];
+        for (int i = 0; i < n; i++) {
+            aux[count[keys[i]]++] = a[lo + i];
+        }
+        System.arraycopy(aux, 0, a, lo, n);
+    }
+
+    /**
+     * Checks that the range of keys is not empty and not too large and throws an exception if it is.
+     */
+    private static void checkRange(int min, int max) {
+        requireTrue(min <= max, "Smallest key [min] should not be greater than the largest key [max].");
+        requireTrue((long) max - min < MAX_RANGE, "Range of keys [min, max] should contain at most %d keys.", MAX_RANGE);
+    }
+
+    /**
+     * @return the index of the key in the range [min, max].
+     */
+    private static int index(int key, int min, int max) {
+        if (key < min || key > max) {
+            throw new IllegalArgumentException(String.format("Key %d should be between %d and %d.", key, min, max));
+        }
+        return key - min;
+    }
+}
@@ -0,0 +1,384 @@
+package com.codingthrough.algorithms.sort;
+
+import javax.annotation.Nonnull;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+import static com.codingthrough.algorithms.Preconditions.requireTrue;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The <tt>ExternalSort</tt> sorts a file of fixed-width records that does not
+ * fit in memory using external merge sort algorithm.
+ * <p>
+ * The input is read chunk by chunk, every chunk holds as many records as fit in the
+ * memory budget and is decoded and sorted in memory by {@link MergeX}. Sorted runs are
+ * spilled to temporary files and merged by a {@link LoserTree}, at most 128 runs at
+ * a time, with the memory budget split between the read buffers of the runs and
+ * the write buffer. An input that fits in a single chunk is written to the output
+ * directly. The sort is stable.
+ * </p>
+ * <p>
+ * The read and write buffers are slices of a single block of direct memory allocated once
+ * per sort and reused by every chunk and every merge pass, the block grows only when a merge
+ * needs larger buffers than before.
+ * </p>
+ * <p>
+ * The memory budget bounds the encoded size of the records held in memory,
+ * decoded records usually take more heap than their binary form.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/External_sorting">Wikipedia article - External Sorting</a>.
+ * </p>
+ */
+public class ExternalSort<T> {
+    /**
+     * The maximum number of runs merged at once, more runs are merged in several passes.
+     */
+    private static final int MAX_FAN_IN = 128;
+
+    /**
+     * The maximum size of a read or write buffer in bytes.
+     */
+    private static final int MAX_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * The maximum size of array to allocate.
+     * Some VMs reserve some header words in an array.
+     * Attempts to allocate larger arrays may result in
+     * OutOfMemoryError: Requested array size exceeds VM limit
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final RecordCodec<T> codec;
+    private final Comparator<T> c;
+    private final long memoryBudget;
+    private final Path tempDir;
+
+    /**
+     * Creates a sort that spills runs to the default temporary-file directory.
+     *
+     * @param codec        the codec of the records
+     * @param c            the comparator specifying the order
+     * @param memoryBudget the number of bytes of records held in memory at once
+     * @throws IllegalArgumentException if the codec or the comparator is {@code null},
+     *                                  or the memory budget does not hold a single record
+     */
+    public ExternalSort(@Nonnull RecordCodec<T> codec, @Nonnull Comparator<T> c, long memoryBudget) {
+        this(codec, c, memoryBudget, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Creates a sort that spills runs to the specified directory.
+     *
+     * @param codec        the codec of the records
+     * @param c            the comparator specifying the order
+     * @param memoryBudget the number of bytes of records held in memory at once
+     * @param tempDir      the directory of the temporary files holding sorted runs
+     * @throws IllegalArgumentException if any argument is {@code null},
+     *                                  or the memory budget does not hold a single record
+     */
+    public ExternalSort(@Nonnull RecordCodec<T> codec, @Nonnull Comparator<T> c, long memoryBudget,
+                        @Nonnull Path tempDir) {
+        ensureNotNull(codec, "Record codec [codec] should not be null.");
+        ensureNotNull(c, "Comparator [c] should not be null.");
+        ensureNotNull(tempDir, "Temporary directory [tempDir] should not be null.");
+        requireTrue(codec.recordSize() > 0, "Record size should be positive.");
+        requireTrue(memoryBudget >= codec.recordSize(),
+                "Memory budget [memoryBudget] should hold at least a single record of %d bytes.", codec.recordSize());
+
+        this.codec = codec;
+        this.c = c;
+        this.memoryBudget = memoryBudget;
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * Sorts the records of the input file and writes them to the output file,
+     * the output file is created or truncated. The input file is not modified.
+     *
+     * @param input  the file to be sorted
+     * @param output the file to write sorted records to
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if any file is {@code null} or the size
+     *                                  of the input is not a multiple of the record size
+     */
+    public void sort(@Nonnull Path input, @Nonnull Path output) throws IOException {
+        ensureNotNull(input, "Input file [input] should not be null.");
+        ensureNotNull(output, "Output file [output] should not be null.");
+
+        List<Path> runs = new ArrayList<>();
+        Buffers buffers = new Buffers();
+        try {
+            try (FileChannel in = FileChannel.open(input, READ)) {
+                spill(in, output, runs, buffers);
+            }
+
+            // every pass merges groups of adjacent runs, which keeps equal records in their order
+            while (runs.size() > MAX_FAN_IN) {
+                List<Path> merged = new ArrayList<>();
+                try {
+                    for (int i = 0; i < runs.size(); i += MAX_FAN_IN) {
+                        List<Path> group = runs.subList(i, Math.min(i + MAX_FAN_IN, runs.size()));
+                        Path run = Files.createTempFile(tempDir, "run-", ".tmp");
+                        merged.add(run);
+                        merge(group, run, buffers);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    delete(merged);
+                    throw e;
+                }
+                delete(runs);
+                runs = merged;
+            }
+            if (!runs.isEmpty()) {
+                merge(runs, output, buffers);
+            }
+        } finally {
+            delete(runs);
+        }
+    }
+
+    /**
+     * Sorts the input chunk by chunk and spills every chunk to a new run,
+     * a single chunk is written to the output directly.
+     */
+    @SuppressWarnings("unchecked")
+    private void spill(FileChannel in, Path output, List<Path> runs, Buffers buffers) throws IOException {
+        int recordSize = codec.recordSize();
+        long size = in.size();
+        requireTrue(size % recordSize == 0,
+                "Input size %d should be a multiple of the record size %d.", size, recordSize);
+
+        long maxRecords = Math.min(Math.min(memoryBudget, Integer.MAX_VALUE) / recordSize, MAX_ARRAY_SIZE);
+        int runRecords = (int) Math.max(1, Math.min(maxRecords, size / recordSize));
+        long runBytes = (long) runRecords * recordSize;
+
+        T[] items = (T[]) new Object[runRecords];
+        SortContext ctx = new SortContext();
+        ByteBuffer buffer = buffers.slices(1, bufferSize(1))[0];
+        if (size <= runBytes) {
+            int n = load(in, 0, size, items, buffer, ctx);
+            write(output, items, n, buffer);
+            return;
+        }
+
+        for (long position = 0; position < size; position += runBytes) {
+            int n = load(in, position, Math.min(runBytes, size - position), items, buffer, ctx);
+            Path run = Files.createTempFile(tempDir, "run-", ".tmp");
+            runs.add(run);
+            write(run, items, n, buffer);
+        }
+    }
+
+    /**
+     * Decodes the records of the chunk into the array reading them through the buffer and sorts them.
+     *
+     * @return the number of records in the chunk
+     */
+    private int load(FileChannel in, long position, long length, T[] items, ByteBuffer buffer, SortContext ctx)
+            throws IOException {
+        int recordSize = codec.recordSize();
+        int n = (int) (length / recordSize);
+        if (n == 0) {
+            return 0;
+        }
+
+        long end = position + length;
+        buffer.clear().limit(0);
+        for (int i = 0; i < n; i++) {
+            if (buffer.remaining() < recordSize) {
+                // refill the buffer without reading past the end of the chunk
+                buffer.compact();
+                buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + end - position));
+                while (buffer.hasRemaining()) {
+                    int read = in.read(buffer, position);
+                    if (read < 0) {
+                        throw new EOFException("Input file ended before the end of the chunk.");
+                    }
+                    position += read;
+                }
+                buffer.flip();
+            }
+            items[i] = codec.decode(buffer);
+        }
+        MergeX.sort(items, 0, n - 1, c, ctx);
+        return n;
+    }
+
+    /**
+     * Writes the first {@param n} records of the array to the target file through the buffer.
+     */
+    private void write(Path target, T[] items, int n, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        try (FileChannel out = FileChannel.open(target, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            for (int i = 0; i < n; i++) {
+                write(out, buffer, items[i]);
+            }
+            flush(out, buffer);
+        }
+    }
+
+    /**
+     * Merges sorted runs into the target file.
+     */
+    private void merge(List<Path> runs, Path target, Buffers buffers) throws IOException {
+        int k = runs.size();
+        ByteBuffer[] slices = buffers.slices(k + 1, bufferSize(k + 1));
+
+        List<Run<T>> readers = new ArrayList<>(k);
+        try (FileChannel out = FileChannel.open(target, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            LoserTree<T> tree = new LoserTree<>(k, c);
+            for (int i = 0; i < k; i++) {
+                Run<T> run = new Run<>(FileChannel.open(runs.get(i), READ), codec, slices[i + 1]);
+                readers.add(run);
+                if (run.hasNext()) {
+                    tree.set(i, run.next());
+                }
+            }
+            tree.init();
+
+            ByteBuffer buffer = slices[0];
+            while (!tree.isEmpty()) {
+                write(out, buffer, tree.peek());
+
+                Run<T> run = readers.get(tree.winner());
+                if (run.hasNext()) {
+                    tree.replace(run.next());
+                } else {
+                    tree.exhaust();
+                }
+            }
+            flush(out, buffer);
+        } finally {
+            for (Run<T> run : readers) {
+                run.close();
+            }
+        }
+    }
+
+    /**
+     * Deletes the runs that still exist.
+     */
+    private static void delete(List<Path> runs) throws IOException {
+        for (Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+    }
+
+    /**
+     * Encodes the record into the buffer, the buffer is flushed when it is full.
+     */
+    private void write(FileChannel out, ByteBuffer buffer, T record) throws IOException {
+        if (buffer.remaining() < codec.recordSize()) {
+            flush(out, buffer);
+        }
+        codec.encode(record, buffer);
+    }
+
+    /**
+     * Writes the content of the buffer to the channel and clears the buffer.
+     */
+    private static void flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * @return the size of a buffer holding whole records when the memory budget
+     * is split into {@param parts} buffers.
+     */
+    private int bufferSize(int parts) {
+        int recordSize = codec.recordSize();
+        long size = Math.min(memoryBudget / parts, MAX_BUFFER_SIZE);
+        return (int) Math.max(recordSize, size - size % recordSize);
+    }
+
+    /**
+     * The block of direct memory sliced into the read and write buffers of a sort.
+     */
+    private static class Buffers {
+        private ByteBuffer memory;
+
+        /**
+         * @return {@param count} buffers of {@param size} bytes each, which share the memory
+         * with the buffers returned by the previous call.
+         */
+        ByteBuffer[] slices(int count, int size) {
+            int capacity = Math.multiplyExact(count, size);
+            if (memory == null || memory.capacity() < capacity) {
+                memory = null;
+                memory = ByteBuffer.allocateDirect(capacity);
+            }
+
+            ByteBuffer[] slices = new ByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                ByteBuffer slice = memory.duplicate();
+                slice.limit(i * size + size).position(i * size);
+                slices[i] = slice.slice();
+            }
+            return slices;
+        }
+    }
+
+    /**
+     * The sorted run read through a buffer.
+     */
+    private static class Run<T> implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private final RecordCodec<T> codec;
+
+        Run(FileChannel channel, RecordCodec<T> codec, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.codec = codec;
+
+            buffer.clear().limit(0);
+        }
+
+        /**
+         * @return {@code true} if the run has more records, the buffer is refilled when it is drained.
+         */
+        boolean hasNext() throws IOException {
+            if (buffer.remaining() < codec.recordSize()) {
+                buffer.compact();
+                int read;
+                do {
+                    read = channel.read(buffer);
+                } while (read >= 0 && buffer.hasRemaining());
+                buffer.flip();
+            }
+            return buffer.remaining() >= codec.recordSize();
+        }
+
+        /**
+         * @return the next record of the run.
+         */
+        T next() {
+            return codec.decode(buffer);
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
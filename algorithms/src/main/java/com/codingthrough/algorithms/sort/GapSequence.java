@@ -0,0 +1,127 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The <tt>GapSequence</tt> defines the gaps used by {@link Shell} sort,
+ * the sort starts with the largest gap smaller than the number of items
+ * and finishes with the gap of 1.
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Shellsort#Gap_sequences">Wikipedia article - Shell Sort Gap Sequences</a>.
+ * </p>
+ */
+public enum GapSequence {
+    /**
+     * Knuth's sequence (3^k - 1) / 2: 1, 4, 13, 40, 121, ...
+     */
+    KNUTH(knuth()),
+
+    /**
+     * Ciura's experimentally found sequence 1, 4, 10, 23, 57, 132, 301, 701, 1750,
+     * extended by the ratio of 2.25. It takes the fewest comparisons on average.
+     */
+    CIURA(ciura()),
+
+    /**
+     * Tokuda's sequence ceil((9^k - 4^k) / (5 * 4^(k-1))): 1, 4, 9, 20, 46, 103, ...
+     */
+    TOKUDA(tokuda()),
+
+    /**
+     * Sedgewick's sequence 4^k + 3 * 2^(k-1) + 1 prefixed with 1: 1, 8, 23, 77, 281, ...
+     * It takes O(n^(4/3)) time in the worst case.
+     */
+    SEDGEWICK(sedgewick()),
+
+    /**
+     * Pratt's sequence of the numbers 2^p * 3^q: 1, 2, 3, 4, 6, 8, 9, 12, ...
+     * It takes O(n log^2 n) time in the worst case, but many passes.
+     */
+    PRATT(pratt());
+
+    /**
+     * The gaps not greater than {@link Integer#MAX_VALUE} in ascending order.
+     */
+    private final int[] gaps;
+
+    GapSequence(int[] gaps) {
+        this.gaps = gaps;
+    }
+
+    /**
+     * Returns the gaps to sort the specified number of items in descending order,
+     * the last gap is 1.
+     *
+     * @param n the number of items
+     * @return the gaps in descending order
+     */
+    public int[] gaps(int n) {
+        int k = 1;
+        while (k < gaps.length && gaps[k] < n) {
+            k++;
+        }
+
+        int[] result = new int[k];
+        for (int i = 0; i < k; i++) {
+            result[i] = gaps[k - 1 - i];
+        }
+        return result;
+    }
+
+    private static int[] knuth() {
+        List<Long> gaps = new ArrayList<>();
+        for (long h = 1; h <= Integer.MAX_VALUE; h = 3 * h + 1) {
+            gaps.add(h);
+        }
+        return toArray(gaps);
+    }
+
+    private static int[] ciura() {
+        List<Long> gaps = new ArrayList<>(Arrays.asList(1L, 4L, 10L, 23L, 57L, 132L, 301L, 701L, 1750L));
+        for (long h = (long) (2.25 * 1750); h <= Integer.MAX_VALUE; h = (long) (2.25 * h)) {
+            gaps.add(h);
+        }
+        return toArray(gaps);
+    }
+
+    private static int[] tokuda() {
+        List<Long> gaps = new ArrayList<>();
+        for (int k = 0; ; k++) {
+            long h = (long) Math.ceil((9 * Math.pow(2.25, k) - 4) / 5);
+            if (h > Integer.MAX_VALUE) {
+                return toArray(gaps);
+            }
+            gaps.add(h);
+        }
+    }
+
+    private static int[] sedgewick() {
+        List<Long> gaps = new ArrayList<>(Collections.singletonList(1L));
+        for (int k = 1; ; k++) {
+            long h = (1L << 2 * k) + 3 * (1L << k - 1) + 1;
+            if (h > Integer.MAX_VALUE) {
+                return toArray(gaps);
+            }
+            gaps.add(h);
+        }
+    }
+
+    private static int[] pratt() {
+        List<Long> gaps = new ArrayList<>();
+        for (long p = 1; p <= Integer.MAX_VALUE; p *= 2) {
+            for (long q = p; q <= Integer.MAX_VALUE; q *= 3) {
+                gaps.add(q);
+            }
+        }
+        Collections.sort(gaps);
+        return toArray(gaps);
+    }
+
+    private static int[] toArray(List<Long> gaps) {
+        return gaps.stream().mapToInt(Long::intValue).toArray();
+    }
+}
@@ -0,0 +1,678 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.Comparator;
+
+/**
+ * The <tt>Heap</tt> provides a number of static methods to sort an array
+ * using heap sort algorithm.
+ * <p>
+ * The array is arranged into a binary max-heap bottom-up, then the maximum is repeatedly
+ * moved to the end of the heap. Instead of sinking the last item from the root, which takes
+ * two comparisons per level, the hole left at the root is moved down to a leaf along the
+ * larger children and the last item is moved up from there (Floyd's trick). The last item
+ * usually belongs near the bottom, so this takes about n log2 n comparisons instead of
+ * 2 n log2 n. The sort takes O(n log n) time in the worst case and O(1) extra memory,
+ * it is not stable. {@link Quick} uses it for the subarrays exceeding its recursion depth.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Heapsort#Bottom-up_heapsort">Wikipedia article - Bottom-up Heap Sort</a>.
+ * </p>
+ */
+public class Heap extends SortSupport {
+    /**
+     * This class should not be instantiated.
+     */
+    private Heap() {
+    }
+
+    /**
+     * Rearranges the array in ascending order using the natural order.
+     *
+     * @param a the array to be sorted
+     */
+    public static <T extends Comparable<T>> void sort(T[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            sink(a, lo, k, n);
+        }
+
+        for (int m = n - 1; m > 0; m--) {
+            T v = a[lo + m];
+            a[lo + m] = a[lo];
+
+            // move the hole at the root down to a leaf, then move v up from there
+            int k = 0, half = m >>> 1;
+            while (k < half) {
+                int j = 2 * k + 1;
+                if (j + 1 < m && less(a[lo + j], a[lo + j + 1])) {
+                    j++;
+                }
+                a[lo + k] = a[lo + j];
+                k = j;
+            }
+            while (k > 0) {
+                int p = (k - 1) >>> 1;
+                if (!less(a[lo + p], v)) {
+                    break;
+                }
+                a[lo + k] = a[lo + p];
+                k = p;
+            }
+            a[lo + k] = v;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Moves down the item at 0-based heap position {@param k} of the heap a[lo .. lo+n-1].
+     */
+    private static <T extends Comparable<T>> void sink(T[] a, int lo, int k, int n) {
+        T v = a[lo + k];
+        int half = n >>> 1;
+        while (k < half) {
+            int j = 2 * k + 1;
+            if (j + 1 < n && less(a[lo + j], a[lo + j + 1])) {
+                j++;
+            }
+            if (!less(v, a[lo + j])) {
+                break;
+            }
+            a[lo + k] = a[lo + j];
+            k = j;
+        }
+        a[lo + k] = v;
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator specifying the order
+     */
+    public static <T> void sort(T[] a, Comparator<T> c) {
+        sort(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     */
+    public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            sink(a, lo, k, n, c);
+        }
+
+        for (int m = n - 1; m > 0; m--) {
+            T v = a[lo + m];
+            a[lo + m] = a[lo];
+
+            // move the hole at the root down to a leaf, then move v up from there
+            int k = 0, half = m >>> 1;
+            while (k < half) {
+                int j = 2 * k + 1;
+                if (j + 1 < m && less(a[lo + j], a[lo + j + 1], c)) {
+                    j++;
+                }
+                a[lo + k] = a[lo + j];
+                k = j;
+            }
+            while (k > 0) {
+                int p = (k - 1) >>> 1;
+                if (!less(a[lo + p], v, c)) {
+                    break;
+                }
+                a[lo + k] = a[lo + p];
+                k = p;
+            }
+            a[lo + k] = v;
+        }
+
+        assert sorted(a, lo, hi, c);
+    }
+
+    /**
+     * Moves down the item at 0-based heap position {@param k} of the heap a[lo .. lo+n-1].
+     */
+    private static <T> void sink(T[] a, int lo, int k, int n, Comparator<T> c) {
+        T v = a[lo + k];
+        int half = n >>> 1;
+        while (k < half) {
+            int j = 2 * k + 1;
+            if (j + 1 < n && less(a[lo + j], a[lo + j + 1], c)) {
+                j++;
+            }
+            if (!less(v, a[lo + j], c)) {
+                break;
+            }
+            a[lo + k] = a[lo + j];
+            k = j;
+        }
+        a[lo + k] = v;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            sink(a, lo, k, n);
+        }
+
+        for (int m = n - 1; m > 0; m--) {
+            int v = a[lo + m];
+            a[lo + m] = a[lo];
+
+            // move the hole at the root down to a leaf, then move v up from there
+            int k = 0, half = m >>> 1;
+            while (k < half) {
+                int j = 2 * k + 1;
+                if (j + 1 < m && less(a[lo + j], a[lo + j + 1])) {
+                    j++;
+                }
+                a[lo + k] = a[lo + j];
+                k = j;
+            }
+            while (k > 0) {
+                int p = (k - 1) >>> 1;
+                if (!less(a[lo + p], v)) {
+                    break;
+                }
+                a[lo + k] = a[lo + p];
+                k = p;
+            }
+            a[lo + k] = v;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Moves down the item at 0-based heap position {@param k} of the heap a[lo .. lo+n-1].
+     */
+    private static void sink(int[] a, int lo, int k, int n) {
+        int v = a[lo + k];
+        int half = n >>> 1;
+        while (k < half) {
+            int j = 2 * k + 1;
+            if (j + 1 < n && less(a[lo + j], a[lo + j + 1])) {
+                j++;
+            }
+            if (!less(v, a[lo + j])) {
+                break;
+            }
+            a[lo + k] = a[lo + j];
+            k = j;
+        }
+        a[lo + k] = v;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            sink(a, lo, k, n);
+        }
+
+        for (int m = n - 1; m > 0; m--) {
+            long v = a[lo + m];
+            a[lo + m] = a[lo];
+
+            // move the hole at the root down to a leaf, then move v up from there
+            int k = 0, half = m >>> 1;
+            while (k < half) {
+                int j = 2 * k + 1;
+                if (j + 1 < m && less(a[lo + j], a[lo + j + 1])) {
+                    j++;
+                }
+                a[lo + k] = a[lo + j];
+                k = j;
+            }
+            while (k > 0) {
+                int p = (k - 1) >>> 1;
+                if (!less(a[lo + p], v)) {
+                    break;
+                }
+                a[lo + k] = a[lo + p];
+                k = p;
+            }
+            a[lo + k] = v;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Moves down the item at 0-based heap position {@param k} of the heap a[lo .. lo+n-1].
+     */
+    private static void sink(long[] a, int lo, int k, int n) {
+        long v = a[lo + k];
+        int half = n >>> 1;
+        while (k < half) {
+            int j = 2 * k + 1;
+            if (j + 1 < n && less(a[lo + j], a[lo + j + 1])) {
+                j++;
+            }
+            if (!less(v, a[lo + j])) {
+                break;
+            }
+            a[lo + k] = a[lo + j];
+            k = j;
+        }
+        a[lo + k] = v;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            sink(a, lo, k, n);
+        }
+
+        for (int m = n - 1; m > 0; m--) {
+            double v = a[lo + m];
+            a[lo + m] = a[lo];
+
+            // move the hole at the root down to a leaf, then move v up from there
+            int k = 0, half = m >>> 1;
+            while (k < half) {
+                int j = 2 * k + 1;
+                if (j + 1 < m && less(a[lo + j], a[lo + j + 1])) {
+                    j++;
+                }
+                a[lo + k] = a[lo + j];
+                k = j;
+            }
+            while (k > 0) {
+                int p = (k - 1) >>> 1;
+                if (!less(a[lo + p], v)) {
+                    break;
+                }
+                a[lo + k] = a[lo + p];
+                k = p;
+            }
+            a[lo + k] = v;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Moves down the item at 0-based heap position {@param k} of the heap a[lo .. lo+n-1].
+     */
+    private static void sink(double[] a, int lo, int k, int n) {
+        double v = a[lo + k];
+        int half = n >>> 1;
+        while (k < half) {
+            int j = 2 * k + 1;
+            if (j + 1 < n && less(a[lo + j], a[lo + j + 1])) {
+                j++;
+            }
+            if (!less(v, a[lo + j])) {
+                break;
+            }
+            a[lo + k] = a[lo + j];
+            k = j;
+        }
+        a[lo + k] = v;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(float[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            sink(a, lo, k, n);
+        }
+
+        for (int m = n - 1; m > 0; m--) {
+            float v = a[lo + m];
+            a[lo + m] = a[lo];
+
+            // move the hole at the root down to a leaf, then move v up from there
+            int k = 0, half = m >>> 1;
+            while (k < half) {
+                int j = 2 * k + 1;
+                if (j + 1 < m && less(a[lo + j], a[lo + j + 1])) {
+                    j++;
+                }
+                a[lo + k] = a[lo + j];
+                k = j;
+            }
+            while (k > 0) {
+                int p = (k - 1) >>> 1;
+                if (!less(a[lo + p], v)) {
+                    break;
+                }
+                a[lo + k] = a[lo + p];
+                k = p;
+            }
+            a[lo + k] = v;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Moves down the item at 0-based heap position {@param k} of the heap a[lo .. lo+n-1].
+     */
+    private static void sink(float[] a, int lo, int k, int n) {
+        float v = a[lo + k];
+        int half = n >>> 1;
+        while (k < half) {
+            int j = 2 * k + 1;
+            if (j + 1 < n && less(a[lo + j], a[lo + j + 1])) {
+                j++;
+            }
+            if (!less(v, a[lo + j])) {
+                break;
+            }
+            a[lo + k] = a[lo + j];
+            k = j;
+        }
+        a[lo + k] = v;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(short[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            sink(a, lo, k, n);
+        }
+
+        for (int m = n - 1; m > 0; m--) {
+            short v = a[lo + m];
+            a[lo + m] = a[lo];
+
+            // move the hole at the root down to a leaf, then move v up from there
+            int k = 0, half = m >>> 1;
+            while (k < half) {
+                int j = 2 * k + 1;
+                if (j + 1 < m && less(a[lo + j], a[lo + j + 1])) {
+                    j++;
+                }
+                a[lo + k] = a[lo + j];
+                k = j;
+            }
+            while (k > 0) {
+                int p = (k - 1) >>> 1;
+                if (!less(a[lo + p], v)) {
+                    break;
+                }
+                a[lo + k] = a[lo + p];
+                k = p;
+            }
+            a[lo + k] = v;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Moves down the item at 0-based heap position {@param k} of the heap a[lo .. lo+n-1].
+     */
+    private static void sink(short[] a, int lo, int k, int n) {
+        short v = a[lo + k];
+        int half = n >>> 1;
+        while (k < half) {
+            int j = 2 * k + 1;
+            if (j + 1 < n && less(a[lo + j], a[lo + j + 1])) {
+                j++;
+            }
+            if (!less(v, a[lo + j])) {
+                break;
+            }
+            a[lo + k] = a[lo + j];
+            k = j;
+        }
+        a[lo + k] = v;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(char[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            sink(a, lo, k, n);
+        }
+
+        for (int m = n - 1; m > 0; m--) {
+            char v = a[lo + m];
+            a[lo + m] = a[lo];
+
+            // move the hole at the root down to a leaf, then move v up from there
+            int k = 0, half = m >>> 1;
+            while (k < half) {
+                int j = 2 * k + 1;
+                if (j + 1 < m && less(a[lo + j], a[lo + j + 1])) {
+                    j++;
+                }
+                a[lo + k] = a[lo + j];
+                k = j;
+            }
+            while (k > 0) {
+                int p = (k - 1) >>> 1;
+                if (!less(a[lo + p], v)) {
+                    break;
+                }
+                a[lo + k] = a[lo + p];
+                k = p;
+            }
+            a[lo + k] = v;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Moves down the item at 0-based heap position {@param k} of the heap a[lo .. lo+n-1].
+     */
+    private static void sink(char[] a, int lo, int k, int n) {
+        char v = a[lo + k];
+        int half = n >>> 1;
+        while (k < half) {
+            int j = 2 * k + 1;
+            if (j + 1 < n && less(a[lo + j], a[lo + j + 1])) {
+                j++;
+            }
+            if (!less(v, a[lo + j])) {
+                break;
+            }
+            a[lo + k] = a[lo + j];
+            k = j;
+        }
+        a[lo + k] = v;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int k = n / 2 - 1; k >= 0; k--) {
+            sink(a, lo, k, n);
+        }
+
+        for (int m = n - 1; m > 0; m--) {
+            byte v = a[lo + m];
+            a[lo + m] = a[lo];
+
+            // move the hole at the root down to a leaf, then move v up from there
+            int k = 0, half = m >>> 1;
+            while (k < half) {
+                int j = 2 * k + 1;
+                if (j + 1 < m && less(a[lo + j], a[lo + j + 1])) {
+                    j++;
+                }
+                a[lo + k] = a[lo + j];
+                k = j;
+            }
+            while (k > 0) {
+                int p = (k - 1) >>> 1;
+                if (!less(a[lo + p], v)) {
+                    break;
+                }
+                a[lo + k] = a[lo + p];
+                k = p;
+            }
+            a[lo + k] = v;
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Moves down the item at 0-based heap position {@param k} of the heap a[lo .. lo+n-1].
+     */
+    private static void sink(byte[] a, int lo, int k, int n) {
+        byte v = a[lo + k];
+        int half = n >>> 1;
+        while (k < half) {
+            int j = 2 * k + 1;
+            if (j + 1 < n && less(a[lo + j], a[lo + j + 1])) {
+                j++;
+            }
+            if (!less(v, a[lo + j])) {
+                break;
+            }
+            a[lo + k] = a[lo + j];
+            k = j;
+        }
+        a[lo + k] = v;
+    }
+}
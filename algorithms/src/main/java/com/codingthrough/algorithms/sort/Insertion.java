@@ -74,4 +74,234 @@ public class Insertion extends SortSupport {
 
         assert sorted(a, lo, hi, c);
     }
+
+    /**
+     * Rearranges the strings inside bounds in ascending order, the strings are known
+     * to share their first {@param d} characters, so comparison starts at character {@param d}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param d  the number of leading characters shared by the strings
+     */
+    static void sort(String[] a, int lo, int hi, int d) {
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1], d); j--) {
+                swap(a, j, j - 1);
+            }
+        }
+    }
+
+    /**
+     * Rearranges the keys inside bounds in unsigned lexicographic order, the keys are known
+     * to share their first {@param d} bytes, so comparison starts at byte {@param d}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param d  the number of leading bytes shared by the keys
+     */
+    static void sort(byte[][] a, int lo, int hi, int d) {
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1], d); j--) {
+                swap(a, j, j - 1);
+            }
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1]); j--) {
+                swap(a, j, j - 1);
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1]); j--) {
+                swap(a, j, j - 1);
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1]); j--) {
+                swap(a, j, j - 1);
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(float[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1]); j--) {
+                swap(a, j, j - 1);
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(short[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1]); j--) {
+                swap(a, j, j - 1);
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(char[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1]); j--) {
+                swap(a, j, j - 1);
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && less(a[j], a[j - 1]); j--) {
+                swap(a, j, j - 1);
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
 }
@@ -0,0 +1,806 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The <tt>Inversions</tt> provides a number of static methods to measure
+ * how far an array is from being sorted.
+ * <p>
+ * An inversion is a pair of items in descending order, a sorted array has none and an array
+ * in descending order has n(n-1)/2 of them. Inversions are counted by merge sort of a copy
+ * of the array: when an item of the right part is merged before the rest of the left part, it
+ * is inverted with each of them. The count takes O(n log n) time and 2n extra memory and is
+ * accumulated in a {@code long}, the parallel version sorts the halves as fork/join tasks.
+ * Primitive items are copied as {@code long} keys in the same order, so all arrays share
+ * a single counting merge.
+ * A run is a maximal part of the array in ascending order, the runs and the longest of them
+ * are found in a single pass without a copy.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Inversion_(discrete_mathematics)">Wikipedia article - Inversion</a>.
+ * </p>
+ */
+public class Inversions extends SortSupport {
+    /**
+     * Parts of this size or smaller are counted by insertion sort.
+     */
+    private static final int CUTOFF = 15;
+
+    /**
+     * Parts of this size or smaller are counted sequentially.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private Inversions() {
+    }
+
+    /**
+     * The metrics of the order of an array.
+     */
+    public static class Metrics {
+        private final int size;
+        private final long inversions;
+        private final int runs;
+        private final int longestRun;
+
+        Metrics(int size, long inversions, int runs, int longestRun) {
+            this.size = size;
+            this.inversions = inversions;
+            this.runs = runs;
+            this.longestRun = longestRun;
+        }
+
+        /**
+         * @return the number of measured items.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * @return the number of pairs of items in descending order.
+         */
+        public long inversions() {
+            return inversions;
+        }
+
+        /**
+         * @return the number of maximal parts in ascending order.
+         */
+        public int runs() {
+            return runs;
+        }
+
+        /**
+         * @return the length of the longest part in ascending order.
+         */
+        public int longestRun() {
+            return longestRun;
+        }
+
+        /**
+         * @return the fraction of pairs of items in ascending order,
+         * 1 for a sorted array and 0 for an array in strictly descending order.
+         */
+        public double sortedness() {
+            long pairs = (long) size * (size - 1) / 2;
+            return pairs == 0 ? 1.0 : 1.0 - (double) inversions / pairs;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return "Metrics{size=" + size + ", inversions=" + inversions
+                    + ", runs=" + runs + ", longestRun=" + longestRun + "}";
+        }
+    }
+
+    /**
+     * Counts the pairs of items in descending order, in the natural order.
+     * The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the number of inversions
+     */
+    public static <T extends Comparable<T>> long count(T[] a) {
+        return count(a, 0, a.length - 1, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Counts the pairs of items inside bounds in descending order, in the natural order.
+     * The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the number of inversions
+     */
+    public static <T extends Comparable<T>> long count(T[] a, int lo, int hi) {
+        return count(a, lo, hi, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Counts the pairs of items in descending order, in the natural order,
+     * using the common fork/join pool. The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the number of inversions
+     */
+    public static <T extends Comparable<T>> long parallelCount(T[] a) {
+        return parallelCount(a, 0, a.length - 1, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Counts the pairs of items inside bounds in descending order, in the natural order,
+     * using the common fork/join pool. The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the number of inversions
+     */
+    public static <T extends Comparable<T>> long parallelCount(T[] a, int lo, int hi) {
+        return parallelCount(a, lo, hi, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Measures the order of the items, in the natural order.
+     * The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the metrics of the order
+     */
+    public static <T extends Comparable<T>> Metrics measure(T[] a) {
+        return measure(a, 0, a.length - 1, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Measures the order of the items inside bounds, in the natural order.
+     * The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the metrics of the order
+     */
+    public static <T extends Comparable<T>> Metrics measure(T[] a, int lo, int hi) {
+        return measure(a, lo, hi, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Counts the pairs of items in descending order, in the comparator.
+     * The array is not modified.
+     *
+     * @param a the array to be measured
+     * @param c the comparator specifying the order
+     * @return the number of inversions
+     */
+    public static <T> long count(T[] a, Comparator<T> c) {
+        return count(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Counts the pairs of items inside bounds in descending order, in the comparator.
+     * The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     * @return the number of inversions
+     */
+    public static <T> long count(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+
+        return count(new ObjectCounter<>(Arrays.copyOfRange(a, lo, hi + 1), c));
+    }
+
+    /**
+     * Counts the pairs of items in descending order, in the comparator,
+     * using the common fork/join pool. The array is not modified.
+     *
+     * @param a the array to be measured
+     * @param c the comparator specifying the order
+     * @return the number of inversions
+     */
+    public static <T> long parallelCount(T[] a, Comparator<T> c) {
+        return parallelCount(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Counts the pairs of items inside bounds in descending order, in the comparator,
+     * using the common fork/join pool. The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     * @return the number of inversions
+     */
+    public static <T> long parallelCount(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+
+        return parallelCount(new ObjectCounter<>(Arrays.copyOfRange(a, lo, hi + 1), c));
+    }
+
+    /**
+     * Measures the order of the items, in the comparator.
+     * The array is not modified.
+     *
+     * @param a the array to be measured
+     * @param c the comparator specifying the order
+     * @return the metrics of the order
+     */
+    public static <T> Metrics measure(T[] a, Comparator<T> c) {
+        return measure(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Measures the order of the items inside bounds, in the comparator.
+     * The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     * @return the metrics of the order
+     */
+    public static <T> Metrics measure(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+
+        return measure(new ObjectCounter<>(Arrays.copyOfRange(a, lo, hi + 1), c));
+    }
+
+    /**
+     * Counts the pairs of items in descending order, in numerical order.
+     * The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the number of inversions
+     */
+    public static long count(int[] a) {
+        return count(a, 0, a.length - 1);
+    }
+
+    /**
+     * Counts the pairs of items inside bounds in descending order, in numerical order.
+     * The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the number of inversions
+     */
+    public static long count(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        return count(new LongCounter(keys(a, lo, hi)));
+    }
+
+    /**
+     * Counts the pairs of items in descending order, in numerical order,
+     * using the common fork/join pool. The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the number of inversions
+     */
+    public static long parallelCount(int[] a) {
+        return parallelCount(a, 0, a.length - 1);
+    }
+
+    /**
+     * Counts the pairs of items inside bounds in descending order, in numerical order,
+     * using the common fork/join pool. The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the number of inversions
+     */
+    public static long parallelCount(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        return parallelCount(new LongCounter(keys(a, lo, hi)));
+    }
+
+    /**
+     * Measures the order of the items, in numerical order.
+     * The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the metrics of the order
+     */
+    public static Metrics measure(int[] a) {
+        return measure(a, 0, a.length - 1);
+    }
+
+    /**
+     * Measures the order of the items inside bounds, in numerical order.
+     * The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the metrics of the order
+     */
+    public static Metrics measure(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        return measure(new LongCounter(keys(a, lo, hi)));
+    }
+
+    /**
+     * Counts the pairs of items in descending order, in numerical order.
+     * The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the number of inversions
+     */
+    public static long count(long[] a) {
+        return count(a, 0, a.length - 1);
+    }
+
+    /**
+     * Counts the pairs of items inside bounds in descending order, in numerical order.
+     * The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the number of inversions
+     */
+    public static long count(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        return count(new LongCounter(keys(a, lo, hi)));
+    }
+
+    /**
+     * Counts the pairs of items in descending order, in numerical order,
+     * using the common fork/join pool. The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the number of inversions
+     */
+    public static long parallelCount(long[] a) {
+        return parallelCount(a, 0, a.length - 1);
+    }
+
+    /**
+     * Counts the pairs of items inside bounds in descending order, in numerical order,
+     * using the common fork/join pool. The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the number of inversions
+     */
+    public static long parallelCount(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        return parallelCount(new LongCounter(keys(a, lo, hi)));
+    }
+
+    /**
+     * Measures the order of the items, in numerical order.
+     * The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the metrics of the order
+     */
+    public static Metrics measure(long[] a) {
+        return measure(a, 0, a.length - 1);
+    }
+
+    /**
+     * Measures the order of the items inside bounds, in numerical order.
+     * The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the metrics of the order
+     */
+    public static Metrics measure(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        return measure(new LongCounter(keys(a, lo, hi)));
+    }
+
+    /**
+     * Counts the pairs of items in descending order, in numerical order, as defined by {@link Double#compare(double, double)}.
+     * The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the number of inversions
+     */
+    public static long count(double[] a) {
+        return count(a, 0, a.length - 1);
+    }
+
+    /**
+     * Counts the pairs of items inside bounds in descending order, in numerical order, as defined by {@link Double#compare(double, double)}.
+     * The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the number of inversions
+     */
+    public static long count(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        return count(new LongCounter(keys(a, lo, hi)));
+    }
+
+    /**
+     * Counts the pairs of items in descending order, in numerical order, as defined by {@link Double#compare(double, double)},
+     * using the common fork/join pool. The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the number of inversions
+     */
+    public static long parallelCount(double[] a) {
+        return parallelCount(a, 0, a.length - 1);
+    }
+
+    /**
+     * Counts the pairs of items inside bounds in descending order, in numerical order, as defined by {@link Double#compare(double, double)},
+     * using the common fork/join pool. The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the number of inversions
+     */
+    public static long parallelCount(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        return parallelCount(new LongCounter(keys(a, lo, hi)));
+    }
+
+    /**
+     * Measures the order of the items, in numerical order, as defined by {@link Double#compare(double, double)}.
+     * The array is not modified.
+     *
+     * @param a the array to be measured
+     * @return the metrics of the order
+     */
+    public static Metrics measure(double[] a) {
+        return measure(a, 0, a.length - 1);
+    }
+
+    /**
+     * Measures the order of the items inside bounds, in numerical order, as defined by {@link Double#compare(double, double)}.
+     * The array is not modified.
+     *
+     * @param a  the array to be measured
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the metrics of the order
+     */
+    public static Metrics measure(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        return measure(new LongCounter(keys(a, lo, hi)));
+    }
+
+    /**
+     * Counts the inversions of the items of the counter.
+     */
+    private static long count(Counter counter) {
+        return counter.count(0, counter.size() - 1);
+    }
+
+    /**
+     * Counts the inversions of the items of the counter using the common fork/join pool.
+     */
+    private static long parallelCount(Counter counter) {
+        return ForkJoinPool.commonPool().invoke(new CountTask(counter, 0, counter.size() - 1));
+    }
+
+    /**
+     * Finds the runs of the items of the counter before they are sorted to count their inversions.
+     */
+    private static Metrics measure(Counter counter) {
+        int n = counter.size();
+        int runs = 1, longestRun = 1;
+        for (int i = 1, start = 0; i < n; i++) {
+            if (counter.less(i, i - 1)) {
+                runs++;
+                start = i;
+            }
+            longestRun = Math.max(longestRun, i - start + 1);
+        }
+
+        long inversions = n <= PARALLEL_THRESHOLD ? count(counter) : parallelCount(counter);
+        return new Metrics(n, inversions, runs, longestRun);
+    }
+
+    /**
+     * @return the copy of a[lo .. hi] as {@code long} keys in the same order.
+     */
+    private static long[] keys(int[] a, int lo, int hi) {
+        long[] keys = new long[hi - lo + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = a[lo + i];
+        }
+        return keys;
+    }
+
+    /**
+     * @return the copy of a[lo .. hi] as {@code long} keys in the same order.
+     */
+    private static long[] keys(long[] a, int lo, int hi) {
+        return Arrays.copyOfRange(a, lo, hi + 1);
+    }
+
+    /**
+     * @return the copy of a[lo .. hi] as {@code long} keys in the order of {@link Double#compare(double, double)}.
+     */
+    private static long[] keys(double[] a, int lo, int hi) {
+        long[] keys = new long[hi - lo + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = Radix.sortableBits(a[lo + i]);
+        }
+        return keys;
+    }
+
+    /**
+     * The copy of the measured items, sorted by merge sort while their inversions are counted.
+     * Subclasses provide access to the items and to the auxiliary array of the merge.
+     */
+    private abstract static class Counter {
+        /**
+         * @return the number of items.
+         */
+        abstract int size();
+
+        /**
+         * @return {@code true} if the item i is less than the item j.
+         */
+        abstract boolean less(int i, int j);
+
+        /**
+         * Exchanges the items i and j.
+         */
+        abstract void swap(int i, int j);
+
+        /**
+         * Copies the items lo .. hi to the auxiliary array.
+         */
+        abstract void save(int lo, int hi);
+
+        /**
+         * @return {@code true} if the saved item i is less than the saved item j.
+         */
+        abstract boolean lessSaved(int i, int j);
+
+        /**
+         * Replaces the item k by the saved item i.
+         */
+        abstract void restore(int i, int k);
+
+        /**
+         * Sorts the items lo .. hi and returns the number of their inversions.
+         */
+        long count(int lo, int hi) {
+            if (hi - lo < CUTOFF) {
+                return insertion(lo, hi);
+            }
+
+            int mid = lo + (hi - lo) / 2;
+            long inversions = count(lo, mid) + count(mid + 1, hi);
+            return inversions + merge(lo, mid, hi);
+        }
+
+        /**
+         * Sorts the items lo .. hi using insertion sort and returns the number of exchanges,
+         * which is the number of inversions.
+         */
+        long insertion(int lo, int hi) {
+            long inversions = 0;
+            for (int i = lo + 1; i <= hi; i++) {
+                int j = i;
+                for (; j > lo && less(j, j - 1); j--) {
+                    swap(j, j - 1);
+                }
+                inversions += i - j;
+            }
+            return inversions;
+        }
+
+        /**
+         * Merges the sorted items lo .. mid with the sorted items mid+1 .. hi and returns
+         * the number of pairs in descending order with one item in each part.
+         */
+        long merge(int lo, int mid, int hi) {
+            if (!less(mid + 1, mid)) {
+                return 0;
+            }
+
+            save(lo, hi);
+            long inversions = 0;
+            int i = lo, j = mid + 1;
+            for (int k = lo; k <= hi; k++) {
+                if (i > mid) {
+                    restore(j++, k);
+                } else if (j > hi) {
+                    restore(i++, k);
+                } else if (lessSaved(j, i)) {
+                    restore(j++, k);
+                    inversions += mid - i + 1;
+                } else {
+                    restore(i++, k);
+                }
+            }
+            return inversions;
+        }
+    }
+
+    /**
+     * The counter of items ordered by a comparator.
+     */
+    private static class ObjectCounter<T> extends Counter {
+        private final T[] a;
+        private final T[] aux;
+        private final Comparator<T> c;
+
+        ObjectCounter(T[] a, Comparator<T> c) {
+            this.a = a;
+            this.aux = Arrays.copyOf(a, a.length);
+            this.c = c;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int size() {
+            return a.length;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        boolean less(int i, int j) {
+            return SortSupport.less(a[i], a[j], c);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void swap(int i, int j) {
+            SortSupport.swap(a, i, j);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void save(int lo, int hi) {
+            System.arraycopy(a, lo, aux, lo, hi - lo + 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        boolean lessSaved(int i, int j) {
+            return SortSupport.less(aux[i], aux[j], c);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void restore(int i, int k) {
+            a[k] = aux[i];
+        }
+    }
+
+    /**
+     * The counter of items mapped to {@code long} keys in the same order.
+     */
+    private static class LongCounter extends Counter {
+        private final long[] a;
+        private final long[] aux;
+
+        LongCounter(long[] a) {
+            this.a = a;
+            this.aux = new long[a.length];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        int size() {
+            return a.length;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        boolean less(int i, int j) {
+            return a[i] < a[j];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void swap(int i, int j) {
+            SortSupport.swap(a, i, j);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void save(int lo, int hi) {
+            System.arraycopy(a, lo, aux, lo, hi - lo + 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        boolean lessSaved(int i, int j) {
+            return aux[i] < aux[j];
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void restore(int i, int k) {
+            a[k] = aux[i];
+        }
+    }
+
+    /**
+     * Counts the inversions of the items lo .. hi of the counter sorting the halves in parallel.
+     */
+    private static class CountTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final Counter counter;
+        private final int lo;
+        private final int hi;
+
+        CountTask(Counter counter, int lo, int hi) {
+            this.counter = counter;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected Long compute() {
+            if (hi - lo < PARALLEL_THRESHOLD) {
+                return counter.count(lo, hi);
+            }
+
+            int mid = lo + (hi - lo) / 2;
+            CountTask left = new CountTask(counter, lo, mid);
+            left.fork();
+            long inversions = new CountTask(counter, mid + 1, hi).compute() + left.join();
+            return inversions + counter.merge(lo, mid, hi);
+        }
+    }
+}
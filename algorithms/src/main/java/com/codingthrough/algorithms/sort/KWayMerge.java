@@ -0,0 +1,178 @@
+package com.codingthrough.algorithms.sort;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Array;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+import static com.codingthrough.algorithms.Preconditions.requireTrue;
+
+/**
+ * The <tt>KWayMerge</tt> provides a number of static methods to merge
+ * any number of sorted arrays or iterators into a single sorted sequence.
+ * <p>
+ * The smallest head of the runs is selected by a {@link LoserTree}, which takes
+ * ceil(log2(k)) comparisons per item for k runs. Items are moved straight from the
+ * runs to the result without intermediate copies, the iterator version holds only
+ * the current head of every run. Equal items are returned in the order of their runs,
+ * so the merge is stable. Slices of arrays can be merged by passing
+ * {@link com.codingthrough.algorithms.adt.ArrayIterator}s bounded to the slices.
+ * </p>
+ * For a merge of two halves of an array, see {@link Merge}.
+ */
+public class KWayMerge extends SortSupport {
+    /**
+     * The maximum size of array to allocate.
+     * Some VMs reserve some header words in an array.
+     * Attempts to allocate larger arrays may result in
+     * OutOfMemoryError: Requested array size exceeds VM limit
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private KWayMerge() {
+    }
+
+    /**
+     * Merges the arrays sorted in the natural order into a new sorted array.
+     *
+     * @param runs the sorted arrays to be merged
+     * @return the new array containing the items of all runs in ascending order
+     * @throws IllegalArgumentException if the runs or any of them is {@code null},
+     *                                  or the total length exceeds the maximum array size
+     */
+    public static <T extends Comparable<T>> T[] merge(@Nonnull T[][] runs) {
+        return merge(runs, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Merges the arrays sorted in the order of the comparator into a new sorted array.
+     *
+     * @param runs the sorted arrays to be merged
+     * @param c    the comparator specifying the order
+     * @return the new array containing the items of all runs in ascending order
+     * @throws IllegalArgumentException if the runs, any of them or the comparator is {@code null},
+     *                                  or the total length exceeds the maximum array size
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T[] merge(@Nonnull T[][] runs, @Nonnull Comparator<T> c) {
+        ensureNotNull(runs, "Runs [runs] should not be null.");
+        ensureNotNull(c, "Comparator [c] should not be null.");
+
+        int k = runs.length;
+        long n = 0;
+        for (int i = 0; i < k; i++) {
+            n += ensureNotNull(runs[i], "Run %d should not be null.", i).length;
+        }
+        requireTrue(n <= MAX_ARRAY_SIZE, "Total length %d of runs should not exceed %d.", n, MAX_ARRAY_SIZE);
+
+        T[] a = (T[]) Array.newInstance(runs.getClass().getComponentType().getComponentType(), (int) n);
+        int[] next = new int[k];
+        LoserTree<T> tree = new LoserTree<>(k, c);
+        for (int i = 0; i < k; i++) {
+            if (runs[i].length > 0) {
+                tree.set(i, runs[i][0]);
+                next[i] = 1;
+            }
+        }
+        tree.init();
+
+        for (int i = 0; !tree.isEmpty(); i++) {
+            a[i] = tree.peek();
+
+            int w = tree.winner();
+            if (next[w] < runs[w].length) {
+                tree.replace(runs[w][next[w]++]);
+            } else {
+                tree.exhaust();
+            }
+        }
+
+        assert n == 0 || sorted(a, c);
+        return a;
+    }
+
+    /**
+     * Returns an iterator merging the iterators sorted in the natural order.
+     * The iterators are consumed as the merged items are requested.
+     *
+     * @param runs the sorted iterators to be merged
+     * @return the iterator returning the items of all runs in ascending order
+     * @throws IllegalArgumentException if the runs or any of them is {@code null}
+     */
+    public static <T extends Comparable<T>> Iterator<T> merge(@Nonnull List<? extends Iterator<T>> runs) {
+        return merge(runs, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Returns an iterator merging the iterators sorted in the order of the comparator.
+     * The iterators are consumed as the merged items are requested.
+     *
+     * @param runs the sorted iterators to be merged
+     * @param c    the comparator specifying the order
+     * @return the iterator returning the items of all runs in ascending order
+     * @throws IllegalArgumentException if the runs, any of them or the comparator is {@code null}
+     */
+    public static <T> Iterator<T> merge(@Nonnull List<? extends Iterator<T>> runs, @Nonnull Comparator<T> c) {
+        ensureNotNull(runs, "Runs [runs] should not be null.");
+        ensureNotNull(c, "Comparator [c] should not be null.");
+
+        return new MergingIterator<>(runs, c);
+    }
+
+    /**
+     * The iterator returning the smallest head of the runs.
+     */
+    private static class MergingIterator<T> implements Iterator<T> {
+        private final Iterator<?>[] runs;
+        private final LoserTree<T> tree;
+
+        MergingIterator(List<? extends Iterator<T>> runs, Comparator<T> c) {
+            int k = runs.size();
+            this.runs = new Iterator<?>[k];
+            this.tree = new LoserTree<>(k, c);
+
+            for (int i = 0; i < k; i++) {
+                Iterator<T> run = ensureNotNull(runs.get(i), "Run %d should not be null.", i);
+                this.runs[i] = run;
+                if (run.hasNext()) {
+                    tree.set(i, run.next());
+                }
+            }
+            tree.init();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            return !tree.isEmpty();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (tree.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            T item = tree.peek();
+            Iterator<T> run = (Iterator<T>) runs[tree.winner()];
+            if (run.hasNext()) {
+                tree.replace(run.next());
+            } else {
+                tree.exhaust();
+            }
+            return item;
+        }
+    }
+}
@@ -0,0 +1,392 @@
+package com.codingthrough.algorithms.sort;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+
+/**
+ * The <tt>KeyEncoder</tt> encodes a composite key of an item into a normalized key,
+ * a sequence of bytes whose unsigned lexicographic order is the order of the composite key,
+ * and sorts items by their normalized keys.
+ * <p>
+ * The fields of the key are compared in the order they are added, like a comparator chained
+ * by {@link java.util.Comparator#thenComparing(java.util.Comparator)}. Every field is encoded
+ * in ascending or descending order: an <tt>int</tt> or <tt>long</tt> as its big-endian bytes with
+ * the sign bit flipped, a <tt>double</tt> as the bits of the order of {@link Double#compare(double, double)},
+ * a string as its characters, one byte for ASCII characters and three bytes for others, followed
+ * by a terminating zero byte. A descending field has its bytes inverted. A string may be {@code null},
+ * it is preceded by a byte placing {@code null} before or after all strings regardless of the order.
+ * </p>
+ * <p>
+ * {@link #sort(Object[])} encodes every key exactly once, sorts the first 8 bytes of the keys
+ * by {@link Radix} sort and compares full keys only for the runs of items sharing the same first
+ * 8 bytes, so the comparisons never go through a comparator. The sort is stable.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Radix_sort#Most_significant_digit">Wikipedia article - Radix Sort</a>.
+ * </p>
+ */
+public class KeyEncoder<T> extends SortSupport {
+    /**
+     * The number of bytes of the key sorted by radix sort.
+     */
+    private static final int PREFIX = Long.BYTES;
+
+    /**
+     * Runs of items sharing the prefix up to this size are sorted by insertion sort.
+     */
+    private static final int CUTOFF = 15;
+
+    /**
+     * The direction of the order of a field.
+     */
+    public enum Order {
+        ASCENDING, DESCENDING
+    }
+
+    /**
+     * The placement of {@code null} values of a field.
+     */
+    public enum Nulls {
+        FIRST, LAST
+    }
+
+    /**
+     * The encoder of a single field of the key.
+     */
+    private interface Field<T> {
+        void encode(T item, Output out);
+    }
+
+    private final List<Field<? super T>> fields;
+
+    private KeyEncoder(List<Field<? super T>> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Creates an encoder of the key made of the {@code int} field.
+     *
+     * @param key   the function extracting the field
+     * @param order the order of the field
+     * @return the encoder of the key
+     * @throws IllegalArgumentException if the key extractor or the order is {@code null}
+     */
+    public static <T> KeyEncoder<T> byInt(@Nonnull ToIntFunction<? super T> key, @Nonnull Order order) {
+        return new KeyEncoder<T>(Collections.emptyList()).thenInt(key, order);
+    }
+
+    /**
+     * Creates an encoder of the key made of the {@code long} field.
+     *
+     * @param key   the function extracting the field
+     * @param order the order of the field
+     * @return the encoder of the key
+     * @throws IllegalArgumentException if the key extractor or the order is {@code null}
+     */
+    public static <T> KeyEncoder<T> byLong(@Nonnull ToLongFunction<? super T> key, @Nonnull Order order) {
+        return new KeyEncoder<T>(Collections.emptyList()).thenLong(key, order);
+    }
+
+    /**
+     * Creates an encoder of the key made of the {@code double} field
+     * ordered as defined by {@link Double#compare(double, double)}.
+     *
+     * @param key   the function extracting the field
+     * @param order the order of the field
+     * @return the encoder of the key
+     * @throws IllegalArgumentException if the key extractor or the order is {@code null}
+     */
+    public static <T> KeyEncoder<T> byDouble(@Nonnull ToDoubleFunction<? super T> key, @Nonnull Order order) {
+        return new KeyEncoder<T>(Collections.emptyList()).thenDouble(key, order);
+    }
+
+    /**
+     * Creates an encoder of the key made of the string field
+     * ordered as defined by {@link String#compareTo(String)}.
+     *
+     * @param key   the function extracting the field
+     * @param order the order of the field
+     * @param nulls the placement of {@code null} strings
+     * @return the encoder of the key
+     * @throws IllegalArgumentException if the key extractor, the order or the placement of nulls is {@code null}
+     */
+    public static <T> KeyEncoder<T> byString(@Nonnull Function<? super T, String> key,
+                                             @Nonnull Order order, @Nonnull Nulls nulls) {
+        return new KeyEncoder<T>(Collections.emptyList()).thenString(key, order, nulls);
+    }
+
+    /**
+     * Returns an encoder of this key followed by the {@code int} field.
+     *
+     * @param key   the function extracting the field
+     * @param order the order of the field
+     * @return the encoder of the key
+     * @throws IllegalArgumentException if the key extractor or the order is {@code null}
+     */
+    public KeyEncoder<T> thenInt(@Nonnull ToIntFunction<? super T> key, @Nonnull Order order) {
+        ensureNotNull(key, "Key extractor [key] should not be null.");
+        int mask = mask(order);
+        return then((item, out) -> out.writeInt(key.applyAsInt(item) ^ Integer.MIN_VALUE, mask));
+    }
+
+    /**
+     * Returns an encoder of this key followed by the {@code long} field.
+     *
+     * @param key   the function extracting the field
+     * @param order the order of the field
+     * @return the encoder of the key
+     * @throws IllegalArgumentException if the key extractor or the order is {@code null}
+     */
+    public KeyEncoder<T> thenLong(@Nonnull ToLongFunction<? super T> key, @Nonnull Order order) {
+        ensureNotNull(key, "Key extractor [key] should not be null.");
+        int mask = mask(order);
+        return then((item, out) -> out.writeLong(key.applyAsLong(item) ^ Long.MIN_VALUE, mask));
+    }
+
+    /**
+     * Returns an encoder of this key followed by the {@code double} field
+     * ordered as defined by {@link Double#compare(double, double)}.
+     *
+     * @param key   the function extracting the field
+     * @param order the order of the field
+     * @return the encoder of the key
+     * @throws IllegalArgumentException if the key extractor or the order is {@code null}
+     */
+    public KeyEncoder<T> thenDouble(@Nonnull ToDoubleFunction<? super T> key, @Nonnull Order order) {
+        ensureNotNull(key, "Key extractor [key] should not be null.");
+        int mask = mask(order);
+        return then((item, out) -> out.writeLong(Radix.sortableBits(key.applyAsDouble(item)) ^ Long.MIN_VALUE, mask));
+    }
+
+    /**
+     * Returns an encoder of this key followed by the string field
+     * ordered as defined by {@link String#compareTo(String)}.
+     *
+     * @param key   the function extracting the field
+     * @param order the order of the field
+     * @param nulls the placement of {@code null} strings
+     * @return the encoder of the key
+     * @throws IllegalArgumentException if the key extractor, the order or the placement of nulls is {@code null}
+     */
+    public KeyEncoder<T> thenString(@Nonnull Function<? super T, String> key,
+                                    @Nonnull Order order, @Nonnull Nulls nulls) {
+        ensureNotNull(key, "Key extractor [key] should not be null.");
+        ensureNotNull(nulls, "Placement of nulls [nulls] should not be null.");
+        int mask = mask(order);
+        int nullMarker = nulls == Nulls.FIRST ? 0 : 1;
+        return then((item, out) -> {
+            String s = key.apply(item);
+            if (s == null) {
+                out.write(nullMarker, 0);
+                return;
+            }
+
+            out.write(nullMarker ^ 1, 0);
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c < 0x7F) {
+                    out.write(c + 1, mask);
+                } else {
+                    out.write(0x80, mask);
+                    out.write(c >>> 8, mask);
+                    out.write(c, mask);
+                }
+            }
+            out.write(0, mask);
+        });
+    }
+
+    /**
+     * Encodes the key of the item.
+     *
+     * @param item the item
+     * @return the normalized key of the item
+     */
+    public byte[] encode(T item) {
+        Output out = new Output();
+        encode(item, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Rearranges the array in ascending order of the keys. The sort is stable.
+     *
+     * @param a the array to be sorted
+     */
+    public void sort(T[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order of the keys. The sort is stable.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public void sort(T[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        byte[][] keys = new byte[n][];
+        long[] prefixes = new long[n];
+        int[] index = new int[n];
+        Output out = new Output();
+        for (int i = 0; i < n; i++) {
+            out.reset();
+            encode(a[lo + i], out);
+            keys[i] = out.toByteArray();
+            // flip the sign bit to order the unsigned prefixes as signed longs
+            prefixes[i] = prefix(keys[i]) ^ Long.MIN_VALUE;
+            index[i] = i;
+        }
+
+        Radix.sort(prefixes, index);
+
+        int[] aux = null;
+        for (int i = 0, j; i < n; i = j) {
+            j = i + 1;
+            while (j < n && prefixes[j] == prefixes[i]) {
+                j++;
+            }
+            if (j - i > CUTOFF && aux == null) {
+                aux = new int[n];
+            }
+            sort(keys, index, aux, i, j);
+        }
+
+        T[] items = Arrays.copyOfRange(a, lo, hi + 1);
+        for (int i = 0; i < n; i++) {
+            a[lo + i] = items[index[i]];
+        }
+    }
+
+    /**
+     * Encodes the key of the item into the output.
+     */
+    private void encode(T item, Output out) {
+        for (Field<? super T> field : fields) {
+            field.encode(item, out);
+        }
+    }
+
+    /**
+     * @return the encoder of this key followed by the field.
+     */
+    private KeyEncoder<T> then(Field<? super T> field) {
+        List<Field<? super T>> then = new ArrayList<>(fields);
+        then.add(field);
+        return new KeyEncoder<>(then);
+    }
+
+    /**
+     * @return the mask inverting the bytes of a field in descending order.
+     */
+    private static int mask(Order order) {
+        ensureNotNull(order, "Order [order] should not be null.");
+        return order == Order.DESCENDING ? 0xFF : 0;
+    }
+
+    /**
+     * @return the first 8 bytes of the key as a big-endian long, padded by zero bytes.
+     */
+    private static long prefix(byte[] key) {
+        long prefix = 0;
+        for (int i = 0; i < PREFIX; i++) {
+            prefix = (prefix << 8) | (i < key.length ? key[i] & 0xFF : 0);
+        }
+        return prefix;
+    }
+
+    /**
+     * Rearranges index[lo .. hi - 1] of the keys sharing the prefix in ascending order of the keys.
+     */
+    private static void sort(byte[][] keys, int[] index, int[] aux, int lo, int hi) {
+        if (hi - lo <= CUTOFF) {
+            for (int i = lo + 1; i < hi; i++) {
+                int x = index[i], j = i;
+                for (; j > lo && compare(keys[x], keys[index[j - 1]]) < 0; j--) {
+                    index[j] = index[j - 1];
+                }
+                index[j] = x;
+            }
+            return;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        sort(keys, index, aux, lo, mid);
+        sort(keys, index, aux, mid, hi);
+        if (compare(keys[index[mid]], keys[index[mid - 1]]) >= 0) {
+            return;
+        }
+
+        System.arraycopy(index, lo, aux, lo, hi - lo);
+        for (int k = lo, i = lo, j = mid; k < hi; k++) {
+            if (i == mid) {
+                index[k] = aux[j++];
+            } else if (j == hi || compare(keys[aux[j]], keys[aux[i]]) >= 0) {
+                index[k] = aux[i++];
+            } else {
+                index[k] = aux[j++];
+            }
+        }
+    }
+
+    /**
+     * Compares the keys sharing the prefix as unsigned bytes following the prefix.
+     */
+    private static int compare(byte[] x, byte[] y) {
+        int length = Math.min(x.length, y.length);
+        for (int i = PREFIX; i < length; i++) {
+            if (x[i] != y[i]) {
+                return (x[i] & 0xFF) - (y[i] & 0xFF);
+            }
+        }
+        return x.length - y.length;
+    }
+
+    /**
+     * The growable array of bytes of a key.
+     */
+    private static class Output {
+        private byte[] bytes = new byte[16];
+        private int size;
+
+        void reset() {
+            size = 0;
+        }
+
+        void write(int b, int mask) {
+            if (size == bytes.length) {
+                bytes = Arrays.copyOf(bytes, size << 1);
+            }
+            bytes[size++] = (byte) (b ^ mask);
+        }
+
+        void writeInt(int v, int mask) {
+            for (int shift = Integer.SIZE - 8; shift >= 0; shift -= 8) {
+                write(v >>> shift, mask);
+            }
+        }
+
+        void writeLong(long v, int mask) {
+            for (int shift = Long.SIZE - 8; shift >= 0; shift -= 8) {
+                write((int) (v >>> shift), mask);
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.Comparator;
+
+/**
+ * The <tt>LoserTree</tt> selects the smallest head among k sorted sources
+ * using a tournament tree that keeps the loser of every match in its nodes.
+ * <p>
+ * Replacing the head of the winning source replays only the matches on the path
+ * from its leaf to the root, that is ceil(log2(k)) comparisons, compared to about
+ * twice as many for a binary heap. Equal heads are won by the source with the lower
+ * index, so merging runs in their original order is stable.
+ * </p>
+ */
+class LoserTree<T> {
+    /**
+     * tree[0] is the source that won the tournament, tree[1 .. k-1]
+     * are the sources that lost the match played at the node.
+     */
+    private final int[] tree;
+
+    /**
+     * The current head of every source.
+     */
+    private final Object[] heads;
+
+    /**
+     * Marks the sources having no more items.
+     */
+    private final boolean[] exhausted;
+
+    private final Comparator<? super T> c;
+
+    /**
+     * Creates a tree of {@param k} sources, all of them are exhausted
+     * until their heads are set and the tree is initialized.
+     */
+    LoserTree(int k, Comparator<? super T> c) {
+        this.tree = new int[Math.max(k, 1)];
+        this.heads = new Object[k];
+        this.exhausted = new boolean[k];
+        this.c = c;
+
+        for (int i = 0; i < k; i++) {
+            exhausted[i] = true;
+        }
+    }
+
+    /**
+     * Sets the first head of the source, the tree has to be initialized afterwards.
+     */
+    void set(int source, T head) {
+        heads[source] = head;
+        exhausted[source] = false;
+    }
+
+    /**
+     * Plays all matches once the heads of the sources are set.
+     */
+    void init() {
+        int k = heads.length;
+        if (k == 0) {
+            tree[0] = -1;
+            return;
+        }
+
+        // winners[node] is the winner of the subtree, leaves are stored at k .. 2k-1
+        int[] winners = new int[2 * k];
+        for (int i = 0; i < k; i++) {
+            winners[k + i] = i;
+        }
+        for (int node = k - 1; node > 0; node--) {
+            int left = winners[2 * node], right = winners[2 * node + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                tree[node] = right;
+            } else {
+                winners[node] = right;
+                tree[node] = left;
+            }
+        }
+        tree[0] = k == 1 ? 0 : winners[1];
+    }
+
+    /**
+     * @return {@code true} if every source is exhausted.
+     */
+    boolean isEmpty() {
+        return tree[0] < 0 || exhausted[tree[0]];
+    }
+
+    /**
+     * @return the source having the smallest head.
+     */
+    int winner() {
+        return tree[0];
+    }
+
+    /**
+     * @return the smallest head of all sources.
+     */
+    @SuppressWarnings("unchecked")
+    T peek() {
+        return (T) heads[tree[0]];
+    }
+
+    /**
+     * Replaces the head of the winning source with its next item.
+     */
+    void replace(T head) {
+        int winner = tree[0];
+        heads[winner] = head;
+        replay(winner);
+    }
+
+    /**
+     * Marks the winning source as exhausted.
+     */
+    void exhaust() {
+        int winner = tree[0];
+        heads[winner] = null;
+        exhausted[winner] = true;
+        replay(winner);
+    }
+
+    /**
+     * Replays the matches on the path from the leaf of the source to the root.
+     */
+    private void replay(int source) {
+        int k = heads.length;
+        int winner = source;
+        for (int node = (source + k) >>> 1; node > 0; node >>>= 1) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+
+    /**
+     * @return {@code true} if the head of source {@param i} goes before the head of source {@param j}.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean beats(int i, int j) {
+        if (exhausted[i]) {
+            return false;
+        }
+        if (exhausted[j]) {
+            return true;
+        }
+
+        int cmp = c.compare((T) heads[i], (T) heads[j]);
+        return cmp < 0 || cmp == 0 && i < j;
+    }
+}
@@ -0,0 +1,217 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The <tt>MSD</tt> provides a number of static methods to sort an array of strings
+ * or byte keys using most-significant-digit first radix sort algorithm.
+ * <p>
+ * Keys are distributed by their digit at position d and every bucket is sorted
+ * recursively starting at position d + 1, so a shared prefix is examined only once
+ * instead of on every comparison. Buckets of up to 15 keys are sorted by insertion
+ * sort that compares keys starting at position d. Strings are split into two 8-bit
+ * digits per character which gives the order of {@link String#compareTo(String)},
+ * byte keys are compared as unsigned bytes, which for UTF-8 encoded strings is the
+ * order of code points. The sort is stable.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Radix_sort#Most_significant_digit">Wikipedia article - Radix Sort</a>.
+ * </p>
+ * For a comparison based version, see {@link Quick3String}.
+ */
+public class MSD extends SortSupport {
+    /**
+     * The number of distinct values of a digit.
+     */
+    private static final int R = 256;
+
+    /**
+     * Buckets of this size or smaller are sorted by insertion sort.
+     */
+    private static final int CUTOFF = 15;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private MSD() {
+    }
+
+    /**
+     * Rearranges the array of strings in ascending order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(String[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array of strings inside bounds in ascending order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(String[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        String[] aux = new String[hi - lo + 1];
+        sort(a, aux, new ArrayList<>(), 0, lo, hi, 0);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the strings inside bounds that share their first {@param d} digits.
+     *
+     * @param a      the array to be sorted
+     * @param aux    the auxiliary array for distribution
+     * @param counts the count arrays of the levels of recursion, reused by later buckets
+     * @param level  the level of recursion
+     * @param lo     the lowest index
+     * @param hi     the highest index
+     * @param d      the digit to distribute by
+     */
+    private static void sort(String[] a, String[] aux, List<int[]> counts, int level, int lo, int hi, int d) {
+        if (hi <= lo + CUTOFF) {
+            Insertion.sort(a, lo, hi, d >>> 1);
+            return;
+        }
+
+        if (level == counts.size()) {
+            counts.add(new int[R + 2]);
+        }
+        int[] count = counts.get(level);
+
+        // skip the digits shared by all keys without recursion
+        while (true) {
+            Arrays.fill(count, 0);
+            for (int i = lo; i <= hi; i++) {
+                count[digitAt(a[i], d) + 2]++;
+            }
+
+            int first = digitAt(a[lo], d);
+            if (first < 0 || count[first + 2] != hi - lo + 1) {
+                break;
+            }
+            d++;
+        }
+
+        for (int r = 0; r < R + 1; r++) {
+            count[r + 1] += count[r];
+        }
+
+        for (int i = lo; i <= hi; i++) {
+            aux[count[digitAt(a[i], d) + 1]++] = a[i];
+        }
+
+        System.arraycopy(aux, 0, a, lo, hi - lo + 1);
+
+        // keys ended before digit d are in place, every other bucket shares digit d
+        for (int r = 0; r < R; r++) {
+            sort(a, aux, counts, level + 1, lo + count[r], lo + count[r + 1] - 1, d + 1);
+        }
+    }
+
+    /**
+     * Rearranges the array of keys in unsigned lexicographic order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[][] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array of keys inside bounds in unsigned lexicographic order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[][] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        byte[][] aux = new byte[hi - lo + 1][];
+        sort(a, aux, new ArrayList<>(), 0, lo, hi, 0);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the keys inside bounds that share their first {@param d} bytes.
+     *
+     * @param a      the array to be sorted
+     * @param aux    the auxiliary array for distribution
+     * @param counts the count arrays of the levels of recursion, reused by later buckets
+     * @param level  the level of recursion
+     * @param lo     the lowest index
+     * @param hi     the highest index
+     * @param d      the byte to distribute by
+     */
+    private static void sort(byte[][] a, byte[][] aux, List<int[]> counts, int level, int lo, int hi, int d) {
+        if (hi <= lo + CUTOFF) {
+            Insertion.sort(a, lo, hi, d);
+            return;
+        }
+
+        if (level == counts.size()) {
+            counts.add(new int[R + 2]);
+        }
+        int[] count = counts.get(level);
+
+        // skip the bytes shared by all keys without recursion
+        while (true) {
+            Arrays.fill(count, 0);
+            for (int i = lo; i <= hi; i++) {
+                count[byteAt(a[i], d) + 2]++;
+            }
+
+            int first = byteAt(a[lo], d);
+            if (first < 0 || count[first + 2] != hi - lo + 1) {
+                break;
+            }
+            d++;
+        }
+
+        for (int r = 0; r < R + 1; r++) {
+            count[r + 1] += count[r];
+        }
+
+        for (int i = lo; i <= hi; i++) {
+            aux[count[byteAt(a[i], d) + 1]++] = a[i];
+        }
+
+        System.arraycopy(aux, 0, a, lo, hi - lo + 1);
+
+        // keys ended before byte d are in place, every other bucket shares byte d
+        for (int r = 0; r < R; r++) {
+            sort(a, aux, counts, level + 1, lo + count[r], lo + count[r + 1] - 1, d + 1);
+        }
+    }
+
+    /**
+     * @return the 8-bit digit at position {@param d} of the string, the high byte of
+     * the character d / 2 for even positions and its low byte for odd ones,
+     * or -1 if the string is shorter.
+     */
+    private static int digitAt(String s, int d) {
+        int i = d >>> 1;
+        if (i >= s.length()) {
+            return -1;
+        }
+
+        char c = s.charAt(i);
+        return (d & 1) == 0 ? c >>> 8 : c & 0xFF;
+    }
+
+    /**
+     * @return the unsigned byte at position {@param d} of the key, or -1 if the key is shorter.
+     */
+    private static int byteAt(byte[] key, int d) {
+        return d < key.length ? key[d] & 0xFF : -1;
+    }
+}
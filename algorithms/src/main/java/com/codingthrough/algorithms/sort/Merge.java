@@ -1,8 +1,11 @@
 package com.codingthrough.algorithms.sort;
 
+import javax.annotation.Nonnull;
 import java.lang.reflect.Array;
 import java.util.Comparator;
 
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+
 /**
  * The <tt>Merge</tt> provides a number of static methods to sort an array
  * using top-down merge sort algorithm.
@@ -14,6 +17,12 @@ import java.util.Comparator;
  * For an bottom-up version, see {@link MergeBU}.
  */
 public class Merge extends SortSupport {
+    /**
+     * Subarrays smaller than this are not split further: objects are sorted by insertion
+     * sort, which keeps the sort stable, and primitives by a sorting network.
+     */
+    private static final int CUTOFF = Network.MAX_SIZE;
+
     /**
      * This class should not be instantiated.
      */
@@ -40,7 +49,37 @@ public class Merge extends SortSupport {
     public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi) {
         checkBounds(a.length, lo, hi);
 
-        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), a.length);
+        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the natural order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        T[] aux = ctx.aux(a, hi - lo + 1);
         sort(a, aux, lo, hi);
     }
 
@@ -53,7 +92,8 @@ public class Merge extends SortSupport {
      * @param hi  the highest index
      */
     private static <T extends Comparable<T>> void sort(T[] a, T[] aux, int lo, int hi) {
-        if (lo >= hi) {
+        if (hi - lo < CUTOFF) {
+            Insertion.sort(a, lo, hi);
             return;
         }
 
@@ -85,7 +125,39 @@ public class Merge extends SortSupport {
     public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c) {
         checkBounds(a.length, lo, hi);
 
-        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), a.length);
+        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), hi - lo + 1);
+        sort(a, aux, lo, hi, c);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param c   the comparator specifying the order
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T> void sort(T[] a, Comparator<T> c, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, c, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param c   the comparator specifying the order
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        T[] aux = ctx.aux(a, hi - lo + 1);
         sort(a, aux, lo, hi, c);
     }
 
@@ -99,7 +171,8 @@ public class Merge extends SortSupport {
      * @param c   the comparator specifying the order
      */
     private static <T> void sort(T[] a, T[] aux, int lo, int hi, Comparator<T> c) {
-        if (lo >= hi) {
+        if (hi - lo < CUTOFF) {
+            Insertion.sort(a, lo, hi, c);
             return;
         }
 
@@ -109,26 +182,73 @@ public class Merge extends SortSupport {
         merge(a, aux, lo, mid, hi, c);
     }
 
+    /**
+     * Rearranges the array in ascending order using the natural order,
+     * sorting independent halves concurrently, see {@link MergeX#parallelSort(Comparable[])}.
+     *
+     * @param a the array to be sorted
+     */
+    public static <T extends Comparable<T>> void parallelSort(T[] a) {
+        MergeX.parallelSort(a);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order,
+     * sorting independent halves concurrently, see {@link MergeX#parallelSort(Comparable[], int, int)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static <T extends Comparable<T>> void parallelSort(T[] a, int lo, int hi) {
+        MergeX.parallelSort(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator,
+     * sorting independent halves concurrently, see {@link MergeX#parallelSort(Object[], Comparator)}.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator specifying the order
+     */
+    public static <T> void parallelSort(T[] a, Comparator<T> c) {
+        MergeX.parallelSort(a, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator,
+     * sorting independent halves concurrently, see {@link MergeX#parallelSort(Object[], int, int, Comparator)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     */
+    public static <T> void parallelSort(T[] a, int lo, int hi, Comparator<T> c) {
+        MergeX.parallelSort(a, lo, hi, c);
+    }
+
 
     /**
-     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[lo .. hi].
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
      */
     private static <T extends Comparable<T>> void merge(T[] a, T[] aux, int lo, int mid, int hi) {
         assert sorted(a, lo, mid);
         assert sorted(a, mid + 1, hi);
 
-        System.arraycopy(a, lo, aux, lo, hi + 1 - lo);
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
 
-        int j = lo, k = mid + 1;
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
         for (int i = lo; i <= hi; i++) {
-            if (j > mid) {
+            if (j > jHi) {
                 a[i] = aux[k++];
-            } else if (k > hi) {
+            } else if (k > kHi) {
                 a[i] = aux[j++];
-            } else if (less(aux[j], aux[k])) {
-                a[i] = aux[j++];
-            } else {
+            } else if (less(aux[k], aux[j])) {
                 a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
             }
         }
 
@@ -136,27 +256,721 @@ public class Merge extends SortSupport {
     }
 
     /**
-     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[lo .. hi].
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
      */
     private static <T> void merge(T[] a, T[] aux, int lo, int mid, int hi, Comparator<T> c) {
         assert sorted(a, lo, mid, c);
         assert sorted(a, mid + 1, hi, c);
 
-        System.arraycopy(a, lo, aux, lo, hi + 1 - lo);
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
 
-        int j = lo, k = mid + 1;
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
         for (int i = lo; i <= hi; i++) {
-            if (j > mid) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j], c)) {
                 a[i] = aux[k++];
-            } else if (k > hi) {
+            } else {
                 a[i] = aux[j++];
-            } else if (less(aux[j], aux[k], c)) {
+            }
+        }
+
+        assert sorted(a, lo, hi, c);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int[] aux = new int[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(int[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(int[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        int[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(int[] a, int[] aux, int lo, int hi) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        merge(a, aux, lo, mid, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(int[] a, int[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
                 a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
             } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        long[] aux = new long[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(long[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(long[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        long[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(long[] a, long[] aux, int lo, int hi) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        merge(a, aux, lo, mid, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(long[] a, long[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
                 a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
             }
         }
 
-        assert sorted(a, lo, hi, c);
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        double[] aux = new double[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(double[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(double[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        double[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(double[] a, double[] aux, int lo, int hi) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        merge(a, aux, lo, mid, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(double[] a, double[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(float[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        float[] aux = new float[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(float[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(float[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        float[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(float[] a, float[] aux, int lo, int hi) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        merge(a, aux, lo, mid, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(float[] a, float[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(short[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        short[] aux = new short[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(short[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(short[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        short[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(short[] a, short[] aux, int lo, int hi) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        merge(a, aux, lo, mid, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(short[] a, short[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(char[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        char[] aux = new char[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(char[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(char[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        char[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(char[] a, char[] aux, int lo, int hi) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        merge(a, aux, lo, mid, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(char[] a, char[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        byte[] aux = new byte[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(byte[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(byte[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        byte[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(byte[] a, byte[] aux, int lo, int hi) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        merge(a, aux, lo, mid, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(byte[] a, byte[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
     }
 }
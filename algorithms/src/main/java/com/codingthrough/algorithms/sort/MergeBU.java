@@ -1,8 +1,12 @@
 package com.codingthrough.algorithms.sort;
 
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.lang.reflect.Array;
 import java.util.Comparator;
 
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+
 /**
  * The <tt>MergeBU</tt> provides a number of static methods to sort an array
  * using bottom-up merge sort algorithm.
@@ -11,8 +15,25 @@ import java.util.Comparator;
  * see <a href="https://en.wikipedia.org/wiki/Merge_sort">Wikipedia article - Merge Sort</a>.
  * </p>
  * For an top-down version, see {@link Merge}.
+ * For a natural (run adaptive) mode, see {@link #sortNatural(Comparable[])}.
+ * For a cancellable mode, see {@link #sort(Comparable[], CancellationToken, SortProgress)}.
  */
 public class MergeBU extends SortSupport {
+    /**
+     * The number of items merged between checks of the cancellation token.
+     */
+    private static final int CHECK_INTERVAL = 1 << 14;
+
+    /**
+     * Natural runs shorter than this are extended by insertion sort before merging.
+     */
+    private static final int MIN_RUN = 16;
+
+    /**
+     * The number of consecutive wins of one run after which a natural merge switches to exponential search.
+     */
+    private static final int MIN_GALLOP = 7;
+
     /**
      * This class should not be instantiated.
      */
@@ -39,7 +60,37 @@ public class MergeBU extends SortSupport {
     public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi) {
         checkBounds(a.length, lo, hi);
 
-        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), a.length);
+        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the natural order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        T[] aux = ctx.aux(a, hi - lo + 1);
         sort(a, aux, lo, hi);
     }
 
@@ -54,8 +105,8 @@ public class MergeBU extends SortSupport {
     private static <T extends Comparable<T>> void sort(T[] a, T[] aux, int lo, int hi) {
         int n = hi - lo + 1;
         for (int sz = 1; sz < n; sz *= 2) {
-            for (int i = lo; i < n; i += 2 * sz) {
-                merge(a, aux, i, i + sz - 1, Math.min(n, i + 2 * sz - 1));
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
             }
         }
     }
@@ -82,7 +133,39 @@ public class MergeBU extends SortSupport {
     public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c) {
         checkBounds(a.length, lo, hi);
 
-        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), a.length);
+        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), hi - lo + 1);
+        sort(a, aux, lo, hi, c);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param c   the comparator specifying the order
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T> void sort(T[] a, Comparator<T> c, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, c, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param c   the comparator specifying the order
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        T[] aux = ctx.aux(a, hi - lo + 1);
         sort(a, aux, lo, hi, c);
     }
 
@@ -98,32 +181,212 @@ public class MergeBU extends SortSupport {
     private static <T> void sort(T[] a, T[] aux, int lo, int hi, Comparator<T> c) {
         int n = hi - lo + 1;
         for (int sz = 1; sz < n; sz *= 2) {
-            for (int i = lo; i < n; i += 2 * sz) {
-                merge(a, aux, i, i + sz - 1, Math.min(n, i + 2 * sz - 1), c);
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi), c);
+            }
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending order using the natural order,
+     * checking the cancellation token between merges.
+     * <p>
+     * The token is checked before the first merge, after every pass over the array and between merges
+     * once at least {@value #CHECK_INTERVAL} items have been merged since the last check, every check
+     * first reports the progress. A cancelled sort throws {@link SortCancelledException} between merges,
+     * so the array holds a permutation of its original items.
+     * </p>
+     *
+     * @param a        the array to be sorted
+     * @param token    the token cancelling the sort
+     * @param progress the listener of the progress, or {@code null}
+     * @throws IllegalArgumentException if the cancellation token is {@code null}
+     * @throws SortCancelledException   if the sort has been cancelled
+     */
+    public static <T extends Comparable<T>> void sort(T[] a,
+                                                      @Nonnull CancellationToken token, @Nullable SortProgress progress) {
+        sort(a, 0, a.length - 1, token, progress);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order,
+     * checking the cancellation token between merges,
+     * see {@link #sort(Comparable[], CancellationToken, SortProgress)}.
+     *
+     * @param a        the array to be sorted
+     * @param lo       the lowest index
+     * @param hi       the highest index
+     * @param token    the token cancelling the sort
+     * @param progress the listener of the progress, or {@code null}
+     * @throws IllegalArgumentException if the cancellation token is {@code null}
+     * @throws SortCancelledException   if the sort has been cancelled
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi,
+                                                      @Nonnull CancellationToken token, @Nullable SortProgress progress) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(token, "Cancellation token [token] should not be null.");
+
+        Checkpoint checkpoint = new Checkpoint(hi - lo + 1, token, progress);
+        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), hi - lo + 1);
+        sort(a, aux, lo, hi, checkpoint);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order,
+     * passing the checkpoint between merges.
+     */
+    private static <T extends Comparable<T>> void sort(T[] a, T[] aux, int lo, int hi, Checkpoint checkpoint) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                checkpoint.merged(i - lo);
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+            checkpoint.passed();
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator,
+     * checking the cancellation token between merges,
+     * see {@link #sort(Comparable[], CancellationToken, SortProgress)}.
+     *
+     * @param a        the array to be sorted
+     * @param c        the comparator specifying the order
+     * @param token    the token cancelling the sort
+     * @param progress the listener of the progress, or {@code null}
+     * @throws IllegalArgumentException if the cancellation token is {@code null}
+     * @throws SortCancelledException   if the sort has been cancelled
+     */
+    public static <T> void sort(T[] a, Comparator<T> c,
+                                @Nonnull CancellationToken token, @Nullable SortProgress progress) {
+        sort(a, 0, a.length - 1, c, token, progress);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator,
+     * checking the cancellation token between merges,
+     * see {@link #sort(Comparable[], CancellationToken, SortProgress)}.
+     *
+     * @param a        the array to be sorted
+     * @param lo       the lowest index
+     * @param hi       the highest index
+     * @param c        the comparator specifying the order
+     * @param token    the token cancelling the sort
+     * @param progress the listener of the progress, or {@code null}
+     * @throws IllegalArgumentException if the cancellation token is {@code null}
+     * @throws SortCancelledException   if the sort has been cancelled
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c,
+                                @Nonnull CancellationToken token, @Nullable SortProgress progress) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(token, "Cancellation token [token] should not be null.");
+
+        Checkpoint checkpoint = new Checkpoint(hi - lo + 1, token, progress);
+        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), hi - lo + 1);
+        sort(a, aux, lo, hi, c, checkpoint);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator,
+     * passing the checkpoint between merges.
+     */
+    private static <T> void sort(T[] a, T[] aux, int lo, int hi, Comparator<T> c, Checkpoint checkpoint) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                checkpoint.merged(i - lo);
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi), c);
             }
+            checkpoint.passed();
         }
     }
 
+    /**
+     * Rearranges the array in ascending order using the natural order.
+     * <p>
+     * Unlike {@link #sort(Comparable[])} the natural mode does not merge fixed power-of-two
+     * widths, it finds ascending runs (reversing strictly descending ones) and keeps them on
+     * a stack of pending runs whose lengths are kept balanced, so presorted input takes n - 1
+     * comparisons and input of r runs takes O(n log r) time. Merges skip the items already
+     * in place and switch to exponential (galloping) search when one run keeps winning,
+     * so a short run is merged into a long one in time logarithmic in the long run.
+     * The sort is stable.
+     * </p>
+     *
+     * @param a the array to be sorted
+     */
+    public static <T extends Comparable<T>> void sortNatural(T[] a) {
+        sortNatural(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order,
+     * merging natural runs, see {@link #sortNatural(Comparable[])}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static <T extends Comparable<T>> void sortNatural(T[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        mergeRuns(a, lo, hi, Comparator.<T>naturalOrder());
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator,
+     * merging natural runs, see {@link #sortNatural(Comparable[])}.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator specifying the order
+     */
+    public static <T> void sortNatural(T[] a, Comparator<T> c) {
+        sortNatural(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator,
+     * merging natural runs, see {@link #sortNatural(Comparable[])}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     */
+    public static <T> void sortNatural(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+
+        mergeRuns(a, lo, hi, c);
+
+        assert sorted(a, lo, hi, c);
+    }
+
 
     /**
-     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[lo .. hi].
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
      */
     private static <T extends Comparable<T>> void merge(T[] a, T[] aux, int lo, int mid, int hi) {
         assert sorted(a, lo, mid);
         assert sorted(a, mid + 1, hi);
 
-        System.arraycopy(a, lo, aux, lo, hi + 1 - lo);
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
 
-        int j = lo, k = mid + 1;
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
         for (int i = lo; i <= hi; i++) {
-            if (j > mid) {
+            if (j > jHi) {
                 a[i] = aux[k++];
-            } else if (k > hi) {
-                a[i] = aux[j++];
-            } else if (less(aux[j], aux[k])) {
+            } else if (k > kHi) {
                 a[i] = aux[j++];
-            } else {
+            } else if (less(aux[k], aux[j])) {
                 a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
             }
         }
 
@@ -131,27 +394,1183 @@ public class MergeBU extends SortSupport {
     }
 
     /**
-     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[lo .. hi].
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
      */
     private static <T> void merge(T[] a, T[] aux, int lo, int mid, int hi, Comparator<T> c) {
         assert sorted(a, lo, mid, c);
         assert sorted(a, mid + 1, hi, c);
 
-        System.arraycopy(a, lo, aux, lo, hi + 1 - lo);
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
 
-        int j = lo, k = mid + 1;
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
         for (int i = lo; i <= hi; i++) {
-            if (j > mid) {
+            if (j > jHi) {
                 a[i] = aux[k++];
-            } else if (k > hi) {
-                a[i] = aux[j++];
-            } else if (less(aux[j], aux[k], c)) {
+            } else if (k > kHi) {
                 a[i] = aux[j++];
-            } else {
+            } else if (less(aux[k], aux[j], c)) {
                 a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
             }
         }
 
         assert sorted(a, lo, hi, c);
     }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int[] aux = new int[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(int[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(int[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        int[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(int[] a, int[] aux, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order,
+     * checking the cancellation token between merges,
+     * see {@link #sort(Comparable[], CancellationToken, SortProgress)}.
+     *
+     * @param a        the array to be sorted
+     * @param token    the token cancelling the sort
+     * @param progress the listener of the progress, or {@code null}
+     * @throws IllegalArgumentException if the cancellation token is {@code null}
+     * @throws SortCancelledException   if the sort has been cancelled
+     */
+    public static void sort(int[] a, @Nonnull CancellationToken token, @Nullable SortProgress progress) {
+        sort(a, 0, a.length - 1, token, progress);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order,
+     * checking the cancellation token between merges,
+     * see {@link #sort(Comparable[], CancellationToken, SortProgress)}.
+     *
+     * @param a        the array to be sorted
+     * @param lo       the lowest index
+     * @param hi       the highest index
+     * @param token    the token cancelling the sort
+     * @param progress the listener of the progress, or {@code null}
+     * @throws IllegalArgumentException if the cancellation token is {@code null}
+     * @throws SortCancelledException   if the sort has been cancelled
+     */
+    public static void sort(int[] a, int lo, int hi,
+                            @Nonnull CancellationToken token, @Nullable SortProgress progress) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(token, "Cancellation token [token] should not be null.");
+
+        Checkpoint checkpoint = new Checkpoint(hi - lo + 1, token, progress);
+        int[] aux = new int[hi - lo + 1];
+        sort(a, aux, lo, hi, checkpoint);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order,
+     * passing the checkpoint between merges.
+     */
+    private static void sort(int[] a, int[] aux, int lo, int hi, Checkpoint checkpoint) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                checkpoint.merged(i - lo);
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+            checkpoint.passed();
+        }
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(int[] a, int[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        long[] aux = new long[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(long[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(long[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        long[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(long[] a, long[] aux, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order,
+     * checking the cancellation token between merges,
+     * see {@link #sort(Comparable[], CancellationToken, SortProgress)}.
+     *
+     * @param a        the array to be sorted
+     * @param token    the token cancelling the sort
+     * @param progress the listener of the progress, or {@code null}
+     * @throws IllegalArgumentException if the cancellation token is {@code null}
+     * @throws SortCancelledException   if the sort has been cancelled
+     */
+    public static void sort(long[] a, @Nonnull CancellationToken token, @Nullable SortProgress progress) {
+        sort(a, 0, a.length - 1, token, progress);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order,
+     * checking the cancellation token between merges,
+     * see {@link #sort(Comparable[], CancellationToken, SortProgress)}.
+     *
+     * @param a        the array to be sorted
+     * @param lo       the lowest index
+     * @param hi       the highest index
+     * @param token    the token cancelling the sort
+     * @param progress the listener of the progress, or {@code null}
+     * @throws IllegalArgumentException if the cancellation token is {@code null}
+     * @throws SortCancelledException   if the sort has been cancelled
+     */
+    public static void sort(long[] a, int lo, int hi,
+                            @Nonnull CancellationToken token, @Nullable SortProgress progress) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(token, "Cancellation token [token] should not be null.");
+
+        Checkpoint checkpoint = new Checkpoint(hi - lo + 1, token, progress);
+        long[] aux = new long[hi - lo + 1];
+        sort(a, aux, lo, hi, checkpoint);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order,
+     * passing the checkpoint between merges.
+     */
+    private static void sort(long[] a, long[] aux, int lo, int hi, Checkpoint checkpoint) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                checkpoint.merged(i - lo);
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+            checkpoint.passed();
+        }
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(long[] a, long[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        double[] aux = new double[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(double[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(double[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        double[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(double[] a, double[] aux, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)},
+     * checking the cancellation token between merges,
+     * see {@link #sort(Comparable[], CancellationToken, SortProgress)}.
+     *
+     * @param a        the array to be sorted
+     * @param token    the token cancelling the sort
+     * @param progress the listener of the progress, or {@code null}
+     * @throws IllegalArgumentException if the cancellation token is {@code null}
+     * @throws SortCancelledException   if the sort has been cancelled
+     */
+    public static void sort(double[] a, @Nonnull CancellationToken token, @Nullable SortProgress progress) {
+        sort(a, 0, a.length - 1, token, progress);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)},
+     * checking the cancellation token between merges,
+     * see {@link #sort(Comparable[], CancellationToken, SortProgress)}.
+     *
+     * @param a        the array to be sorted
+     * @param lo       the lowest index
+     * @param hi       the highest index
+     * @param token    the token cancelling the sort
+     * @param progress the listener of the progress, or {@code null}
+     * @throws IllegalArgumentException if the cancellation token is {@code null}
+     * @throws SortCancelledException   if the sort has been cancelled
+     */
+    public static void sort(double[] a, int lo, int hi,
+                            @Nonnull CancellationToken token, @Nullable SortProgress progress) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(token, "Cancellation token [token] should not be null.");
+
+        Checkpoint checkpoint = new Checkpoint(hi - lo + 1, token, progress);
+        double[] aux = new double[hi - lo + 1];
+        sort(a, aux, lo, hi, checkpoint);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order,
+     * passing the checkpoint between merges.
+     */
+    private static void sort(double[] a, double[] aux, int lo, int hi, Checkpoint checkpoint) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                checkpoint.merged(i - lo);
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+            checkpoint.passed();
+        }
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(double[] a, double[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(float[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        float[] aux = new float[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(float[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(float[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        float[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(float[] a, float[] aux, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+        }
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(float[] a, float[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(short[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        short[] aux = new short[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(short[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(short[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        short[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(short[] a, short[] aux, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+        }
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(short[] a, short[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(char[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        char[] aux = new char[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(char[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(char[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        char[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(char[] a, char[] aux, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+        }
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(char[] a, char[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        byte[] aux = new byte[hi - lo + 1];
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(byte[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(byte[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        byte[] aux = ctx.aux(a, hi - lo + 1);
+        sort(a, aux, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     */
+    private static void sort(byte[] a, byte[] aux, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int sz = 1; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, aux, i, i + sz - 1, Math.min(i + 2 * sz - 1, hi));
+            }
+        }
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[0 .. hi-lo].
+     */
+    private static void merge(byte[] a, byte[] aux, int lo, int mid, int hi) {
+        assert sorted(a, lo, mid);
+        assert sorted(a, mid + 1, hi);
+
+        System.arraycopy(a, lo, aux, 0, hi + 1 - lo);
+
+        int j = 0, k = mid + 1 - lo;
+        int jHi = mid - lo, kHi = hi - lo;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges a[lo .. hi] in ascending order using the comparator by merging its natural runs.
+     * Ascending runs are found from left to right, strictly descending ones are reversed, which keeps
+     * the sort stable, and runs shorter than {@link #MIN_RUN} are extended by insertion sort.
+     * Every run is pushed onto a stack of pending runs, which is collapsed after each push
+     * to keep its balance invariants, see {@link #collapse}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void mergeRuns(T[] a, int lo, int hi, Comparator<T> c) {
+        // every run but the last one has at least MIN_RUN items, so the stack of run ends never overflows
+        int[] ends = new int[(hi - lo + 1) / MIN_RUN + 1];
+        int runs = 0;
+        T[] aux = null;
+        for (int start = lo; start <= hi; start = ends[runs - 1] + 1) {
+            int end = start;
+            if (end < hi) {
+                end++;
+                if (less(a[end], a[start], c)) {
+                    while (end < hi && less(a[end + 1], a[end], c)) {
+                        end++;
+                    }
+                    for (int i = start, j = end; i < j; i++, j--) {
+                        swap(a, i, j);
+                    }
+                } else {
+                    while (end < hi && !less(a[end + 1], a[end], c)) {
+                        end++;
+                    }
+                }
+            }
+
+            if (end - start + 1 < MIN_RUN && end < hi) {
+                end = Math.min(start + MIN_RUN - 1, hi);
+                Insertion.sort(a, start, end, c);
+            }
+            ends[runs++] = end;
+
+            if (runs > 1) {
+                if (aux == null) {
+                    // only the shorter of two merged runs is copied
+                    aux = (T[]) Array.newInstance(a.getClass().getComponentType(), (hi - lo + 1) / 2);
+                }
+                runs = collapse(a, aux, lo, ends, runs, false, c);
+            }
+        }
+        collapse(a, aux, lo, ends, runs, true, c);
+    }
+
+    /**
+     * Merges adjacent runs on the top of the stack of run ends until the top runs X, Y, Z
+     * (Z on the top) satisfy |X| > |Y| + |Z| and |Y| > |Z|, and the run W below X satisfies
+     * |W| > |X| + |Y|, or until a single run is left if the collapse is forced. The run lengths
+     * then grow at least as fast as the Fibonacci numbers from the top of the stack to its bottom,
+     * so every item takes part in O(log n) merges of runs of similar lengths.
+     *
+     * @return the number of runs left on the stack
+     */
+    private static <T> int collapse(T[] a, T[] aux, int lo, int[] ends, int runs, boolean force, Comparator<T> c) {
+        while (runs > 1) {
+            int z = runLength(ends, lo, runs - 1);
+            int y = runLength(ends, lo, runs - 2);
+            int x = runs > 2 ? runLength(ends, lo, runs - 3) : Integer.MAX_VALUE;
+            int w = runs > 3 ? runLength(ends, lo, runs - 4) : Integer.MAX_VALUE;
+
+            // the lower of the two runs to be merged, Y is merged with the shorter of its neighbours
+            int r;
+            if (force || x <= y + z || w <= x + y) {
+                r = x < z ? runs - 3 : runs - 2;
+            } else if (y <= z) {
+                r = runs - 2;
+            } else {
+                break;
+            }
+
+            mergeGalloping(a, aux, r == 0 ? lo : ends[r - 1] + 1, ends[r], ends[r + 1], c);
+            ends[r] = ends[r + 1];
+            if (r + 2 < runs) {
+                ends[r + 1] = ends[r + 2];
+            }
+            runs--;
+        }
+        return runs;
+    }
+
+    /**
+     * @return the length of the run {@param r} on the stack of run ends.
+     */
+    private static int runLength(int[] ends, int lo, int r) {
+        return ends[r] - (r == 0 ? lo - 1 : ends[r - 1]);
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 .. hi] copying the shorter of them to aux.
+     * The items already in place at both ends are skipped by exponential search,
+     * so merging a short run into a long one takes O(m log n) comparisons.
+     */
+    private static <T> void mergeGalloping(T[] a, T[] aux, int lo, int mid, int hi, Comparator<T> c) {
+        // the items of the left run not greater than the first item of the right run are in place
+        lo += countBefore(a[mid + 1], a, lo, mid, true, c);
+        if (lo > mid) {
+            return;
+        }
+        // the items of the right run not less than the last item of the left run are in place
+        hi -= countAfter(a[mid], a, mid + 1, hi, true, c);
+
+        if (mid - lo <= hi - mid - 1) {
+            mergeForward(a, aux, lo, mid, hi, c);
+        } else {
+            mergeBackward(a, aux, lo, mid, hi, c);
+        }
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 .. hi] from the left using aux[0 .. mid-lo].
+     * Once one run has won {@link #MIN_GALLOP} times in a row its winning items are found
+     * by exponential search and moved at once.
+     */
+    private static <T> void mergeForward(T[] a, T[] aux, int lo, int mid, int hi, Comparator<T> c) {
+        int n = mid - lo + 1;
+        System.arraycopy(a, lo, aux, 0, n);
+
+        int i = 0, j = mid + 1, k = lo;
+        int leftWins = 0, rightWins = 0;
+        while (i < n && j <= hi) {
+            if (leftWins >= MIN_GALLOP) {
+                int m = countBefore(a[j], aux, i, n - 1, true, c);
+                System.arraycopy(aux, i, a, k, m);
+                i += m;
+                k += m;
+                if (i == n) {
+                    break;
+                }
+                // aux[i] is greater than a[j]
+                a[k++] = a[j++];
+                leftWins = m >= MIN_GALLOP ? MIN_GALLOP : 0;
+                rightWins = 1;
+            } else if (rightWins >= MIN_GALLOP) {
+                int m = countBefore(aux[i], a, j, hi, false, c);
+                System.arraycopy(a, j, a, k, m);
+                j += m;
+                k += m;
+                if (j > hi) {
+                    break;
+                }
+                // a[j] is not less than aux[i]
+                a[k++] = aux[i++];
+                rightWins = m >= MIN_GALLOP ? MIN_GALLOP : 0;
+                leftWins = 1;
+            } else if (less(a[j], aux[i], c)) {
+                a[k++] = a[j++];
+                rightWins++;
+                leftWins = 0;
+            } else {
+                a[k++] = aux[i++];
+                leftWins++;
+                rightWins = 0;
+            }
+        }
+        // the rest of the right run is in place already
+        System.arraycopy(aux, i, a, k, n - i);
+    }
+
+    /**
+     * Merges a[lo .. mid] with a[mid+1 .. hi] from the right using aux[0 .. hi-mid-1].
+     * Once one run has won {@link #MIN_GALLOP} times in a row its winning items are found
+     * by exponential search and moved at once.
+     */
+    private static <T> void mergeBackward(T[] a, T[] aux, int lo, int mid, int hi, Comparator<T> c) {
+        int n = hi - mid;
+        System.arraycopy(a, mid + 1, aux, 0, n);
+
+        int i = mid, j = n - 1, k = hi;
+        int leftWins = 0, rightWins = 0;
+        while (i >= lo && j >= 0) {
+            if (leftWins >= MIN_GALLOP) {
+                int m = countAfter(aux[j], a, lo, i, false, c);
+                i -= m;
+                k -= m;
+                System.arraycopy(a, i + 1, a, k + 1, m);
+                if (i < lo) {
+                    break;
+                }
+                // a[i] is not greater than aux[j]
+                a[k--] = aux[j--];
+                leftWins = m >= MIN_GALLOP ? MIN_GALLOP : 0;
+                rightWins = 1;
+            } else if (rightWins >= MIN_GALLOP) {
+                int m = countAfter(a[i], aux, 0, j, true, c);
+                j -= m;
+                k -= m;
+                System.arraycopy(aux, j + 1, a, k + 1, m);
+                if (j < 0) {
+                    break;
+                }
+                // aux[j] is less than a[i]
+                a[k--] = a[i--];
+                rightWins = m >= MIN_GALLOP ? MIN_GALLOP : 0;
+                leftWins = 1;
+            } else if (less(aux[j], a[i], c)) {
+                a[k--] = a[i--];
+                leftWins++;
+                rightWins = 0;
+            } else {
+                a[k--] = aux[j--];
+                rightWins++;
+                leftWins = 0;
+            }
+        }
+        // the rest of the left run is in place already
+        System.arraycopy(aux, 0, a, lo, j + 1);
+    }
+
+    /**
+     * Returns the number of leading items of the sorted a[lo .. hi] less than the key,
+     * or not greater than the key if {@param inclusive} is set. The search probes
+     * a[lo], a[lo+1], a[lo+3], a[lo+7], ... before the binary search, so it takes
+     * O(log m) comparisons for the answer m.
+     */
+    private static <T> int countBefore(T key, T[] a, int lo, int hi, boolean inclusive, Comparator<T> c) {
+        int n = hi - lo + 1;
+        int known = 0, bound = 1;
+        while (bound <= n && (inclusive ? !less(key, a[lo + bound - 1], c) : less(a[lo + bound - 1], key, c))) {
+            known = bound;
+            bound = bound > n / 2 ? n + 1 : 2 * bound;
+        }
+
+        // the answer is in [known, min(bound-1, n)]
+        int l = known, r = Math.min(bound - 1, n);
+        while (l < r) {
+            int m = (l + r) >>> 1;
+            if (inclusive ? !less(key, a[lo + m], c) : less(a[lo + m], key, c)) {
+                l = m + 1;
+            } else {
+                r = m;
+            }
+        }
+        return l;
+    }
+
+    /**
+     * Returns the number of trailing items of the sorted a[lo .. hi] greater than the key,
+     * or not less than the key if {@param inclusive} is set, searching exponentially from a[hi],
+     * see {@link #countBefore}.
+     */
+    private static <T> int countAfter(T key, T[] a, int lo, int hi, boolean inclusive, Comparator<T> c) {
+        int n = hi - lo + 1;
+        int known = 0, bound = 1;
+        while (bound <= n && (inclusive ? !less(a[hi - bound + 1], key, c) : less(key, a[hi - bound + 1], c))) {
+            known = bound;
+            bound = bound > n / 2 ? n + 1 : 2 * bound;
+        }
+
+        // the answer is in [known, min(bound-1, n)]
+        int l = known, r = Math.min(bound - 1, n);
+        while (l < r) {
+            int m = (l + r) >>> 1;
+            if (inclusive ? !less(a[hi - m], key, c) : less(key, a[hi - m], c)) {
+                l = m + 1;
+            } else {
+                r = m;
+            }
+        }
+        return l;
+    }
+
+    /**
+     * The progress of a cancellable sort of n items, which reports the progress
+     * and checks the cancellation token at most once per {@link #CHECK_INTERVAL} merged items.
+     */
+    private static class Checkpoint {
+        private final long n;
+        private final long total;
+        private final CancellationToken token;
+        private final SortProgress progress;
+        private int pass;
+        private long last;
+
+        /**
+         * Creates the checkpoint and checks the token before the sort starts.
+         */
+        Checkpoint(int n, CancellationToken token, SortProgress progress) {
+            this.n = n;
+            this.total = (long) n * (Integer.SIZE - Integer.numberOfLeadingZeros(n - 1));
+            this.token = token;
+            this.progress = progress;
+
+            check(0);
+        }
+
+        /**
+         * Reports that the current pass has merged the items before the offset
+         * and checks the token if enough items have been merged since the last check.
+         */
+        void merged(int offset) {
+            long done = pass * n + offset;
+            if (done - last >= CHECK_INTERVAL) {
+                check(done);
+            }
+        }
+
+        /**
+         * Reports that the current pass is completed and checks the token unless the sort is completed.
+         */
+        void passed() {
+            long done = ++pass * n;
+            if (done < total) {
+                check(done);
+            } else if (progress != null) {
+                progress.progress(done, total);
+            }
+        }
+
+        private void check(long done) {
+            last = done;
+            if (progress != null) {
+                progress.progress(done, total);
+            }
+            if (token.isCancelled()) {
+                throw new SortCancelledException(
+                        String.format("Sort has been cancelled after merging %d of %d items.", done, total));
+            }
+        }
+    }
 }
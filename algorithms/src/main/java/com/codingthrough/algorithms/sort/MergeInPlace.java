@@ -0,0 +1,1264 @@
+package com.codingthrough.algorithms.sort;
+
+import java.lang.reflect.Array;
+import java.util.Comparator;
+
+/**
+ * The <tt>MergeInPlace</tt> provides a number of static methods to sort an array
+ * using in-place stable merge sort algorithm.
+ * <p>
+ * Blocks of 20 items are sorted by insertion sort and then merged bottom-up like
+ * in {@link MergeBU}, but instead of an auxiliary array of the size of the input
+ * the merge uses a buffer of sqrt(n) items, at least 32. Parts that fit in the buffer
+ * are merged linearly through it, larger parts are merged by the SymMerge algorithm:
+ * a binary search finds the pieces to be exchanged by a rotation, after which two
+ * smaller pairs of parts are merged recursively. Adjacent parts already in order are
+ * not merged at all. The sort takes O(n log^2 n) time in the worst case, O(sqrt(n))
+ * extra memory and O(log n) stack, and is stable.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Merge_sort#In-place_merge_sort">Wikipedia article - In-place Merge Sort</a>
+ * and <a href="https://doi.org/10.1007/978-3-540-30140-0_63">Kim, Kutzner - Stable Minimum Storage Merging by Symmetric Comparisons</a>.
+ * </p>
+ * For a version using an auxiliary array, see {@link Merge}.
+ */
+public class MergeInPlace extends SortSupport {
+    /**
+     * Blocks of this size are sorted by insertion sort before merging.
+     */
+    private static final int BLOCK_SIZE = 20;
+
+    /**
+     * The minimum size of the merge buffer.
+     */
+    private static final int MIN_BUFFER_SIZE = 32;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private MergeInPlace() {
+    }
+
+    /**
+     * Rearranges the array in ascending order using the natural order.
+     *
+     * @param a the array to be sorted
+     */
+    public static <T extends Comparable<T>> void sort(T[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int i = lo; i <= hi; i += BLOCK_SIZE) {
+            Insertion.sort(a, i, Math.min(i + BLOCK_SIZE - 1, hi));
+        }
+
+        T[] buf = (T[]) Array.newInstance(a.getClass().getComponentType(), bufferSize(n));
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, buf, i, i + sz, Math.min(i + 2 * sz, hi + 1));
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid-1] with a[mid .. hi-1] in place. When one of the parts fits
+     * in the buffer the parts are merged through the buffer, otherwise the parts are
+     * split by a binary search so that rotating the middle pieces leaves two pairs of
+     * parts to be merged independently.
+     */
+    private static <T extends Comparable<T>> void merge(T[] a, T[] buf, int lo, int mid, int hi) {
+        if (!less(a[mid], a[mid - 1])) {
+            return;
+        }
+
+        if (mid - lo <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, mid - lo);
+            int i = 0, j = mid, k = lo, n = mid - lo;
+            while (i < n && j < hi) {
+                a[k++] = less(a[j], buf[i]) ? a[j++] : buf[i++];
+            }
+            System.arraycopy(buf, i, a, k, n - i);
+            return;
+        }
+
+        if (hi - mid <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, hi - mid);
+            int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+            while (i >= lo && j >= 0) {
+                a[k--] = less(buf[j], a[i]) ? a[i--] : buf[j--];
+            }
+            System.arraycopy(buf, 0, a, lo, j + 1);
+            return;
+        }
+
+        // find the split of a[lo .. hi-1] around its middle m so that moving a[start .. mid-1]
+        // after a[mid .. end-1] keeps every item of the left pieces not greater than the right ones
+        int m = (lo + hi) >>> 1;
+        int n = m + mid;
+        int start, r;
+        if (mid > m) {
+            start = n - hi;
+            r = m;
+        } else {
+            start = lo;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int h = (start + r) >>> 1;
+            if (!less(a[p - h], a[h])) {
+                start = h + 1;
+            } else {
+                r = h;
+            }
+        }
+
+        int end = n - start;
+        if (start < mid && mid < end) {
+            rotate(a, buf, start, mid, end);
+        }
+        if (lo < start && start < m) {
+            merge(a, buf, lo, start, m);
+        }
+        if (m < end && end < hi) {
+            merge(a, buf, m, end, hi);
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator specifying the order
+     */
+    public static <T> void sort(T[] a, Comparator<T> c) {
+        sort(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int i = lo; i <= hi; i += BLOCK_SIZE) {
+            Insertion.sort(a, i, Math.min(i + BLOCK_SIZE - 1, hi), c);
+        }
+
+        T[] buf = (T[]) Array.newInstance(a.getClass().getComponentType(), bufferSize(n));
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, buf, i, i + sz, Math.min(i + 2 * sz, hi + 1), c);
+            }
+        }
+
+        assert sorted(a, lo, hi, c);
+    }
+
+    /**
+     * Merges a[lo .. mid-1] with a[mid .. hi-1] in place. When one of the parts fits
+     * in the buffer the parts are merged through the buffer, otherwise the parts are
+     * split by a binary search so that rotating the middle pieces leaves two pairs of
+     * parts to be merged independently.
+     */
+    private static <T> void merge(T[] a, T[] buf, int lo, int mid, int hi, Comparator<T> c) {
+        if (!less(a[mid], a[mid - 1], c)) {
+            return;
+        }
+
+        if (mid - lo <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, mid - lo);
+            int i = 0, j = mid, k = lo, n = mid - lo;
+            while (i < n && j < hi) {
+                a[k++] = less(a[j], buf[i], c) ? a[j++] : buf[i++];
+            }
+            System.arraycopy(buf, i, a, k, n - i);
+            return;
+        }
+
+        if (hi - mid <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, hi - mid);
+            int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+            while (i >= lo && j >= 0) {
+                a[k--] = less(buf[j], a[i], c) ? a[i--] : buf[j--];
+            }
+            System.arraycopy(buf, 0, a, lo, j + 1);
+            return;
+        }
+
+        // find the split of a[lo .. hi-1] around its middle m so that moving a[start .. mid-1]
+        // after a[mid .. end-1] keeps every item of the left pieces not greater than the right ones
+        int m = (lo + hi) >>> 1;
+        int n = m + mid;
+        int start, r;
+        if (mid > m) {
+            start = n - hi;
+            r = m;
+        } else {
+            start = lo;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int h = (start + r) >>> 1;
+            if (!less(a[p - h], a[h], c)) {
+                start = h + 1;
+            } else {
+                r = h;
+            }
+        }
+
+        int end = n - start;
+        if (start < mid && mid < end) {
+            rotate(a, buf, start, mid, end);
+        }
+        if (lo < start && start < m) {
+            merge(a, buf, lo, start, m, c);
+        }
+        if (m < end && end < hi) {
+            merge(a, buf, m, end, hi, c);
+        }
+    }
+
+    /**
+     * Exchanges a[lo .. mid-1] with a[mid .. hi-1] keeping the order inside both parts.
+     */
+    private static <T> void rotate(T[] a, T[] buf, int lo, int mid, int hi) {
+        int left = mid - lo, right = hi - mid;
+        if (left <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, left);
+            System.arraycopy(a, mid, a, lo, right);
+            System.arraycopy(buf, 0, a, lo + right, left);
+            return;
+        }
+        if (right <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, right);
+            System.arraycopy(a, lo, a, lo + right, left);
+            System.arraycopy(buf, 0, a, lo, right);
+            return;
+        }
+
+        // block swaps of the shorter part with the adjacent end of the longer one
+        while (left != right) {
+            if (left > right) {
+                swapRange(a, mid - left, mid, right);
+                left -= right;
+            } else {
+                swapRange(a, mid - left, mid + right - left, left);
+                right -= left;
+            }
+        }
+        swapRange(a, mid - left, mid, left);
+    }
+
+    /**
+     * Exchanges a[i .. i+n-1] with a[j .. j+n-1].
+     */
+    private static <T> void swapRange(T[] a, int i, int j, int n) {
+        for (int k = 0; k < n; k++) {
+            swap(a, i + k, j + k);
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int i = lo; i <= hi; i += BLOCK_SIZE) {
+            Insertion.sort(a, i, Math.min(i + BLOCK_SIZE - 1, hi));
+        }
+
+        int[] buf = new int[bufferSize(n)];
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, buf, i, i + sz, Math.min(i + 2 * sz, hi + 1));
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid-1] with a[mid .. hi-1] in place. When one of the parts fits
+     * in the buffer the parts are merged through the buffer, otherwise the parts are
+     * split by a binary search so that rotating the middle pieces leaves two pairs of
+     * parts to be merged independently.
+     */
+    private static void merge(int[] a, int[] buf, int lo, int mid, int hi) {
+        if (!less(a[mid], a[mid - 1])) {
+            return;
+        }
+
+        if (mid - lo <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, mid - lo);
+            int i = 0, j = mid, k = lo, n = mid - lo;
+            while (i < n && j < hi) {
+                a[k++] = less(a[j], buf[i]) ? a[j++] : buf[i++];
+            }
+            System.arraycopy(buf, i, a, k, n - i);
+            return;
+        }
+
+        if (hi - mid <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, hi - mid);
+            int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+            while (i >= lo && j >= 0) {
+                a[k--] = less(buf[j], a[i]) ? a[i--] : buf[j--];
+            }
+            System.arraycopy(buf, 0, a, lo, j + 1);
+            return;
+        }
+
+        // find the split of a[lo .. hi-1] around its middle m so that moving a[start .. mid-1]
+        // after a[mid .. end-1] keeps every item of the left pieces not greater than the right ones
+        int m = (lo + hi) >>> 1;
+        int n = m + mid;
+        int start, r;
+        if (mid > m) {
+            start = n - hi;
+            r = m;
+        } else {
+            start = lo;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int h = (start + r) >>> 1;
+            if (!less(a[p - h], a[h])) {
+                start = h + 1;
+            } else {
+                r = h;
+            }
+        }
+
+        int end = n - start;
+        if (start < mid && mid < end) {
+            rotate(a, buf, start, mid, end);
+        }
+        if (lo < start && start < m) {
+            merge(a, buf, lo, start, m);
+        }
+        if (m < end && end < hi) {
+            merge(a, buf, m, end, hi);
+        }
+    }
+
+    /**
+     * Exchanges a[lo .. mid-1] with a[mid .. hi-1] keeping the order inside both parts.
+     */
+    private static void rotate(int[] a, int[] buf, int lo, int mid, int hi) {
+        int left = mid - lo, right = hi - mid;
+        if (left <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, left);
+            System.arraycopy(a, mid, a, lo, right);
+            System.arraycopy(buf, 0, a, lo + right, left);
+            return;
+        }
+        if (right <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, right);
+            System.arraycopy(a, lo, a, lo + right, left);
+            System.arraycopy(buf, 0, a, lo, right);
+            return;
+        }
+
+        // block swaps of the shorter part with the adjacent end of the longer one
+        while (left != right) {
+            if (left > right) {
+                swapRange(a, mid - left, mid, right);
+                left -= right;
+            } else {
+                swapRange(a, mid - left, mid + right - left, left);
+                right -= left;
+            }
+        }
+        swapRange(a, mid - left, mid, left);
+    }
+
+    /**
+     * Exchanges a[i .. i+n-1] with a[j .. j+n-1].
+     */
+    private static void swapRange(int[] a, int i, int j, int n) {
+        for (int k = 0; k < n; k++) {
+            swap(a, i + k, j + k);
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int i = lo; i <= hi; i += BLOCK_SIZE) {
+            Insertion.sort(a, i, Math.min(i + BLOCK_SIZE - 1, hi));
+        }
+
+        long[] buf = new long[bufferSize(n)];
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, buf, i, i + sz, Math.min(i + 2 * sz, hi + 1));
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid-1] with a[mid .. hi-1] in place. When one of the parts fits
+     * in the buffer the parts are merged through the buffer, otherwise the parts are
+     * split by a binary search so that rotating the middle pieces leaves two pairs of
+     * parts to be merged independently.
+     */
+    private static void merge(long[] a, long[] buf, int lo, int mid, int hi) {
+        if (!less(a[mid], a[mid - 1])) {
+            return;
+        }
+
+        if (mid - lo <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, mid - lo);
+            int i = 0, j = mid, k = lo, n = mid - lo;
+            while (i < n && j < hi) {
+                a[k++] = less(a[j], buf[i]) ? a[j++] : buf[i++];
+            }
+            System.arraycopy(buf, i, a, k, n - i);
+            return;
+        }
+
+        if (hi - mid <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, hi - mid);
+            int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+            while (i >= lo && j >= 0) {
+                a[k--] = less(buf[j], a[i]) ? a[i--] : buf[j--];
+            }
+            System.arraycopy(buf, 0, a, lo, j + 1);
+            return;
+        }
+
+        // find the split of a[lo .. hi-1] around its middle m so that moving a[start .. mid-1]
+        // after a[mid .. end-1] keeps every item of the left pieces not greater than the right ones
+        int m = (lo + hi) >>> 1;
+        int n = m + mid;
+        int start, r;
+        if (mid > m) {
+            start = n - hi;
+            r = m;
+        } else {
+            start = lo;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int h = (start + r) >>> 1;
+            if (!less(a[p - h], a[h])) {
+                start = h + 1;
+            } else {
+                r = h;
+            }
+        }
+
+        int end = n - start;
+        if (start < mid && mid < end) {
+            rotate(a, buf, start, mid, end);
+        }
+        if (lo < start && start < m) {
+            merge(a, buf, lo, start, m);
+        }
+        if (m < end && end < hi) {
+            merge(a, buf, m, end, hi);
+        }
+    }
+
+    /**
+     * Exchanges a[lo .. mid-1] with a[mid .. hi-1] keeping the order inside both parts.
+     */
+    private static void rotate(long[] a, long[] buf, int lo, int mid, int hi) {
+        int left = mid - lo, right = hi - mid;
+        if (left <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, left);
+            System.arraycopy(a, mid, a, lo, right);
+            System.arraycopy(buf, 0, a, lo + right, left);
+            return;
+        }
+        if (right <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, right);
+            System.arraycopy(a, lo, a, lo + right, left);
+            System.arraycopy(buf, 0, a, lo, right);
+            return;
+        }
+
+        // block swaps of the shorter part with the adjacent end of the longer one
+        while (left != right) {
+            if (left > right) {
+                swapRange(a, mid - left, mid, right);
+                left -= right;
+            } else {
+                swapRange(a, mid - left, mid + right - left, left);
+                right -= left;
+            }
+        }
+        swapRange(a, mid - left, mid, left);
+    }
+
+    /**
+     * Exchanges a[i .. i+n-1] with a[j .. j+n-1].
+     */
+    private static void swapRange(long[] a, int i, int j, int n) {
+        for (int k = 0; k < n; k++) {
+            swap(a, i + k, j + k);
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int i = lo; i <= hi; i += BLOCK_SIZE) {
+            Insertion.sort(a, i, Math.min(i + BLOCK_SIZE - 1, hi));
+        }
+
+        double[] buf = new double[bufferSize(n)];
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, buf, i, i + sz, Math.min(i + 2 * sz, hi + 1));
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid-1] with a[mid .. hi-1] in place. When one of the parts fits
+     * in the buffer the parts are merged through the buffer, otherwise the parts are
+     * split by a binary search so that rotating the middle pieces leaves two pairs of
+     * parts to be merged independently.
+     */
+    private static void merge(double[] a, double[] buf, int lo, int mid, int hi) {
+        if (!less(a[mid], a[mid - 1])) {
+            return;
+        }
+
+        if (mid - lo <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, mid - lo);
+            int i = 0, j = mid, k = lo, n = mid - lo;
+            while (i < n && j < hi) {
+                a[k++] = less(a[j], buf[i]) ? a[j++] : buf[i++];
+            }
+            System.arraycopy(buf, i, a, k, n - i);
+            return;
+        }
+
+        if (hi - mid <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, hi - mid);
+            int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+            while (i >= lo && j >= 0) {
+                a[k--] = less(buf[j], a[i]) ? a[i--] : buf[j--];
+            }
+            System.arraycopy(buf, 0, a, lo, j + 1);
+            return;
+        }
+
+        // find the split of a[lo .. hi-1] around its middle m so that moving a[start .. mid-1]
+        // after a[mid .. end-1] keeps every item of the left pieces not greater than the right ones
+        int m = (lo + hi) >>> 1;
+        int n = m + mid;
+        int start, r;
+        if (mid > m) {
+            start = n - hi;
+            r = m;
+        } else {
+            start = lo;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int h = (start + r) >>> 1;
+            if (!less(a[p - h], a[h])) {
+                start = h + 1;
+            } else {
+                r = h;
+            }
+        }
+
+        int end = n - start;
+        if (start < mid && mid < end) {
+            rotate(a, buf, start, mid, end);
+        }
+        if (lo < start && start < m) {
+            merge(a, buf, lo, start, m);
+        }
+        if (m < end && end < hi) {
+            merge(a, buf, m, end, hi);
+        }
+    }
+
+    /**
+     * Exchanges a[lo .. mid-1] with a[mid .. hi-1] keeping the order inside both parts.
+     */
+    private static void rotate(double[] a, double[] buf, int lo, int mid, int hi) {
+        int left = mid - lo, right = hi - mid;
+        if (left <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, left);
+            System.arraycopy(a, mid, a, lo, right);
+            System.arraycopy(buf, 0, a, lo + right, left);
+            return;
+        }
+        if (right <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, right);
+            System.arraycopy(a, lo, a, lo + right, left);
+            System.arraycopy(buf, 0, a, lo, right);
+            return;
+        }
+
+        // block swaps of the shorter part with the adjacent end of the longer one
+        while (left != right) {
+            if (left > right) {
+                swapRange(a, mid - left, mid, right);
+                left -= right;
+            } else {
+                swapRange(a, mid - left, mid + right - left, left);
+                right -= left;
+            }
+        }
+        swapRange(a, mid - left, mid, left);
+    }
+
+    /**
+     * Exchanges a[i .. i+n-1] with a[j .. j+n-1].
+     */
+    private static void swapRange(double[] a, int i, int j, int n) {
+        for (int k = 0; k < n; k++) {
+            swap(a, i + k, j + k);
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(float[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int i = lo; i <= hi; i += BLOCK_SIZE) {
+            Insertion.sort(a, i, Math.min(i + BLOCK_SIZE - 1, hi));
+        }
+
+        float[] buf = new float[bufferSize(n)];
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, buf, i, i + sz, Math.min(i + 2 * sz, hi + 1));
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid-1] with a[mid .. hi-1] in place. When one of the parts fits
+     * in the buffer the parts are merged through the buffer, otherwise the parts are
+     * split by a binary search so that rotating the middle pieces leaves two pairs of
+     * parts to be merged independently.
+     */
+    private static void merge(float[] a, float[] buf, int lo, int mid, int hi) {
+        if (!less(a[mid], a[mid - 1])) {
+            return;
+        }
+
+        if (mid - lo <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, mid - lo);
+            int i = 0, j = mid, k = lo, n = mid - lo;
+            while (i < n && j < hi) {
+                a[k++] = less(a[j], buf[i]) ? a[j++] : buf[i++];
+            }
+            System.arraycopy(buf, i, a, k, n - i);
+            return;
+        }
+
+        if (hi - mid <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, hi - mid);
+            int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+            while (i >= lo && j >= 0) {
+                a[k--] = less(buf[j], a[i]) ? a[i--] : buf[j--];
+            }
+            System.arraycopy(buf, 0, a, lo, j + 1);
+            return;
+        }
+
+        // find the split of a[lo .. hi-1] around its middle m so that moving a[start .. mid-1]
+        // after a[mid .. end-1] keeps every item of the left pieces not greater than the right ones
+        int m = (lo + hi) >>> 1;
+        int n = m + mid;
+        int start, r;
+        if (mid > m) {
+            start = n - hi;
+            r = m;
+        } else {
+            start = lo;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int h = (start + r) >>> 1;
+            if (!less(a[p - h], a[h])) {
+                start = h + 1;
+            } else {
+                r = h;
+            }
+        }
+
+        int end = n - start;
+        if (start < mid && mid < end) {
+            rotate(a, buf, start, mid, end);
+        }
+        if (lo < start && start < m) {
+            merge(a, buf, lo, start, m);
+        }
+        if (m < end && end < hi) {
+            merge(a, buf, m, end, hi);
+        }
+    }
+
+    /**
+     * Exchanges a[lo .. mid-1] with a[mid .. hi-1] keeping the order inside both parts.
+     */
+    private static void rotate(float[] a, float[] buf, int lo, int mid, int hi) {
+        int left = mid - lo, right = hi - mid;
+        if (left <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, left);
+            System.arraycopy(a, mid, a, lo, right);
+            System.arraycopy(buf, 0, a, lo + right, left);
+            return;
+        }
+        if (right <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, right);
+            System.arraycopy(a, lo, a, lo + right, left);
+            System.arraycopy(buf, 0, a, lo, right);
+            return;
+        }
+
+        // block swaps of the shorter part with the adjacent end of the longer one
+        while (left != right) {
+            if (left > right) {
+                swapRange(a, mid - left, mid, right);
+                left -= right;
+            } else {
+                swapRange(a, mid - left, mid + right - left, left);
+                right -= left;
+            }
+        }
+        swapRange(a, mid - left, mid, left);
+    }
+
+    /**
+     * Exchanges a[i .. i+n-1] with a[j .. j+n-1].
+     */
+    private static void swapRange(float[] a, int i, int j, int n) {
+        for (int k = 0; k < n; k++) {
+            swap(a, i + k, j + k);
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(short[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int i = lo; i <= hi; i += BLOCK_SIZE) {
+            Insertion.sort(a, i, Math.min(i + BLOCK_SIZE - 1, hi));
+        }
+
+        short[] buf = new short[bufferSize(n)];
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, buf, i, i + sz, Math.min(i + 2 * sz, hi + 1));
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid-1] with a[mid .. hi-1] in place. When one of the parts fits
+     * in the buffer the parts are merged through the buffer, otherwise the parts are
+     * split by a binary search so that rotating the middle pieces leaves two pairs of
+     * parts to be merged independently.
+     */
+    private static void merge(short[] a, short[] buf, int lo, int mid, int hi) {
+        if (!less(a[mid], a[mid - 1])) {
+            return;
+        }
+
+        if (mid - lo <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, mid - lo);
+            int i = 0, j = mid, k = lo, n = mid - lo;
+            while (i < n && j < hi) {
+                a[k++] = less(a[j], buf[i]) ? a[j++] : buf[i++];
+            }
+            System.arraycopy(buf, i, a, k, n - i);
+            return;
+        }
+
+        if (hi - mid <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, hi - mid);
+            int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+            while (i >= lo && j >= 0) {
+                a[k--] = less(buf[j], a[i]) ? a[i--] : buf[j--];
+            }
+            System.arraycopy(buf, 0, a, lo, j + 1);
+            return;
+        }
+
+        // find the split of a[lo .. hi-1] around its middle m so that moving a[start .. mid-1]
+        // after a[mid .. end-1] keeps every item of the left pieces not greater than the right ones
+        int m = (lo + hi) >>> 1;
+        int n = m + mid;
+        int start, r;
+        if (mid > m) {
+            start = n - hi;
+            r = m;
+        } else {
+            start = lo;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int h = (start + r) >>> 1;
+            if (!less(a[p - h], a[h])) {
+                start = h + 1;
+            } else {
+                r = h;
+            }
+        }
+
+        int end = n - start;
+        if (start < mid && mid < end) {
+            rotate(a, buf, start, mid, end);
+        }
+        if (lo < start && start < m) {
+            merge(a, buf, lo, start, m);
+        }
+        if (m < end && end < hi) {
+            merge(a, buf, m, end, hi);
+        }
+    }
+
+    /**
+     * Exchanges a[lo .. mid-1] with a[mid .. hi-1] keeping the order inside both parts.
+     */
+    private static void rotate(short[] a, short[] buf, int lo, int mid, int hi) {
+        int left = mid - lo, right = hi - mid;
+        if (left <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, left);
+            System.arraycopy(a, mid, a, lo, right);
+            System.arraycopy(buf, 0, a, lo + right, left);
+            return;
+        }
+        if (right <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, right);
+            System.arraycopy(a, lo, a, lo + right, left);
+            System.arraycopy(buf, 0, a, lo, right);
+            return;
+        }
+
+        // block swaps of the shorter part with the adjacent end of the longer one
+        while (left != right) {
+            if (left > right) {
+                swapRange(a, mid - left, mid, right);
+                left -= right;
+            } else {
+                swapRange(a, mid - left, mid + right - left, left);
+                right -= left;
+            }
+        }
+        swapRange(a, mid - left, mid, left);
+    }
+
+    /**
+     * Exchanges a[i .. i+n-1] with a[j .. j+n-1].
+     */
+    private static void swapRange(short[] a, int i, int j, int n) {
+        for (int k = 0; k < n; k++) {
+            swap(a, i + k, j + k);
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(char[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int i = lo; i <= hi; i += BLOCK_SIZE) {
+            Insertion.sort(a, i, Math.min(i + BLOCK_SIZE - 1, hi));
+        }
+
+        char[] buf = new char[bufferSize(n)];
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, buf, i, i + sz, Math.min(i + 2 * sz, hi + 1));
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid-1] with a[mid .. hi-1] in place. When one of the parts fits
+     * in the buffer the parts are merged through the buffer, otherwise the parts are
+     * split by a binary search so that rotating the middle pieces leaves two pairs of
+     * parts to be merged independently.
+     */
+    private static void merge(char[] a, char[] buf, int lo, int mid, int hi) {
+        if (!less(a[mid], a[mid - 1])) {
+            return;
+        }
+
+        if (mid - lo <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, mid - lo);
+            int i = 0, j = mid, k = lo, n = mid - lo;
+            while (i < n && j < hi) {
+                a[k++] = less(a[j], buf[i]) ? a[j++] : buf[i++];
+            }
+            System.arraycopy(buf, i, a, k, n - i);
+            return;
+        }
+
+        if (hi - mid <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, hi - mid);
+            int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+            while (i >= lo && j >= 0) {
+                a[k--] = less(buf[j], a[i]) ? a[i--] : buf[j--];
+            }
+            System.arraycopy(buf, 0, a, lo, j + 1);
+            return;
+        }
+
+        // find the split of a[lo .. hi-1] around its middle m so that moving a[start .. mid-1]
+        // after a[mid .. end-1] keeps every item of the left pieces not greater than the right ones
+        int m = (lo + hi) >>> 1;
+        int n = m + mid;
+        int start, r;
+        if (mid > m) {
+            start = n - hi;
+            r = m;
+        } else {
+            start = lo;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int h = (start + r) >>> 1;
+            if (!less(a[p - h], a[h])) {
+                start = h + 1;
+            } else {
+                r = h;
+            }
+        }
+
+        int end = n - start;
+        if (start < mid && mid < end) {
+            rotate(a, buf, start, mid, end);
+        }
+        if (lo < start && start < m) {
+            merge(a, buf, lo, start, m);
+        }
+        if (m < end && end < hi) {
+            merge(a, buf, m, end, hi);
+        }
+    }
+
+    /**
+     * Exchanges a[lo .. mid-1] with a[mid .. hi-1] keeping the order inside both parts.
+     */
+    private static void rotate(char[] a, char[] buf, int lo, int mid, int hi) {
+        int left = mid - lo, right = hi - mid;
+        if (left <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, left);
+            System.arraycopy(a, mid, a, lo, right);
+            System.arraycopy(buf, 0, a, lo + right, left);
+            return;
+        }
+        if (right <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, right);
+            System.arraycopy(a, lo, a, lo + right, left);
+            System.arraycopy(buf, 0, a, lo, right);
+            return;
+        }
+
+        // block swaps of the shorter part with the adjacent end of the longer one
+        while (left != right) {
+            if (left > right) {
+                swapRange(a, mid - left, mid, right);
+                left -= right;
+            } else {
+                swapRange(a, mid - left, mid + right - left, left);
+                right -= left;
+            }
+        }
+        swapRange(a, mid - left, mid, left);
+    }
+
+    /**
+     * Exchanges a[i .. i+n-1] with a[j .. j+n-1].
+     */
+    private static void swapRange(char[] a, int i, int j, int n) {
+        for (int k = 0; k < n; k++) {
+            swap(a, i + k, j + k);
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        for (int i = lo; i <= hi; i += BLOCK_SIZE) {
+            Insertion.sort(a, i, Math.min(i + BLOCK_SIZE - 1, hi));
+        }
+
+        byte[] buf = new byte[bufferSize(n)];
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int i = lo; i <= hi - sz; i += 2 * sz) {
+                merge(a, buf, i, i + sz, Math.min(i + 2 * sz, hi + 1));
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Merges a[lo .. mid-1] with a[mid .. hi-1] in place. When one of the parts fits
+     * in the buffer the parts are merged through the buffer, otherwise the parts are
+     * split by a binary search so that rotating the middle pieces leaves two pairs of
+     * parts to be merged independently.
+     */
+    private static void merge(byte[] a, byte[] buf, int lo, int mid, int hi) {
+        if (!less(a[mid], a[mid - 1])) {
+            return;
+        }
+
+        if (mid - lo <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, mid - lo);
+            int i = 0, j = mid, k = lo, n = mid - lo;
+            while (i < n && j < hi) {
+                a[k++] = less(a[j], buf[i]) ? a[j++] : buf[i++];
+            }
+            System.arraycopy(buf, i, a, k, n - i);
+            return;
+        }
+
+        if (hi - mid <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, hi - mid);
+            int i = mid - 1, j = hi - mid - 1, k = hi - 1;
+            while (i >= lo && j >= 0) {
+                a[k--] = less(buf[j], a[i]) ? a[i--] : buf[j--];
+            }
+            System.arraycopy(buf, 0, a, lo, j + 1);
+            return;
+        }
+
+        // find the split of a[lo .. hi-1] around its middle m so that moving a[start .. mid-1]
+        // after a[mid .. end-1] keeps every item of the left pieces not greater than the right ones
+        int m = (lo + hi) >>> 1;
+        int n = m + mid;
+        int start, r;
+        if (mid > m) {
+            start = n - hi;
+            r = m;
+        } else {
+            start = lo;
+            r = mid;
+        }
+        int p = n - 1;
+        while (start < r) {
+            int h = (start + r) >>> 1;
+            if (!less(a[p - h], a[h])) {
+                start = h + 1;
+            } else {
+                r = h;
+            }
+        }
+
+        int end = n - start;
+        if (start < mid && mid < end) {
+            rotate(a, buf, start, mid, end);
+        }
+        if (lo < start && start < m) {
+            merge(a, buf, lo, start, m);
+        }
+        if (m < end && end < hi) {
+            merge(a, buf, m, end, hi);
+        }
+    }
+
+    /**
+     * Exchanges a[lo .. mid-1] with a[mid .. hi-1] keeping the order inside both parts.
+     */
+    private static void rotate(byte[] a, byte[] buf, int lo, int mid, int hi) {
+        int left = mid - lo, right = hi - mid;
+        if (left <= buf.length) {
+            System.arraycopy(a, lo, buf, 0, left);
+            System.arraycopy(a, mid, a, lo, right);
+            System.arraycopy(buf, 0, a, lo + right, left);
+            return;
+        }
+        if (right <= buf.length) {
+            System.arraycopy(a, mid, buf, 0, right);
+            System.arraycopy(a, lo, a, lo + right, left);
+            System.arraycopy(buf, 0, a, lo, right);
+            return;
+        }
+
+        // block swaps of the shorter part with the adjacent end of the longer one
+        while (left != right) {
+            if (left > right) {
+                swapRange(a, mid - left, mid, right);
+                left -= right;
+            } else {
+                swapRange(a, mid - left, mid + right - left, left);
+                right -= left;
+            }
+        }
+        swapRange(a, mid - left, mid, left);
+    }
+
+    /**
+     * Exchanges a[i .. i+n-1] with a[j .. j+n-1].
+     */
+    private static void swapRange(byte[] a, int i, int j, int n) {
+        for (int k = 0; k < n; k++) {
+            swap(a, i + k, j + k);
+        }
+    }
+
+    /**
+     * @return the size of the merge buffer for {@param n} items.
+     */
+    static int bufferSize(int n) {
+        return Math.min(n, Math.max(MIN_BUFFER_SIZE, (int) Math.sqrt(n)));
+    }
+}
@@ -1,8 +1,12 @@
 package com.codingthrough.algorithms.sort;
 
-import java.lang.reflect.Array;
+import javax.annotation.Nonnull;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
 
 /**
  * The <tt>Merge</tt> provides a number of static methods to sort an array
@@ -15,6 +19,18 @@ import java.util.Comparator;
  * For an bottom-up version, see {@link MergeBU}.
  */
 public class MergeX extends SortSupport {
+    /**
+     * Subarrays smaller than this are not split further: objects are sorted by insertion
+     * sort, which keeps the sort stable, and primitives by a sorting network.
+     */
+    private static final int CUTOFF = Network.MAX_SIZE;
+
+    /**
+     * Subarrays smaller than this are sorted sequentially by the
+     * parallel sort tasks instead of being split further.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 13;
+
     /**
      * This class should not be instantiated.
      */
@@ -37,12 +53,42 @@ public class MergeX extends SortSupport {
      * @param lo the lowest index
      * @param hi the highest index
      */
-    @SuppressWarnings("unchecked")
     public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi) {
         checkBounds(a.length, lo, hi);
 
-        T[] aux = Arrays.copyOf(a, a.length);
-        sort(a, aux, lo, hi);
+        T[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the natural order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        T[] aux = ctx.aux(a, hi - lo + 1);
+        System.arraycopy(a, lo, aux, 0, hi - lo + 1);
+        sort(a, aux, lo, hi, lo);
     }
 
     /**
@@ -52,16 +98,18 @@ public class MergeX extends SortSupport {
      * @param aux the auxiliary array for merge operation
      * @param lo  the lowest index
      * @param hi  the highest index
+     * @param off the offset of an item from its copy in the auxiliary array, aux[i - off] mirrors a[i]
      */
-    private static <T extends Comparable<T>> void sort(T[] a, T[] aux, int lo, int hi) {
-        if (lo >= hi) {
+    private static <T extends Comparable<T>> void sort(T[] a, T[] aux, int lo, int hi, int off) {
+        if (hi - lo < CUTOFF) {
+            Insertion.sort(a, lo, hi);
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
-        sort(aux, a, lo, mid);
-        sort(aux, a, mid + 1, hi);
-        merge(a, aux, lo, mid, hi);
+        sort(aux, a, lo - off, mid - off, -off);
+        sort(aux, a, mid + 1 - off, hi - off, -off);
+        merge(a, aux, lo, mid, hi, off);
     }
 
     /**
@@ -82,12 +130,44 @@ public class MergeX extends SortSupport {
      * @param hi the highest index
      * @param c  the comparator specifying the order
      */
-    @SuppressWarnings("unchecked")
     public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c) {
         checkBounds(a.length, lo, hi);
 
-        T[] aux = (T[]) Array.newInstance(a.getClass().getComponentType(), a.length);
-        sort(a, aux, lo, hi, c);
+        T[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        sort(a, aux, lo, hi, lo, c);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param c   the comparator specifying the order
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T> void sort(T[] a, Comparator<T> c, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, c, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param c   the comparator specifying the order
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        T[] aux = ctx.aux(a, hi - lo + 1);
+        System.arraycopy(a, lo, aux, 0, hi - lo + 1);
+        sort(a, aux, lo, hi, lo, c);
     }
 
     /**
@@ -97,37 +177,178 @@ public class MergeX extends SortSupport {
      * @param aux the auxiliary array for merge operation
      * @param lo  the lowest index
      * @param hi  the highest index
+     * @param off the offset of an item from its copy in the auxiliary array, aux[i - off] mirrors a[i]
      * @param c   the comparator specifying the order
      */
-    private static <T> void sort(T[] a, T[] aux, int lo, int hi, Comparator<T> c) {
-        if (lo >= hi) {
+    private static <T> void sort(T[] a, T[] aux, int lo, int hi, int off, Comparator<T> c) {
+        if (hi - lo < CUTOFF) {
+            Insertion.sort(a, lo, hi, c);
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
-        sort(aux, a, lo, mid, c);
-        sort(aux, a, mid + 1, hi, c);
-        merge(a, aux, lo, mid, hi, c);
+        sort(aux, a, lo - off, mid - off, -off, c);
+        sort(aux, a, mid + 1 - off, hi - off, -off, c);
+        merge(a, aux, lo, mid, hi, off, c);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the natural order,
+     * sorting independent halves concurrently in the common fork/join pool.
+     * The sort is stable and allocates a single auxiliary array.
+     *
+     * @param a the array to be sorted
+     */
+    public static <T extends Comparable<T>> void parallelSort(T[] a) {
+        parallelSort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order,
+     * sorting independent halves concurrently in the common fork/join pool.
+     * The sort is stable and allocates a single auxiliary array.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static <T extends Comparable<T>> void parallelSort(T[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        T[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        if (hi - lo < PARALLEL_THRESHOLD) {
+            sort(a, aux, lo, hi, lo);
+        } else {
+            ForkJoinPool.commonPool().invoke(new NaturalSortTask<>(a, aux, lo, hi, lo));
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator,
+     * sorting independent halves concurrently in the common fork/join pool.
+     * The sort is stable and allocates a single auxiliary array.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator specifying the order
+     */
+    public static <T> void parallelSort(T[] a, Comparator<T> c) {
+        parallelSort(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator,
+     * sorting independent halves concurrently in the common fork/join pool.
+     * The sort is stable and allocates a single auxiliary array.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     */
+    public static <T> void parallelSort(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+
+        T[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        if (hi - lo < PARALLEL_THRESHOLD) {
+            sort(a, aux, lo, hi, lo, c);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ComparatorSortTask<>(a, aux, lo, hi, lo, c));
+        }
+    }
+
+    /**
+     * Sorts a[lo .. hi] using the natural order. Like the sequential recursion the task
+     * alternates the roles of the array and the auxiliary array on every level, so
+     * a[lo .. hi] and aux[lo-off .. hi-off] have to hold the same items when the task is started.
+     */
+    private static class NaturalSortTask<T extends Comparable<T>> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] a;
+        private final T[] aux;
+        private final int lo;
+        private final int hi;
+        private final int off;
+
+        NaturalSortTask(T[] a, T[] aux, int lo, int hi, int off) {
+            this.a = a;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.off = off;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_THRESHOLD) {
+                sort(a, aux, lo, hi, off);
+                return;
+            }
+
+            int mid = lo + (hi - lo) / 2;
+            invokeAll(new NaturalSortTask<>(aux, a, lo - off, mid - off, -off),
+                    new NaturalSortTask<>(aux, a, mid + 1 - off, hi - off, -off));
+            merge(a, aux, lo, mid, hi, off);
+        }
+    }
+
+    /**
+     * Sorts a[lo .. hi] using the comparator. Like the sequential recursion the task
+     * alternates the roles of the array and the auxiliary array on every level, so
+     * a[lo .. hi] and aux[lo-off .. hi-off] have to hold the same items when the task is started.
+     */
+    private static class ComparatorSortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] a;
+        private final T[] aux;
+        private final int lo;
+        private final int hi;
+        private final int off;
+        private final Comparator<T> c;
+
+        ComparatorSortTask(T[] a, T[] aux, int lo, int hi, int off, Comparator<T> c) {
+            this.a = a;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.off = off;
+            this.c = c;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_THRESHOLD) {
+                sort(a, aux, lo, hi, off, c);
+                return;
+            }
+
+            int mid = lo + (hi - lo) / 2;
+            invokeAll(new ComparatorSortTask<>(aux, a, lo - off, mid - off, -off, c),
+                    new ComparatorSortTask<>(aux, a, mid + 1 - off, hi - off, -off, c));
+            merge(a, aux, lo, mid, hi, off, c);
+        }
     }
 
 
     /**
-     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[lo .. hi].
+     * Merges aux[lo-off .. mid-off] with aux[mid+1-off .. hi-off] into a[lo .. hi].
      */
-    private static <T extends Comparable<T>> void merge(T[] a, T[] aux, int lo, int mid, int hi) {
-        assert sorted(aux, lo, mid);
-        assert sorted(aux, mid + 1, hi);
+    private static <T extends Comparable<T>> void merge(T[] a, T[] aux, int lo, int mid, int hi, int off) {
+        assert sorted(aux, lo - off, mid - off);
+        assert sorted(aux, mid + 1 - off, hi - off);
 
-        int j = lo, k = mid + 1;
+        int j = lo - off, k = mid + 1 - off;
+        int jHi = mid - off, kHi = hi - off;
         for (int i = lo; i <= hi; i++) {
-            if (j > mid) {
+            if (j > jHi) {
                 a[i] = aux[k++];
-            } else if (k > hi) {
-                a[i] = aux[j++];
-            } else if (less(aux[j], aux[k])) {
+            } else if (k > kHi) {
                 a[i] = aux[j++];
-            } else {
+            } else if (less(aux[k], aux[j])) {
                 a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
             }
         }
 
@@ -135,25 +356,719 @@ public class MergeX extends SortSupport {
     }
 
     /**
-     * Merges a[lo .. mid] with a[mid+1 ..hi] using aux[lo .. hi].
+     * Merges aux[lo-off .. mid-off] with aux[mid+1-off .. hi-off] into a[lo .. hi].
      */
-    private static <T> void merge(T[] a, T[] aux, int lo, int mid, int hi, Comparator<T> c) {
-        assert sorted(aux, lo, mid, c);
-        assert sorted(aux, mid + 1, hi, c);
+    private static <T> void merge(T[] a, T[] aux, int lo, int mid, int hi, int off, Comparator<T> c) {
+        assert sorted(aux, lo - off, mid - off, c);
+        assert sorted(aux, mid + 1 - off, hi - off, c);
 
-        int j = lo, k = mid + 1;
+        int j = lo - off, k = mid + 1 - off;
+        int jHi = mid - off, kHi = hi - off;
         for (int i = lo; i <= hi; i++) {
-            if (j > mid) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j], c)) {
                 a[i] = aux[k++];
-            } else if (k > hi) {
+            } else {
                 a[i] = aux[j++];
-            } else if (less(aux[j], aux[k], c)) {
+            }
+        }
+
+        assert sorted(a, lo, hi, c);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(int[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(int[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        int[] aux = ctx.aux(a, hi - lo + 1);
+        System.arraycopy(a, lo, aux, 0, hi - lo + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param off the offset of an item from its copy in the auxiliary array, aux[i - off] mirrors a[i]
+     */
+    private static void sort(int[] a, int[] aux, int lo, int hi, int off) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(aux, a, lo - off, mid - off, -off);
+        sort(aux, a, mid + 1 - off, hi - off, -off);
+        merge(a, aux, lo, mid, hi, off);
+    }
+
+    /**
+     * Merges aux[lo-off .. mid-off] with aux[mid+1-off .. hi-off] into a[lo .. hi].
+     */
+    private static void merge(int[] a, int[] aux, int lo, int mid, int hi, int off) {
+        assert sorted(aux, lo - off, mid - off);
+        assert sorted(aux, mid + 1 - off, hi - off);
+
+        int j = lo - off, k = mid + 1 - off;
+        int jHi = mid - off, kHi = hi - off;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
                 a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
             } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        long[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(long[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(long[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        long[] aux = ctx.aux(a, hi - lo + 1);
+        System.arraycopy(a, lo, aux, 0, hi - lo + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param off the offset of an item from its copy in the auxiliary array, aux[i - off] mirrors a[i]
+     */
+    private static void sort(long[] a, long[] aux, int lo, int hi, int off) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(aux, a, lo - off, mid - off, -off);
+        sort(aux, a, mid + 1 - off, hi - off, -off);
+        merge(a, aux, lo, mid, hi, off);
+    }
+
+    /**
+     * Merges aux[lo-off .. mid-off] with aux[mid+1-off .. hi-off] into a[lo .. hi].
+     */
+    private static void merge(long[] a, long[] aux, int lo, int mid, int hi, int off) {
+        assert sorted(aux, lo - off, mid - off);
+        assert sorted(aux, mid + 1 - off, hi - off);
+
+        int j = lo - off, k = mid + 1 - off;
+        int jHi = mid - off, kHi = hi - off;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
                 a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
             }
         }
 
-        assert sorted(a, lo, hi, c);
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        double[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(double[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(double[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        double[] aux = ctx.aux(a, hi - lo + 1);
+        System.arraycopy(a, lo, aux, 0, hi - lo + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param off the offset of an item from its copy in the auxiliary array, aux[i - off] mirrors a[i]
+     */
+    private static void sort(double[] a, double[] aux, int lo, int hi, int off) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(aux, a, lo - off, mid - off, -off);
+        sort(aux, a, mid + 1 - off, hi - off, -off);
+        merge(a, aux, lo, mid, hi, off);
+    }
+
+    /**
+     * Merges aux[lo-off .. mid-off] with aux[mid+1-off .. hi-off] into a[lo .. hi].
+     */
+    private static void merge(double[] a, double[] aux, int lo, int mid, int hi, int off) {
+        assert sorted(aux, lo - off, mid - off);
+        assert sorted(aux, mid + 1 - off, hi - off);
+
+        int j = lo - off, k = mid + 1 - off;
+        int jHi = mid - off, kHi = hi - off;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(float[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        float[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(float[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(float[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        float[] aux = ctx.aux(a, hi - lo + 1);
+        System.arraycopy(a, lo, aux, 0, hi - lo + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param off the offset of an item from its copy in the auxiliary array, aux[i - off] mirrors a[i]
+     */
+    private static void sort(float[] a, float[] aux, int lo, int hi, int off) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(aux, a, lo - off, mid - off, -off);
+        sort(aux, a, mid + 1 - off, hi - off, -off);
+        merge(a, aux, lo, mid, hi, off);
+    }
+
+    /**
+     * Merges aux[lo-off .. mid-off] with aux[mid+1-off .. hi-off] into a[lo .. hi].
+     */
+    private static void merge(float[] a, float[] aux, int lo, int mid, int hi, int off) {
+        assert sorted(aux, lo - off, mid - off);
+        assert sorted(aux, mid + 1 - off, hi - off);
+
+        int j = lo - off, k = mid + 1 - off;
+        int jHi = mid - off, kHi = hi - off;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(short[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        short[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(short[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(short[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        short[] aux = ctx.aux(a, hi - lo + 1);
+        System.arraycopy(a, lo, aux, 0, hi - lo + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param off the offset of an item from its copy in the auxiliary array, aux[i - off] mirrors a[i]
+     */
+    private static void sort(short[] a, short[] aux, int lo, int hi, int off) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(aux, a, lo - off, mid - off, -off);
+        sort(aux, a, mid + 1 - off, hi - off, -off);
+        merge(a, aux, lo, mid, hi, off);
+    }
+
+    /**
+     * Merges aux[lo-off .. mid-off] with aux[mid+1-off .. hi-off] into a[lo .. hi].
+     */
+    private static void merge(short[] a, short[] aux, int lo, int mid, int hi, int off) {
+        assert sorted(aux, lo - off, mid - off);
+        assert sorted(aux, mid + 1 - off, hi - off);
+
+        int j = lo - off, k = mid + 1 - off;
+        int jHi = mid - off, kHi = hi - off;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(char[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        char[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(char[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(char[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        char[] aux = ctx.aux(a, hi - lo + 1);
+        System.arraycopy(a, lo, aux, 0, hi - lo + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param off the offset of an item from its copy in the auxiliary array, aux[i - off] mirrors a[i]
+     */
+    private static void sort(char[] a, char[] aux, int lo, int hi, int off) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(aux, a, lo - off, mid - off, -off);
+        sort(aux, a, mid + 1 - off, hi - off, -off);
+        merge(a, aux, lo, mid, hi, off);
+    }
+
+    /**
+     * Merges aux[lo-off .. mid-off] with aux[mid+1-off .. hi-off] into a[lo .. hi].
+     */
+    private static void merge(char[] a, char[] aux, int lo, int mid, int hi, int off) {
+        assert sorted(aux, lo - off, mid - off);
+        assert sorted(aux, mid + 1 - off, hi - off);
+
+        int j = lo - off, k = mid + 1 - off;
+        int jHi = mid - off, kHi = hi - off;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        byte[] aux = Arrays.copyOfRange(a, lo, hi + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(byte[] a, @Nonnull SortContext ctx) {
+        sort(a, 0, a.length - 1, ctx);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     * The auxiliary array is taken from the sort context and reused by later sorts.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param ctx the sort context owning the auxiliary array
+     * @throws IllegalArgumentException if the sort context is {@code null}
+     */
+    public static void sort(byte[] a, int lo, int hi, @Nonnull SortContext ctx) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(ctx, "Sort context [ctx] should not be null.");
+
+        byte[] aux = ctx.aux(a, hi - lo + 1);
+        System.arraycopy(a, lo, aux, 0, hi - lo + 1);
+        sort(a, aux, lo, hi, lo);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a   the array to be sorted
+     * @param aux the auxiliary array for merge operation
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param off the offset of an item from its copy in the auxiliary array, aux[i - off] mirrors a[i]
+     */
+    private static void sort(byte[] a, byte[] aux, int lo, int hi, int off) {
+        if (hi - lo < CUTOFF) {
+            Network.apply(a, lo, hi);
+            return;
+        }
+
+        int mid = lo + (hi - lo) / 2;
+        sort(aux, a, lo - off, mid - off, -off);
+        sort(aux, a, mid + 1 - off, hi - off, -off);
+        merge(a, aux, lo, mid, hi, off);
+    }
+
+    /**
+     * Merges aux[lo-off .. mid-off] with aux[mid+1-off .. hi-off] into a[lo .. hi].
+     */
+    private static void merge(byte[] a, byte[] aux, int lo, int mid, int hi, int off) {
+        assert sorted(aux, lo - off, mid - off);
+        assert sorted(aux, mid + 1 - off, hi - off);
+
+        int j = lo - off, k = mid + 1 - off;
+        int jHi = mid - off, kHi = hi - off;
+        for (int i = lo; i <= hi; i++) {
+            if (j > jHi) {
+                a[i] = aux[k++];
+            } else if (k > kHi) {
+                a[i] = aux[j++];
+            } else if (less(aux[k], aux[j])) {
+                a[i] = aux[k++];
+            } else {
+                a[i] = aux[j++];
+            }
+        }
+
+        assert sorted(a, lo, hi);
     }
 }
@@ -0,0 +1,534 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.Comparator;
+
+import static com.codingthrough.algorithms.Preconditions.requireTrue;
+
+/**
+ * The <tt>Network</tt> provides a number of static methods to sort up to
+ * {@link #MAX_SIZE} items of an array in place using sorting networks.
+ * <p>
+ * For every size from 2 to 16 the fixed sequence of compare-exchange operations
+ * with the smallest known number of comparators is used, which generalizes
+ * {@link Sort2} and {@link Sort3} to a slice of the caller's array without
+ * allocation. The sequence does not depend on the data, so primitive variants
+ * exchange items with {@code min}/{@code max} instead of branches. The sort
+ * is not stable.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Sorting_network">Wikipedia article - Sorting Network</a>.
+ * </p>
+ */
+public class Network extends SortSupport {
+    /**
+     * The maximum number of items a network sorts.
+     */
+    public static final int MAX_SIZE = 16;
+
+    /**
+     * Compare-exchange pairs indexed by the number of inputs, every pair (i, j) with i &lt; j
+     * moves the smaller item to position i. Pairs are listed layer by layer, the
+     * networks for 14 and 15 inputs are the 16 input network with the top wires removed.
+     */
+    private static final int[][] NETWORKS = {
+            {},
+            {},
+            // 2 inputs, 1 comparator
+            {0, 1},
+            // 3 inputs, 3 comparators
+            {0, 2,
+             0, 1,
+             1, 2},
+            // 4 inputs, 5 comparators
+            {0, 1, 2, 3,
+             0, 2, 1, 3,
+             1, 2},
+            // 5 inputs, 9 comparators
+            {0, 3, 1, 4,
+             0, 2, 1, 3,
+             0, 1, 2, 4,
+             1, 2, 3, 4,
+             2, 3},
+            // 6 inputs, 12 comparators
+            {0, 5, 1, 3, 2, 4,
+             1, 2, 3, 4,
+             0, 3, 2, 5,
+             0, 1, 2, 3, 4, 5,
+             1, 2, 3, 4},
+            // 7 inputs, 16 comparators
+            {0, 6, 2, 3, 4, 5,
+             0, 2, 1, 4, 3, 6,
+             0, 1, 2, 5, 3, 4,
+             1, 2, 4, 6,
+             2, 3, 4, 5,
+             1, 2, 3, 4, 5, 6},
+            // 8 inputs, 19 comparators
+            {0, 2, 1, 3, 4, 6, 5, 7,
+             0, 4, 1, 5, 2, 6, 3, 7,
+             0, 1, 2, 3, 4, 5, 6, 7,
+             2, 4, 3, 5,
+             1, 4, 3, 6,
+             1, 2, 3, 4, 5, 6},
+            // 9 inputs, 25 comparators
+            {0, 3, 1, 7, 2, 5, 4, 8,
+             0, 7, 2, 4, 3, 8, 5, 6,
+             0, 2, 1, 3, 4, 5, 7, 8,
+             1, 4, 3, 6, 5, 7,
+             0, 1, 2, 4, 3, 5, 6, 8,
+             2, 3, 4, 5, 6, 7,
+             1, 2, 3, 4, 5, 6},
+            // 10 inputs, 29 comparators
+            {0, 8, 1, 9, 2, 7, 3, 5, 4, 6,
+             0, 2, 1, 4, 5, 8, 7, 9,
+             0, 3, 2, 4, 5, 7, 6, 9,
+             0, 1, 3, 6, 8, 9,
+             1, 5, 2, 3, 4, 8, 6, 7,
+             1, 2, 3, 5, 4, 6, 7, 8,
+             2, 3, 4, 5, 6, 7,
+             3, 4, 5, 6},
+            // 11 inputs, 35 comparators
+            {0, 9, 1, 6, 2, 4, 3, 7, 5, 8,
+             0, 1, 3, 5, 4, 10, 6, 9, 7, 8,
+             1, 3, 2, 5, 4, 7, 8, 10,
+             0, 4, 1, 2, 3, 7, 5, 9, 6, 8,
+             0, 1, 2, 6, 4, 5, 7, 8, 9, 10,
+             2, 4, 3, 6, 5, 7, 8, 9,
+             1, 2, 3, 4, 5, 6, 7, 8,
+             2, 3, 4, 5, 6, 7},
+            // 12 inputs, 39 comparators
+            {0, 8, 1, 7, 2, 6, 3, 11, 4, 10, 5, 9,
+             0, 1, 2, 5, 3, 4, 6, 9, 7, 8, 10, 11,
+             0, 2, 1, 6, 5, 10, 9, 11,
+             0, 3, 1, 2, 4, 6, 5, 7, 8, 11, 9, 10,
+             1, 4, 3, 5, 6, 8, 7, 10,
+             1, 3, 2, 5, 6, 9, 8, 10,
+             2, 3, 4, 5, 6, 7, 8, 9,
+             4, 6, 5, 7,
+             3, 4, 5, 6, 7, 8},
+            // 13 inputs, 45 comparators
+            {0, 12, 1, 10, 2, 9, 3, 7, 5, 11, 6, 8,
+             1, 6, 2, 3, 4, 11, 7, 9, 8, 10,
+             0, 4, 1, 2, 3, 6, 7, 8, 9, 10, 11, 12,
+             4, 6, 5, 9, 8, 11, 10, 12,
+             0, 5, 3, 8, 4, 7, 6, 11, 9, 10,
+             0, 1, 2, 5, 6, 9, 7, 8, 10, 11,
+             1, 3, 2, 4, 5, 6, 9, 10,
+             1, 2, 3, 4, 5, 7, 6, 8,
+             2, 3, 4, 5, 6, 7, 8, 9,
+             3, 4, 5, 6},
+            // 14 inputs, 51 comparators
+            {0, 13, 1, 12, 4, 8, 5, 6, 7, 11, 9, 10,
+             0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 11, 12,
+             0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13,
+             0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9,
+             1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11,
+             1, 4, 2, 6, 5, 8, 7, 10, 9, 13,
+             2, 4, 3, 6, 9, 12, 11, 13,
+             3, 5, 6, 8, 7, 9, 10, 12,
+             3, 4, 5, 6, 7, 8, 9, 10, 11, 12,
+             6, 7, 8, 9},
+            // 15 inputs, 56 comparators
+            {0, 13, 1, 12, 3, 14, 4, 8, 5, 6, 7, 11, 9, 10,
+             0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 8, 14, 11, 12,
+             0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13,
+             0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9, 12, 14,
+             1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11, 13, 14,
+             1, 4, 2, 6, 5, 8, 7, 10, 9, 13, 11, 14,
+             2, 4, 3, 6, 9, 12, 11, 13,
+             3, 5, 6, 8, 7, 9, 10, 12,
+             3, 4, 5, 6, 7, 8, 9, 10, 11, 12,
+             6, 7, 8, 9},
+            // 16 inputs, 60 comparators
+            {0, 13, 1, 12, 2, 15, 3, 14, 4, 8, 5, 6, 7, 11, 9, 10,
+             0, 5, 1, 7, 2, 9, 3, 4, 6, 13, 8, 14, 10, 15, 11, 12,
+             0, 1, 2, 3, 4, 5, 6, 8, 7, 9, 10, 11, 12, 13, 14, 15,
+             0, 2, 1, 3, 4, 10, 5, 11, 6, 7, 8, 9, 12, 14, 13, 15,
+             1, 2, 3, 12, 4, 6, 5, 7, 8, 10, 9, 11, 13, 14,
+             1, 4, 2, 6, 5, 8, 7, 10, 9, 13, 11, 14,
+             2, 4, 3, 6, 9, 12, 11, 13,
+             3, 5, 6, 8, 7, 9, 10, 12,
+             3, 4, 5, 6, 7, 8, 9, 10, 11, 12,
+             6, 7, 8, 9}
+    };
+
+    /**
+     * This class should not be instantiated.
+     */
+    private Network() {
+    }
+
+    /**
+     * Rearranges the array of at most {@link #MAX_SIZE} items in ascending order using the natural order.
+     *
+     * @param a the array to be sorted
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} items
+     */
+    public static <T extends Comparable<T>> void sort(T[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges at most {@link #MAX_SIZE} items of the array inside bounds in ascending order
+     * using the natural order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} items inside bounds
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+        checkSize(lo, hi);
+
+        apply(a, lo, hi);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Applies the network for the size of a[lo .. hi], bounds are not checked.
+     */
+    static <T extends Comparable<T>> void apply(T[] a, int lo, int hi) {
+        final int[] network = NETWORKS[hi - lo + 1];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = lo + network[k], j = lo + network[k + 1];
+            if (less(a[j], a[i])) {
+                swap(a, i, j);
+            }
+        }
+    }
+
+    /**
+     * Rearranges the array of at most {@link #MAX_SIZE} items in ascending order using the comparator.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator specifying the order
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} items
+     */
+    public static <T> void sort(T[] a, Comparator<T> c) {
+        sort(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Rearranges at most {@link #MAX_SIZE} items of the array inside bounds in ascending order
+     * using the comparator.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} items inside bounds
+     */
+    public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+        checkSize(lo, hi);
+
+        apply(a, lo, hi, c);
+
+        assert sorted(a, lo, hi, c);
+    }
+
+    /**
+     * Applies the network for the size of a[lo .. hi], bounds are not checked.
+     */
+    static <T> void apply(T[] a, int lo, int hi, Comparator<T> c) {
+        final int[] network = NETWORKS[hi - lo + 1];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = lo + network[k], j = lo + network[k + 1];
+            if (less(a[j], a[i], c)) {
+                swap(a, i, j);
+            }
+        }
+    }
+
+    /**
+     * Rearranges the array of at most {@link #MAX_SIZE} items in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} items
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges at most {@link #MAX_SIZE} items of the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} items inside bounds
+     */
+    public static void sort(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+        checkSize(lo, hi);
+
+        apply(a, lo, hi);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Applies the network for the size of a[lo .. hi], bounds are not checked.
+     */
+    static void apply(int[] a, int lo, int hi) {
+        final int[] network = NETWORKS[hi - lo + 1];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = lo + network[k], j = lo + network[k + 1];
+            int x = a[i], y = a[j];
+            a[i] = Math.min(x, y);
+            a[j] = Math.max(x, y);
+        }
+    }
+
+    /**
+     * Rearranges the array of at most {@link #MAX_SIZE} items in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} items
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges at most {@link #MAX_SIZE} items of the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} items inside bounds
+     */
+    public static void sort(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+        checkSize(lo, hi);
+
+        apply(a, lo, hi);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Applies the network for the size of a[lo .. hi], bounds are not checked.
+     */
+    static void apply(long[] a, int lo, int hi) {
+        final int[] network = NETWORKS[hi - lo + 1];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = lo + network[k], j = lo + network[k + 1];
+            long x = a[i], y = a[j];
+            a[i] = Math.min(x, y);
+            a[j] = Math.max(x, y);
+        }
+    }
+
+    /**
+     * Rearranges the array of at most {@link #MAX_SIZE} items in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be sorted
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} items
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges at most {@link #MAX_SIZE} items of the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} items inside bounds
+     */
+    public static void sort(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+        checkSize(lo, hi);
+
+        apply(a, lo, hi);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Applies the network for the size of a[lo .. hi], bounds are not checked.
+     */
+    static void apply(double[] a, int lo, int hi) {
+        final int[] network = NETWORKS[hi - lo + 1];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = lo + network[k], j = lo + network[k + 1];
+            double x = a[i], y = a[j];
+            boolean exchange = less(y, x);
+            a[i] = exchange ? y : x;
+            a[j] = exchange ? x : y;
+        }
+    }
+
+    /**
+     * Rearranges the array of at most {@link #MAX_SIZE} items in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a the array to be sorted
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} items
+     */
+    public static void sort(float[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges at most {@link #MAX_SIZE} items of the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} items inside bounds
+     */
+    public static void sort(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+        checkSize(lo, hi);
+
+        apply(a, lo, hi);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Applies the network for the size of a[lo .. hi], bounds are not checked.
+     */
+    static void apply(float[] a, int lo, int hi) {
+        final int[] network = NETWORKS[hi - lo + 1];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = lo + network[k], j = lo + network[k + 1];
+            float x = a[i], y = a[j];
+            boolean exchange = less(y, x);
+            a[i] = exchange ? y : x;
+            a[j] = exchange ? x : y;
+        }
+    }
+
+    /**
+     * Rearranges the array of at most {@link #MAX_SIZE} items in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} items
+     */
+    public static void sort(short[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges at most {@link #MAX_SIZE} items of the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} items inside bounds
+     */
+    public static void sort(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+        checkSize(lo, hi);
+
+        apply(a, lo, hi);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Applies the network for the size of a[lo .. hi], bounds are not checked.
+     */
+    static void apply(short[] a, int lo, int hi) {
+        final int[] network = NETWORKS[hi - lo + 1];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = lo + network[k], j = lo + network[k + 1];
+            int x = a[i], y = a[j];
+            a[i] = (short) Math.min(x, y);
+            a[j] = (short) Math.max(x, y);
+        }
+    }
+
+    /**
+     * Rearranges the array of at most {@link #MAX_SIZE} items in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} items
+     */
+    public static void sort(char[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges at most {@link #MAX_SIZE} items of the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} items inside bounds
+     */
+    public static void sort(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+        checkSize(lo, hi);
+
+        apply(a, lo, hi);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Applies the network for the size of a[lo .. hi], bounds are not checked.
+     */
+    static void apply(char[] a, int lo, int hi) {
+        final int[] network = NETWORKS[hi - lo + 1];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = lo + network[k], j = lo + network[k + 1];
+            int x = a[i], y = a[j];
+            a[i] = (char) Math.min(x, y);
+            a[j] = (char) Math.max(x, y);
+        }
+    }
+
+    /**
+     * Rearranges the array of at most {@link #MAX_SIZE} items in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     * @throws IllegalArgumentException if the array has more than {@link #MAX_SIZE} items
+     */
+    public static void sort(byte[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges at most {@link #MAX_SIZE} items of the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @throws IllegalArgumentException if there are more than {@link #MAX_SIZE} items inside bounds
+     */
+    public static void sort(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+        checkSize(lo, hi);
+
+        apply(a, lo, hi);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Applies the network for the size of a[lo .. hi], bounds are not checked.
+     */
+    static void apply(byte[] a, int lo, int hi) {
+        final int[] network = NETWORKS[hi - lo + 1];
+        for (int k = 0; k < network.length; k += 2) {
+            int i = lo + network[k], j = lo + network[k + 1];
+            int x = a[i], y = a[j];
+            a[i] = (byte) Math.min(x, y);
+            a[j] = (byte) Math.max(x, y);
+        }
+    }
+
+    /**
+     * Checks that there are at most {@link #MAX_SIZE} items inside bounds
+     * and throws an exception if there are more.
+     */
+    private static void checkSize(int lo, int hi) {
+        requireTrue(hi - lo < MAX_SIZE, "Network sorts at most %d items.", MAX_SIZE);
+    }
+}
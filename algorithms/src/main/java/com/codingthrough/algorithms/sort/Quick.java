@@ -0,0 +1,295 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.Comparator;
+
+/**
+ * The <tt>Quick</tt> provides a number of static methods to sort an array
+ * using quick sort algorithm.
+ * <p>
+ * The implementation partitions around two pivots when five sampled items
+ * are distinct and falls back to 3-way partitioning around a single pivot
+ * when the sample contains equal keys, so inputs with many duplicates are
+ * handled in linear time. Subarrays of up to 16 items are sorted by a sorting network
+ * and subarrays that exceed the recursion depth limit are sorted by {@link Heap} sort,
+ * which keeps the worst case in O(n log n). The sort is not stable.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Quicksort">Wikipedia article - Quick Sort</a>
+ * and <a href="https://en.wikipedia.org/wiki/Introsort">Wikipedia article - Introsort</a>.
+ * </p>
+ */
+public class Quick extends SortSupport {
+    /**
+     * This class should not be instantiated.
+     */
+    private Quick() {
+    }
+
+    /**
+     * Rearranges the array in ascending order using the natural order.
+     *
+     * @param a the array to be sorted
+     */
+    public static <T extends Comparable<T>> void sort(T[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        sort(a, lo, hi, depthLimit(hi - lo + 1));
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order.
+     *
+     * @param a     the array to be sorted
+     * @param lo    the lowest index
+     * @param hi    the highest index
+     * @param depth the number of partitioning levels left before switching to heap sort
+     */
+    private static <T extends Comparable<T>> void sort(T[] a, int lo, int hi, int depth) {
+        if (hi - lo < Network.MAX_SIZE) {
+            if (lo < hi) {
+                Network.apply(a, lo, hi);
+            }
+            return;
+        }
+
+        if (depth == 0) {
+            Heap.sort(a, lo, hi);
+            return;
+        }
+
+        int seventh = (hi - lo + 1) / 7;
+        int e3 = lo + (hi - lo) / 2;
+        int e2 = e3 - seventh;
+        int e1 = e2 - seventh;
+        int e4 = e3 + seventh;
+        int e5 = e4 + seventh;
+
+        // insertion sort of five sampled items
+        if (less(a[e2], a[e1])) {
+            swap(a, e2, e1);
+        }
+        if (less(a[e3], a[e2])) {
+            swap(a, e3, e2);
+            if (less(a[e2], a[e1])) {
+                swap(a, e2, e1);
+            }
+        }
+        if (less(a[e4], a[e3])) {
+            swap(a, e4, e3);
+            if (less(a[e3], a[e2])) {
+                swap(a, e3, e2);
+                if (less(a[e2], a[e1])) {
+                    swap(a, e2, e1);
+                }
+            }
+        }
+        if (less(a[e5], a[e4])) {
+            swap(a, e5, e4);
+            if (less(a[e4], a[e3])) {
+                swap(a, e4, e3);
+                if (less(a[e3], a[e2])) {
+                    swap(a, e3, e2);
+                    if (less(a[e2], a[e1])) {
+                        swap(a, e2, e1);
+                    }
+                }
+            }
+        }
+
+        if (less(a[e1], a[e2]) && less(a[e2], a[e3]) && less(a[e3], a[e4]) && less(a[e4], a[e5])) {
+            // dual-pivot partitioning: a[lo .. lt-1] < p1 <= a[lt+1 .. gt-1] <= p2 < a[gt+1 .. hi]
+            swap(a, lo, e2);
+            swap(a, hi, e4);
+            T p1 = a[lo];
+            T p2 = a[hi];
+
+            int lt = lo + 1, gt = hi - 1, i = lo + 1;
+            while (i <= gt) {
+                if (less(a[i], p1)) {
+                    swap(a, lt++, i++);
+                } else if (less(p2, a[i])) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            swap(a, lo, --lt);
+            swap(a, hi, ++gt);
+
+            sort(a, lo, lt - 1, depth - 1);
+            sort(a, lt + 1, gt - 1, depth - 1);
+            sort(a, gt + 1, hi, depth - 1);
+        } else {
+            // 3-way partitioning: a[lo .. lt-1] < v = a[lt .. gt] < a[gt+1 .. hi]
+            swap(a, lo, e3);
+            T v = a[lo];
+
+            int lt = lo, gt = hi, i = lo + 1;
+            while (i <= gt) {
+                if (less(a[i], v)) {
+                    swap(a, lt++, i++);
+                } else if (less(v, a[i])) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            sort(a, lo, lt - 1, depth - 1);
+            sort(a, gt + 1, hi, depth - 1);
+        }
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator specifying the order
+     */
+    public static <T> void sort(T[] a, Comparator<T> c) {
+        sort(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     */
+    public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+
+        sort(a, lo, hi, depthLimit(hi - lo + 1), c);
+
+        assert sorted(a, lo, hi, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator.
+     *
+     * @param a     the array to be sorted
+     * @param lo    the lowest index
+     * @param hi    the highest index
+     * @param depth the number of partitioning levels left before switching to heap sort
+     * @param c     the comparator specifying the order
+     */
+    private static <T> void sort(T[] a, int lo, int hi, int depth, Comparator<T> c) {
+        if (hi - lo < Network.MAX_SIZE) {
+            if (lo < hi) {
+                Network.apply(a, lo, hi, c);
+            }
+            return;
+        }
+
+        if (depth == 0) {
+            Heap.sort(a, lo, hi, c);
+            return;
+        }
+
+        int seventh = (hi - lo + 1) / 7;
+        int e3 = lo + (hi - lo) / 2;
+        int e2 = e3 - seventh;
+        int e1 = e2 - seventh;
+        int e4 = e3 + seventh;
+        int e5 = e4 + seventh;
+
+        // insertion sort of five sampled items
+        if (less(a[e2], a[e1], c)) {
+            swap(a, e2, e1);
+        }
+        if (less(a[e3], a[e2], c)) {
+            swap(a, e3, e2);
+            if (less(a[e2], a[e1], c)) {
+                swap(a, e2, e1);
+            }
+        }
+        if (less(a[e4], a[e3], c)) {
+            swap(a, e4, e3);
+            if (less(a[e3], a[e2], c)) {
+                swap(a, e3, e2);
+                if (less(a[e2], a[e1], c)) {
+                    swap(a, e2, e1);
+                }
+            }
+        }
+        if (less(a[e5], a[e4], c)) {
+            swap(a, e5, e4);
+            if (less(a[e4], a[e3], c)) {
+                swap(a, e4, e3);
+                if (less(a[e3], a[e2], c)) {
+                    swap(a, e3, e2);
+                    if (less(a[e2], a[e1], c)) {
+                        swap(a, e2, e1);
+                    }
+                }
+            }
+        }
+
+        if (less(a[e1], a[e2], c) && less(a[e2], a[e3], c) && less(a[e3], a[e4], c) && less(a[e4], a[e5], c)) {
+            // dual-pivot partitioning: a[lo .. lt-1] < p1 <= a[lt+1 .. gt-1] <= p2 < a[gt+1 .. hi]
+            swap(a, lo, e2);
+            swap(a, hi, e4);
+            T p1 = a[lo];
+            T p2 = a[hi];
+
+            int lt = lo + 1, gt = hi - 1, i = lo + 1;
+            while (i <= gt) {
+                if (less(a[i], p1, c)) {
+                    swap(a, lt++, i++);
+                } else if (less(p2, a[i], c)) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+            swap(a, lo, --lt);
+            swap(a, hi, ++gt);
+
+            sort(a, lo, lt - 1, depth - 1, c);
+            sort(a, lt + 1, gt - 1, depth - 1, c);
+            sort(a, gt + 1, hi, depth - 1, c);
+        } else {
+            // 3-way partitioning: a[lo .. lt-1] < v = a[lt .. gt] < a[gt+1 .. hi]
+            swap(a, lo, e3);
+            T v = a[lo];
+
+            int lt = lo, gt = hi, i = lo + 1;
+            while (i <= gt) {
+                if (less(a[i], v, c)) {
+                    swap(a, lt++, i++);
+                } else if (less(v, a[i], c)) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            sort(a, lo, lt - 1, depth - 1, c);
+            sort(a, gt + 1, hi, depth - 1, c);
+        }
+    }
+
+    /**
+     * @return the number of partitioning levels allowed for {@param n} items
+     * before the introsort fallback is used, that is 2 * floor(log2(n)).
+     */
+    private static int depthLimit(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+}
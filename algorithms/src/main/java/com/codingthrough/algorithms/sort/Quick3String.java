@@ -0,0 +1,194 @@
+package com.codingthrough.algorithms.sort;
+
+/**
+ * The <tt>Quick3String</tt> provides a number of static methods to sort an array of
+ * strings or byte keys using 3-way radix quick sort algorithm.
+ * <p>
+ * Keys are partitioned by their character at position d into less, equal and greater
+ * parts, only the equal part moves on to position d + 1, so a shared prefix is examined
+ * once per partitioning level instead of on every comparison. The pivot is the median
+ * of three characters and parts of up to 15 keys are sorted by insertion sort that
+ * compares keys starting at position d. Byte keys are compared as unsigned bytes,
+ * which for UTF-8 encoded strings is the order of code points. The sort is not stable
+ * and needs no auxiliary array.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Multi-key_quicksort">Wikipedia article - Multi-key Quicksort</a>.
+ * </p>
+ * For a distribution based version, see {@link MSD}.
+ */
+public class Quick3String extends SortSupport {
+    /**
+     * Parts of this size or smaller are sorted by insertion sort.
+     */
+    private static final int CUTOFF = 15;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private Quick3String() {
+    }
+
+    /**
+     * Rearranges the array of strings in ascending order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(String[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array of strings inside bounds in ascending order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(String[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        sort(a, lo, hi, 0);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the strings inside bounds that share their first {@param d} characters.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param d  the character to partition by
+     */
+    private static void sort(String[] a, int lo, int hi, int d) {
+        while (hi > lo + CUTOFF) {
+            int mid = lo + (hi - lo) / 2;
+            swap(a, lo, medianOf3(a, lo, mid, hi, d));
+
+            int v = charAt(a[lo], d);
+            int lt = lo, gt = hi, i = lo + 1;
+            while (i <= gt) {
+                int t = charAt(a[i], d);
+                if (t < v) {
+                    swap(a, lt++, i++);
+                } else if (t > v) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // a[lo .. lt-1] < v = a[lt .. gt] < a[gt+1 .. hi], the middle part shares one more character
+            sort(a, lo, lt - 1, d);
+            sort(a, gt + 1, hi, d);
+            if (v < 0) {
+                return;
+            }
+            lo = lt;
+            hi = gt;
+            d++;
+        }
+
+        Insertion.sort(a, lo, hi, d);
+    }
+
+    /**
+     * Rearranges the array of keys in unsigned lexicographic order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[][] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array of keys inside bounds in unsigned lexicographic order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[][] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        sort(a, lo, hi, 0);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the keys inside bounds that share their first {@param d} bytes.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param d  the byte to partition by
+     */
+    private static void sort(byte[][] a, int lo, int hi, int d) {
+        while (hi > lo + CUTOFF) {
+            int mid = lo + (hi - lo) / 2;
+            swap(a, lo, medianOf3(a, lo, mid, hi, d));
+
+            int v = byteAt(a[lo], d);
+            int lt = lo, gt = hi, i = lo + 1;
+            while (i <= gt) {
+                int t = byteAt(a[i], d);
+                if (t < v) {
+                    swap(a, lt++, i++);
+                } else if (t > v) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            // a[lo .. lt-1] < v = a[lt .. gt] < a[gt+1 .. hi], the middle part shares one more byte
+            sort(a, lo, lt - 1, d);
+            sort(a, gt + 1, hi, d);
+            if (v < 0) {
+                return;
+            }
+            lo = lt;
+            hi = gt;
+            d++;
+        }
+
+        Insertion.sort(a, lo, hi, d);
+    }
+
+    /**
+     * @return the index of the string having the median character at position {@param d}.
+     */
+    private static int medianOf3(String[] a, int i, int j, int k, int d) {
+        int x = charAt(a[i], d), y = charAt(a[j], d), z = charAt(a[k], d);
+        return x < y
+                ? (y < z ? j : x < z ? k : i)
+                : (z < y ? j : z < x ? k : i);
+    }
+
+    /**
+     * @return the index of the key having the median byte at position {@param d}.
+     */
+    private static int medianOf3(byte[][] a, int i, int j, int k, int d) {
+        int x = byteAt(a[i], d), y = byteAt(a[j], d), z = byteAt(a[k], d);
+        return x < y
+                ? (y < z ? j : x < z ? k : i)
+                : (z < y ? j : z < x ? k : i);
+    }
+
+    /**
+     * @return the character at position {@param d} of the string, or -1 if the string is shorter.
+     */
+    private static int charAt(String s, int d) {
+        return d < s.length() ? s.charAt(d) : -1;
+    }
+
+    /**
+     * @return the unsigned byte at position {@param d} of the key, or -1 if the key is shorter.
+     */
+    private static int byteAt(byte[] key, int d) {
+        return d < key.length ? key[d] & 0xFF : -1;
+    }
+}
@@ -0,0 +1,569 @@
+package com.codingthrough.algorithms.sort;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+import static com.codingthrough.algorithms.Preconditions.requireTrue;
+
+/**
+ * The <tt>Radix</tt> provides a number of static methods to sort an array of
+ * integer keys using least-significant-digit first radix sort algorithm.
+ * <p>
+ * Keys are split into digits of 8, 11 or 16 bits. A single pass over the input
+ * builds the histograms of all digits, a pass is skipped when its digit is the same
+ * for every key, and the sign bit of the most significant digit is flipped so negative
+ * keys are ordered before positive ones. Every pass is a stable scatter, so objects
+ * sorted by an extracted key keep their relative order for equal keys. Keys that are
+ * already sorted are left as they are and up to 32 keys are sorted by insertion sort.
+ * </p>
+ * <p>
+ * <tt>double</tt> and <tt>float</tt> keys are mapped to integers ordered as by
+ * {@link Double#compare(double, double)} and {@link Float#compare(float, float)},
+ * sorted, and mapped back, so all NaN keys come last as the canonical NaN.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Radix_sort">Wikipedia article - Radix Sort</a>.
+ * </p>
+ */
+public class Radix extends SortSupport {
+    /**
+     * Arrays smaller than this are sorted using 8-bit digits by default,
+     * larger ones using 11-bit digits.
+     */
+    private static final int LARGE_ARRAY_THRESHOLD = 1 << 16;
+
+    /**
+     * Keys of objects up to this number are sorted by insertion sort.
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private Radix() {
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(int[] a, int lo, int hi) {
+        sort(a, lo, hi, digitBits(hi - lo + 1));
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order
+     * using digits of the specified size.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param bits the size of a digit, either 8, 11 or 16 bits
+     * @throws IllegalArgumentException if the digit size is not supported
+     */
+    public static void sort(int[] a, int lo, int hi, int bits) {
+        checkBounds(a.length, lo, hi);
+        checkDigitBits(bits);
+
+        sort(a, null, lo, hi - lo + 1, bits);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(long[] a, int lo, int hi) {
+        sort(a, lo, hi, digitBits(hi - lo + 1));
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order
+     * using digits of the specified size.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param bits the size of a digit, either 8, 11 or 16 bits
+     * @throws IllegalArgumentException if the digit size is not supported
+     */
+    public static void sort(long[] a, int lo, int hi, int bits) {
+        checkBounds(a.length, lo, hi);
+        checkDigitBits(bits);
+
+        sort(a, null, lo, hi - lo + 1, bits);
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order,
+     * as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = sortableBits(a[lo + i]);
+        }
+        sort(keys, null, 0, n, digitBits(n));
+        for (int i = 0; i < n; i++) {
+            // the mapping is its own inverse
+            a[lo + i] = Double.longBitsToDouble(sortableBits(keys[i]));
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(float[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order,
+     * as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = sortableBits(a[lo + i]);
+        }
+        sort(keys, null, 0, n, digitBits(n));
+        for (int i = 0; i < n; i++) {
+            // the mapping is its own inverse
+            a[lo + i] = Float.intBitsToFloat(sortableBits(keys[i]));
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending order of the {@code int} keys extracted
+     * from its items. The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param key the function extracting the sort key
+     * @throws IllegalArgumentException if the key extractor is {@code null}
+     */
+    public static <T> void sortByInt(T[] a, @Nonnull ToIntFunction<? super T> key) {
+        sortByInt(a, 0, a.length - 1, key);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order of the {@code int} keys
+     * extracted from its items. The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param key the function extracting the sort key
+     * @throws IllegalArgumentException if the key extractor is {@code null}
+     */
+    public static <T> void sortByInt(T[] a, int lo, int hi, @Nonnull ToIntFunction<? super T> key) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(key, "Key extractor [key] should not be null.");
+
+        sortByKeys(a, lo, intKeys(a, lo, hi, key));
+    }
+
+    /**
+     * Rearranges the array in ascending order of the {@code long} keys extracted
+     * from its items. The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param key the function extracting the sort key
+     * @throws IllegalArgumentException if the key extractor is {@code null}
+     */
+    public static <T> void sortByLong(T[] a, @Nonnull ToLongFunction<? super T> key) {
+        sortByLong(a, 0, a.length - 1, key);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order of the {@code long} keys
+     * extracted from its items. The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param key the function extracting the sort key
+     * @throws IllegalArgumentException if the key extractor is {@code null}
+     */
+    public static <T> void sortByLong(T[] a, int lo, int hi, @Nonnull ToLongFunction<? super T> key) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(key, "Key extractor [key] should not be null.");
+
+        sortByKeys(a, lo, longKeys(a, lo, hi, key));
+    }
+
+    /**
+     * @return the {@code int} keys of the items of a[lo .. hi].
+     */
+    static <T> int[] intKeys(T[] a, int lo, int hi, ToIntFunction<? super T> key) {
+        int[] keys = new int[hi - lo + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key.applyAsInt(a[lo + i]);
+        }
+        return keys;
+    }
+
+    /**
+     * @return the {@code long} keys of the items of a[lo .. hi].
+     */
+    static <T> long[] longKeys(T[] a, int lo, int hi, ToLongFunction<? super T> key) {
+        long[] keys = new long[hi - lo + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = key.applyAsLong(a[lo + i]);
+        }
+        return keys;
+    }
+
+    /**
+     * @return the {@code double} keys of the items of a[lo .. hi] as sortable bits, see {@link #sortableBits(double)}.
+     */
+    static <T> long[] doubleKeys(T[] a, int lo, int hi, ToDoubleFunction<? super T> key) {
+        long[] keys = new long[hi - lo + 1];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = sortableBits(key.applyAsDouble(a[lo + i]));
+        }
+        return keys;
+    }
+
+    /**
+     * Sorts the keys extracted from the items of a[lo .. lo + keys.length - 1]
+     * and moves the items to the positions of their keys.
+     *
+     * @return the strategy used to sort the keys
+     */
+    static <T> Sorts.Strategy sortByKeys(T[] a, int lo, int[] keys) {
+        if (sorted(keys)) {
+            return Sorts.Strategy.ALREADY_SORTED;
+        }
+
+        int n = keys.length;
+        if (n <= INSERTION_THRESHOLD) {
+            for (int i = 1; i < n; i++) {
+                int k = keys[i], j = i;
+                T x = a[lo + i];
+                for (; j > 0 && k < keys[j - 1]; j--) {
+                    keys[j] = keys[j - 1];
+                    a[lo + j] = a[lo + j - 1];
+                }
+                keys[j] = k;
+                a[lo + j] = x;
+            }
+            return Sorts.Strategy.INSERTION;
+        }
+
+        int[] index = identity(n);
+        sort(keys, index);
+        gather(a, lo, index);
+        return Sorts.Strategy.RADIX;
+    }
+
+    /**
+     * Sorts the keys and moves the items of {@param index} along with their keys,
+     * both arrays have the same length.
+     */
+    static void sort(int[] keys, int[] index) {
+        sort(keys, index, 0, keys.length, digitBits(keys.length));
+    }
+
+    /**
+     * Sorts the keys extracted from the items of a[lo .. lo + keys.length - 1]
+     * and moves the items to the positions of their keys.
+     *
+     * @return the strategy used to sort the keys
+     */
+    static <T> Sorts.Strategy sortByKeys(T[] a, int lo, long[] keys) {
+        if (sorted(keys)) {
+            return Sorts.Strategy.ALREADY_SORTED;
+        }
+
+        int n = keys.length;
+        if (n <= INSERTION_THRESHOLD) {
+            for (int i = 1; i < n; i++) {
+                long k = keys[i];
+                int j = i;
+                T x = a[lo + i];
+                for (; j > 0 && k < keys[j - 1]; j--) {
+                    keys[j] = keys[j - 1];
+                    a[lo + j] = a[lo + j - 1];
+                }
+                keys[j] = k;
+                a[lo + j] = x;
+            }
+            return Sorts.Strategy.INSERTION;
+        }
+
+        int[] index = identity(n);
+        sort(keys, index);
+        gather(a, lo, index);
+        return Sorts.Strategy.RADIX;
+    }
+
+    /**
+     * Sorts the keys and moves the items of {@param index} along with their keys,
+     * both arrays have the same length.
+     */
+    static void sort(long[] keys, int[] index) {
+        sort(keys, index, 0, keys.length, digitBits(keys.length));
+    }
+
+    /**
+     * Sorts keys a[lo .. lo+n-1] and, when {@param index} is not {@code null},
+     * moves index[lo .. lo+n-1] along with their keys.
+     */
+    private static void sort(int[] a, int[] index, int lo, int n, int bits) {
+        if (n < 2) {
+            return;
+        }
+
+        int radix = 1 << bits;
+        int mask = radix - 1;
+        int passes = (Integer.SIZE + bits - 1) / bits;
+
+        int[][] count = new int[passes][radix + 1];
+        for (int i = lo; i < lo + n; i++) {
+            int k = a[i] ^ Integer.MIN_VALUE;
+            for (int p = 0; p < passes; p++) {
+                count[p][((k >>> (p * bits)) & mask) + 1]++;
+            }
+        }
+
+        int[] src = a, dst = new int[n];
+        int srcLo = lo, dstLo = 0;
+        int[] srcIndex = index, dstIndex = index == null ? null : new int[n];
+        for (int p = 0; p < passes; p++) {
+            int shift = p * bits;
+            int[] c = count[p];
+
+            if (c[(((src[srcLo] ^ Integer.MIN_VALUE) >>> shift) & mask) + 1] == n) {
+                continue;
+            }
+
+            for (int r = 0; r < radix; r++) {
+                c[r + 1] += c[r];
+            }
+
+            if (srcIndex == null) {
+                for (int i = srcLo; i < srcLo + n; i++) {
+                    int k = src[i];
+                    dst[dstLo + c[((k ^ Integer.MIN_VALUE) >>> shift) & mask]++] = k;
+                }
+            } else {
+                for (int i = srcLo; i < srcLo + n; i++) {
+                    int k = src[i];
+                    int j = dstLo + c[((k ^ Integer.MIN_VALUE) >>> shift) & mask]++;
+                    dst[j] = k;
+                    dstIndex[j] = srcIndex[i];
+                }
+            }
+
+            int[] t = src;
+            src = dst;
+            dst = t;
+            int[] tIndex = srcIndex;
+            srcIndex = dstIndex;
+            dstIndex = tIndex;
+            int tLo = srcLo;
+            srcLo = dstLo;
+            dstLo = tLo;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcLo, a, lo, n);
+            if (index != null) {
+                System.arraycopy(srcIndex, srcLo, index, lo, n);
+            }
+        }
+    }
+
+    /**
+     * Sorts keys a[lo .. lo+n-1] and, when {@param index} is not {@code null},
+     * moves index[lo .. lo+n-1] along with their keys.
+     */
+    private static void sort(long[] a, int[] index, int lo, int n, int bits) {
+        if (n < 2) {
+            return;
+        }
+
+        int radix = 1 << bits;
+        int mask = radix - 1;
+        int passes = (Long.SIZE + bits - 1) / bits;
+
+        int[][] count = new int[passes][radix + 1];
+        for (int i = lo; i < lo + n; i++) {
+            long k = a[i] ^ Long.MIN_VALUE;
+            for (int p = 0; p < passes; p++) {
+                count[p][(int) ((k >>> (p * bits)) & mask) + 1]++;
+            }
+        }
+
+        long[] src = a, dst = new long[n];
+        int srcLo = lo, dstLo = 0;
+        int[] srcIndex = index, dstIndex = index == null ? null : new int[n];
+        for (int p = 0; p < passes; p++) {
+            int shift = p * bits;
+            int[] c = count[p];
+
+            if (c[(int) (((src[srcLo] ^ Long.MIN_VALUE) >>> shift) & mask) + 1] == n) {
+                continue;
+            }
+
+            for (int r = 0; r < radix; r++) {
+                c[r + 1] += c[r];
+            }
+
+            if (srcIndex == null) {
+                for (int i = srcLo; i < srcLo + n; i++) {
+                    long k = src[i];
+                    dst[dstLo + c[(int) (((k ^ Long.MIN_VALUE) >>> shift) & mask)]++] = k;
+                }
+            } else {
+                for (int i = srcLo; i < srcLo + n; i++) {
+                    long k = src[i];
+                    int j = dstLo + c[(int) (((k ^ Long.MIN_VALUE) >>> shift) & mask)]++;
+                    dst[j] = k;
+                    dstIndex[j] = srcIndex[i];
+                }
+            }
+
+            long[] t = src;
+            src = dst;
+            dst = t;
+            int[] tIndex = srcIndex;
+            srcIndex = dstIndex;
+            dstIndex = tIndex;
+            int tLo = srcLo;
+            srcLo = dstLo;
+            dstLo = tLo;
+        }
+
+        if (src != a) {
+            System.arraycopy(src, srcLo, a, lo, n);
+            if (index != null) {
+                System.arraycopy(srcIndex, srcLo, index, lo, n);
+            }
+        }
+    }
+
+    /**
+     * @return the bits of the double ordered as signed longs in the order of {@link Double#compare(double, double)}.
+     */
+    static long sortableBits(double d) {
+        return sortableBits(Double.doubleToLongBits(d));
+    }
+
+    /**
+     * @return the bits of the float ordered as signed ints in the order of {@link Float#compare(float, float)}.
+     */
+    private static int sortableBits(float f) {
+        return sortableBits(Float.floatToIntBits(f));
+    }
+
+    /**
+     * @return the bits with all but the sign bit flipped for negative values, the mapping is its own inverse.
+     */
+    private static long sortableBits(long bits) {
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * @return the bits with all but the sign bit flipped for negative values, the mapping is its own inverse.
+     */
+    private static int sortableBits(int bits) {
+        return bits ^ ((bits >> 31) & Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return the array of indexes from 0 to n - 1.
+     */
+    private static int[] identity(int n) {
+        int[] index = new int[n];
+        for (int i = 0; i < n; i++) {
+            index[i] = i;
+        }
+        return index;
+    }
+
+    /**
+     * Moves the item a[lo + index[i]] to the position lo + i for every i.
+     */
+    private static <T> void gather(T[] a, int lo, int[] index) {
+        T[] items = Arrays.copyOfRange(a, lo, lo + index.length);
+        for (int i = 0; i < index.length; i++) {
+            a[lo + i] = items[index[i]];
+        }
+    }
+
+    /**
+     * @return the default digit size for {@param n} keys.
+     */
+    private static int digitBits(int n) {
+        return n < LARGE_ARRAY_THRESHOLD ? 8 : 11;
+    }
+
+    /**
+     * Checks that the digit size is supported and throws an exception if it isn't.
+     */
+    private static void checkDigitBits(int bits) {
+        requireTrue(bits == 8 || bits == 11 || bits == 16, "Digit size [bits] should be 8, 11 or 16.");
+    }
+}
@@ -0,0 +1,34 @@
+package com.codingthrough.algorithms.sort;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The <tt>RecordCodec</tt> converts fixed-width records between their binary
+ * form and objects, see {@link ExternalSort}.
+ */
+public interface RecordCodec<T> {
+    /**
+     * Returns the number of bytes occupied by a single encoded record.
+     *
+     * @return the size of an encoded record in bytes
+     */
+    int recordSize();
+
+    /**
+     * Reads a record starting at the current position of the buffer.
+     * The implementation has to advance the position by exactly {@link #recordSize()} bytes.
+     *
+     * @param buffer the buffer to read the record from
+     * @return the decoded record
+     */
+    T decode(ByteBuffer buffer);
+
+    /**
+     * Writes a record starting at the current position of the buffer.
+     * The implementation has to advance the position by exactly {@link #recordSize()} bytes.
+     *
+     * @param record the record to be written
+     * @param buffer the buffer to write the record to
+     */
+    void encode(T record, ByteBuffer buffer);
+}
@@ -0,0 +1,359 @@
+package com.codingthrough.algorithms.sort;
+
+import javax.annotation.Nonnull;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+import static com.codingthrough.algorithms.Preconditions.requireTrue;
+
+/**
+ * The <tt>RecordSort</tt> sorts fixed-width records in place inside a {@link ByteBuffer}
+ * without decoding them into objects.
+ * <p>
+ * The records are the bytes between the position and the limit of the buffer, every
+ * record holds its key at a fixed offset. The key is either a sequence of bytes compared
+ * as unsigned lexicographically, or an <tt>int</tt> or <tt>long</tt> read in the byte order
+ * of the buffer and compared as signed. Records are moved by whole words between the buffer
+ * and a scratch buffer of the same size, which can be supplied by the caller to avoid the
+ * allocation. The scratch buffer is direct if the sorted buffer is direct.
+ * </p>
+ * <p>
+ * {@link #sort(ByteBuffer)} is a bottom-up merge sort over blocks sorted by insertion sort,
+ * which takes O(n log n) comparisons of the keys. {@link #radixSort(ByteBuffer)} is LSD radix
+ * sort over the bytes of the key, which takes a pass over the records per key byte, but skips
+ * the bytes equal in all records. Both sorts are stable.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Radix_sort#Least_significant_digit">Wikipedia article - LSD Radix Sort</a>.
+ * </p>
+ * For a sort of records in a file, see {@link ExternalSort}.
+ */
+public class RecordSort {
+    /**
+     * Blocks of this number of records are sorted by insertion sort before merging.
+     */
+    private static final int BLOCK_SIZE = 16;
+
+    /**
+     * The number of values of a byte.
+     */
+    private static final int R = 256;
+
+    /**
+     * The type of the key.
+     */
+    private enum Key {
+        BYTES, INT, LONG
+    }
+
+    private final int recordSize;
+    private final Key key;
+    private final int keyOffset;
+    private final int keyLength;
+
+    private RecordSort(int recordSize, Key key, int keyOffset, int keyLength) {
+        requireTrue(recordSize > 0, "Record size [recordSize] should be positive.");
+        requireTrue(keyLength > 0, "Key length [keyLength] should be positive.");
+        requireTrue(keyOffset >= 0 && keyOffset <= recordSize - keyLength,
+                "Key of %d bytes at offset [keyOffset] should be inside the record of %d bytes.", keyLength, recordSize);
+
+        this.recordSize = recordSize;
+        this.key = key;
+        this.keyOffset = keyOffset;
+        this.keyLength = keyLength;
+    }
+
+    /**
+     * Creates a sort of records ordered by the bytes of the key compared as unsigned.
+     *
+     * @param recordSize the size of a record in bytes
+     * @param keyOffset  the offset of the key inside the record
+     * @param keyLength  the size of the key in bytes
+     * @return the sort of the records
+     * @throws IllegalArgumentException if the sizes are not positive or the key is outside the record
+     */
+    public static RecordSort byBytes(int recordSize, int keyOffset, int keyLength) {
+        return new RecordSort(recordSize, Key.BYTES, keyOffset, keyLength);
+    }
+
+    /**
+     * Creates a sort of records ordered by the <tt>int</tt> key.
+     *
+     * @param recordSize the size of a record in bytes
+     * @param keyOffset  the offset of the key inside the record
+     * @return the sort of the records
+     * @throws IllegalArgumentException if the size is not positive or the key is outside the record
+     */
+    public static RecordSort byInt(int recordSize, int keyOffset) {
+        return new RecordSort(recordSize, Key.INT, keyOffset, Integer.BYTES);
+    }
+
+    /**
+     * Creates a sort of records ordered by the <tt>long</tt> key.
+     *
+     * @param recordSize the size of a record in bytes
+     * @param keyOffset  the offset of the key inside the record
+     * @return the sort of the records
+     * @throws IllegalArgumentException if the size is not positive or the key is outside the record
+     */
+    public static RecordSort byLong(int recordSize, int keyOffset) {
+        return new RecordSort(recordSize, Key.LONG, keyOffset, Long.BYTES);
+    }
+
+    /**
+     * Rearranges the records of the buffer in ascending order of the keys using merge sort.
+     *
+     * @param buffer the buffer to be sorted
+     * @throws IllegalArgumentException if the buffer is {@code null} or read-only,
+     *                                  or its size is not a multiple of the record size
+     */
+    public void sort(@Nonnull ByteBuffer buffer) {
+        sort(buffer, null);
+    }
+
+    /**
+     * Rearranges the records of the buffer in ascending order of the keys using merge sort
+     * and the scratch buffer. The content of the scratch buffer is overwritten.
+     *
+     * @param buffer  the buffer to be sorted
+     * @param scratch the scratch buffer having at least as many bytes remaining as the buffer,
+     *                or {@code null} to allocate one
+     * @throws IllegalArgumentException if the buffer is {@code null} or read-only, its size is not
+     *                                  a multiple of the record size or the scratch buffer is too small
+     */
+    public void sort(@Nonnull ByteBuffer buffer, ByteBuffer scratch) {
+        ByteBuffer a = records(buffer);
+        int n = a.limit() / recordSize;
+        if (n < 2) {
+            return;
+        }
+
+        for (int lo = 0; lo < n; lo += BLOCK_SIZE) {
+            insertionSort(a, lo, Math.min(lo + BLOCK_SIZE, n));
+        }
+        if (n <= BLOCK_SIZE) {
+            return;
+        }
+
+        ByteBuffer from = a, to = scratch(a, scratch);
+        for (int sz = BLOCK_SIZE; sz < n; sz *= 2) {
+            for (int lo = 0; lo < n; lo += 2 * sz) {
+                merge(from, to, lo, Math.min(lo + sz, n), Math.min(lo + 2 * sz, n));
+            }
+            ByteBuffer t = from;
+            from = to;
+            to = t;
+        }
+        if (from != a) {
+            a.put(from);
+        }
+    }
+
+    /**
+     * Rearranges the records of the buffer in ascending order of the keys using LSD radix sort.
+     *
+     * @param buffer the buffer to be sorted
+     * @throws IllegalArgumentException if the buffer is {@code null} or read-only,
+     *                                  or its size is not a multiple of the record size
+     */
+    public void radixSort(@Nonnull ByteBuffer buffer) {
+        radixSort(buffer, null);
+    }
+
+    /**
+     * Rearranges the records of the buffer in ascending order of the keys using LSD radix sort
+     * and the scratch buffer. The content of the scratch buffer is overwritten.
+     *
+     * @param buffer  the buffer to be sorted
+     * @param scratch the scratch buffer having at least as many bytes remaining as the buffer,
+     *                or {@code null} to allocate one
+     * @throws IllegalArgumentException if the buffer is {@code null} or read-only, its size is not
+     *                                  a multiple of the record size or the scratch buffer is too small
+     */
+    public void radixSort(@Nonnull ByteBuffer buffer, ByteBuffer scratch) {
+        ByteBuffer a = records(buffer);
+        int n = a.limit() / recordSize;
+        if (n < 2) {
+            return;
+        }
+
+        // count the frequencies of all digits in a single pass
+        int[][] count = new int[keyLength][R + 1];
+        for (int i = 0, p = 0; i < n; i++, p += recordSize) {
+            for (int d = 0; d < keyLength; d++) {
+                count[d][digit(a, p, d) + 1]++;
+            }
+        }
+
+        ByteBuffer from = a, to = null;
+        for (int d = 0; d < keyLength; d++) {
+            int[] cnt = count[d];
+            if (cnt[digit(from, 0, d) + 1] == n) {
+                continue;
+            }
+            if (to == null) {
+                to = scratch(a, scratch);
+            }
+
+            // compute cumulates and distribute
+            for (int r = 0; r < R; r++) {
+                cnt[r + 1] += cnt[r];
+            }
+            for (int i = 0, p = 0; i < n; i++, p += recordSize) {
+                copy(from, p, to, cnt[digit(from, p, d)]++ * recordSize, recordSize);
+            }
+            ByteBuffer t = from;
+            from = to;
+            to = t;
+        }
+        if (from != a) {
+            a.put(from);
+        }
+    }
+
+    /**
+     * @return the records of the buffer as a buffer indexed from zero in the same byte order.
+     */
+    private ByteBuffer records(ByteBuffer buffer) {
+        ensureNotNull(buffer, "Buffer [buffer] should not be null.");
+        requireTrue(!buffer.isReadOnly(), "Buffer [buffer] should not be read-only.");
+        requireTrue(buffer.remaining() % recordSize == 0,
+                "Buffer size %d should be a multiple of the record size %d.", buffer.remaining(), recordSize);
+
+        return buffer.slice().order(buffer.order());
+    }
+
+    /**
+     * @return the scratch buffer of the size of {@param a} indexed from zero in the same byte order.
+     */
+    private static ByteBuffer scratch(ByteBuffer a, ByteBuffer scratch) {
+        if (scratch == null) {
+            return (a.isDirect() ? ByteBuffer.allocateDirect(a.limit()) : ByteBuffer.allocate(a.limit())).order(a.order());
+        }
+
+        requireTrue(!scratch.isReadOnly(), "Scratch buffer [scratch] should not be read-only.");
+        requireTrue(scratch.remaining() >= a.limit(),
+                "Scratch buffer [scratch] should have at least %d bytes remaining.", a.limit());
+        ByteBuffer s = scratch.slice().order(a.order());
+        s.limit(a.limit());
+        return s;
+    }
+
+    /**
+     * Sorts the records lo .. hi-1 in place using insertion sort.
+     */
+    private void insertionSort(ByteBuffer a, int lo, int hi) {
+        for (int i = lo + 1; i < hi; i++) {
+            for (int j = i; j > lo && compare(a, j * recordSize, a, (j - 1) * recordSize) < 0; j--) {
+                swap(a, j * recordSize, (j - 1) * recordSize);
+            }
+        }
+    }
+
+    /**
+     * Merges the records lo .. mid-1 with mid .. hi-1 of {@param from} into the same records of {@param to}.
+     */
+    private void merge(ByteBuffer from, ByteBuffer to, int lo, int mid, int hi) {
+        int i = lo * recordSize, iHi = mid * recordSize;
+        int j = iHi, jHi = hi * recordSize;
+        int k = i;
+
+        // the parts are already in order
+        if (j == jHi || compare(from, j - recordSize, from, j) <= 0) {
+            copy(from, i, to, k, jHi - i);
+            return;
+        }
+
+        while (i < iHi && j < jHi) {
+            if (compare(from, j, from, i) < 0) {
+                copy(from, j, to, k, recordSize);
+                j += recordSize;
+            } else {
+                copy(from, i, to, k, recordSize);
+                i += recordSize;
+            }
+            k += recordSize;
+        }
+        copy(from, i, to, k, iHi - i);
+        copy(from, j, to, k + iHi - i, jHi - j);
+    }
+
+    /**
+     * Compares the keys of the records at the byte offsets {@param p} of {@param a} and {@param q} of {@param b}.
+     */
+    private int compare(ByteBuffer a, int p, ByteBuffer b, int q) {
+        p += keyOffset;
+        q += keyOffset;
+        switch (key) {
+            case INT:
+                return Integer.compare(a.getInt(p), b.getInt(q));
+            case LONG:
+                return Long.compare(a.getLong(p), b.getLong(q));
+            default:
+                boolean little = a.order() == ByteOrder.LITTLE_ENDIAN;
+                int end = p + keyLength;
+                for (; p + Long.BYTES <= end; p += Long.BYTES, q += Long.BYTES) {
+                    long x = a.getLong(p), y = b.getLong(q);
+                    if (x != y) {
+                        return little
+                                ? Long.compareUnsigned(Long.reverseBytes(x), Long.reverseBytes(y))
+                                : Long.compareUnsigned(x, y);
+                    }
+                }
+                for (; p < end; p++, q++) {
+                    int x = a.get(p) & 0xFF, y = b.get(q) & 0xFF;
+                    if (x != y) {
+                        return x - y;
+                    }
+                }
+                return 0;
+        }
+    }
+
+    /**
+     * Returns the d-th least significant byte of the key of the record at the byte offset {@param p},
+     * the sign bit of primitive keys is flipped to order them as unsigned.
+     */
+    private int digit(ByteBuffer a, int p, int d) {
+        if (key == Key.BYTES) {
+            return a.get(p + keyOffset + keyLength - 1 - d) & 0xFF;
+        }
+
+        int i = a.order() == ByteOrder.BIG_ENDIAN ? keyLength - 1 - d : d;
+        int b = a.get(p + keyOffset + i) & 0xFF;
+        return d == keyLength - 1 ? b ^ 0x80 : b;
+    }
+
+    /**
+     * Copies {@param length} bytes from the offset {@param p} of {@param from} to the offset {@param q} of {@param to},
+     * both buffers have the same byte order.
+     */
+    private static void copy(ByteBuffer from, int p, ByteBuffer to, int q, int length) {
+        int end = p + length;
+        for (; p + Long.BYTES <= end; p += Long.BYTES, q += Long.BYTES) {
+            to.putLong(q, from.getLong(p));
+        }
+        for (; p < end; p++, q++) {
+            to.put(q, from.get(p));
+        }
+    }
+
+    /**
+     * Exchanges the records at the byte offsets {@param p} and {@param q}.
+     */
+    private void swap(ByteBuffer a, int p, int q) {
+        int end = p + recordSize;
+        for (; p + Long.BYTES <= end; p += Long.BYTES, q += Long.BYTES) {
+            long t = a.getLong(p);
+            a.putLong(p, a.getLong(q));
+            a.putLong(q, t);
+        }
+        for (; p < end; p++, q++) {
+            byte t = a.get(p);
+            a.put(p, a.get(q));
+            a.put(q, t);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.codingthrough.algorithms.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * The <tt>SampleSort</tt> provides a number of static methods to sort an array
+ * using parallel sample sort algorithm.
+ * <p>
+ * Splitters are taken from a sorted random oversample, chunks of the array are
+ * classified into the buckets between the splitters concurrently, and every chunk
+ * scatters its items to the offsets given by the prefix sums of the bucket counts.
+ * The buckets are then sorted concurrently by {@link MergeX}, so unlike a fork/join
+ * merge sort there is no sequential merge of the whole array at the end. Items equal
+ * to a splitter get a bucket of their own which needs no sorting, so inputs with
+ * many duplicates do not produce oversized buckets. The scatter keeps the order of
+ * the chunks and the buckets are sorted by a stable sort, so the sort is stable.
+ * Arrays smaller than 65536 items are sorted by {@link MergeX} sequentially.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Samplesort">Wikipedia article - Samplesort</a>.
+ * </p>
+ */
+public class SampleSort extends SortSupport {
+    /**
+     * Arrays smaller than this are sorted sequentially.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 16;
+
+    /**
+     * The number of sampled items per bucket.
+     */
+    private static final int OVERSAMPLING = 32;
+
+    /**
+     * The maximum number of splitters, so together with the buckets of items
+     * equal to splitters there are at most 255 buckets and a bucket fits in a byte.
+     */
+    private static final int MAX_SPLITTERS = 127;
+
+    /**
+     * The minimum number of items classified by a single task.
+     */
+    private static final int MIN_CHUNK_SIZE = 1 << 14;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private SampleSort() {
+    }
+
+    /**
+     * Rearranges the array in ascending order using the natural order,
+     * sorting the buckets concurrently in the common fork/join pool.
+     *
+     * @param a the array to be sorted
+     */
+    public static <T extends Comparable<T>> void parallelSort(T[] a) {
+        parallelSort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order,
+     * sorting the buckets concurrently in the common fork/join pool.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static <T extends Comparable<T>> void parallelSort(T[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        if (hi - lo < SEQUENTIAL_THRESHOLD) {
+            MergeX.sort(a, lo, hi);
+        } else {
+            Comparator<T> c = Comparator.naturalOrder();
+            ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> sort(a, lo, hi, c)));
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator,
+     * sorting the buckets concurrently in the common fork/join pool.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator specifying the order
+     */
+    public static <T> void parallelSort(T[] a, Comparator<T> c) {
+        parallelSort(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator,
+     * sorting the buckets concurrently in the common fork/join pool.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     */
+    public static <T> void parallelSort(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+
+        if (hi - lo < SEQUENTIAL_THRESHOLD) {
+            MergeX.sort(a, lo, hi, c);
+        } else {
+            ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> sort(a, lo, hi, c)));
+        }
+
+        assert sorted(a, lo, hi, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator,
+     * the method is run by a task of the common fork/join pool.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void sort(T[] a, int lo, int hi, Comparator<T> c) {
+        int n = hi - lo + 1;
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+        T[] splitters = splitters(a, lo, hi, Math.min(MAX_SPLITTERS, 8 * parallelism - 1), c);
+        int buckets = 2 * splitters.length + 1;
+
+        // classification: oracle[i] is the bucket of a[lo + i], counts[t][b] is the size of bucket b in chunk t
+        int chunks = Math.max(1, Math.min(4 * parallelism, n / MIN_CHUNK_SIZE));
+        byte[] oracle = new byte[n];
+        int[][] counts = new int[chunks][buckets];
+        invokeAll(chunks, t -> classify(a, lo + chunkStart(n, chunks, t), lo + chunkStart(n, chunks, t + 1) - 1,
+                lo, splitters, oracle, counts[t], c));
+
+        // offsets: a bucket starts after all smaller buckets, inside a bucket the chunks keep their order
+        int[] bucketStart = new int[buckets + 1];
+        for (int b = 0, sum = 0; b < buckets; b++) {
+            bucketStart[b] = sum;
+            for (int t = 0; t < chunks; t++) {
+                int count = counts[t][b];
+                counts[t][b] = sum;
+                sum += count;
+            }
+        }
+        bucketStart[buckets] = n;
+
+        T[] aux = (T[]) new Object[n];
+        invokeAll(chunks, t -> scatter(a, lo + chunkStart(n, chunks, t), lo + chunkStart(n, chunks, t + 1) - 1,
+                lo, oracle, counts[t], aux));
+
+        // items equal to a splitter are in the odd buckets and need no sorting
+        int large = 2 * n / (splitters.length + 1);
+        invokeAll(buckets, b -> {
+            int from = bucketStart[b], to = bucketStart[b + 1] - 1;
+            if (from > to) {
+                return;
+            }
+
+            System.arraycopy(aux, from, a, lo + from, to - from + 1);
+            if ((b & 1) == 0 && from < to) {
+                if (to - from > large) {
+                    MergeX.parallelSort(a, lo + from, lo + to, c);
+                } else {
+                    MergeX.sort(a, lo + from, lo + to, c);
+                }
+            }
+        });
+    }
+
+    /**
+     * @return at most {@param m} distinct splitters in ascending order,
+     * taken from a sorted random sample of a[lo .. hi].
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] splitters(T[] a, int lo, int hi, int m, Comparator<T> c) {
+        int n = hi - lo + 1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        T[] sample = (T[]) new Object[(m + 1) * OVERSAMPLING - 1];
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = a[lo + random.nextInt(n)];
+        }
+        MergeX.sort(sample, c);
+
+        T[] splitters = (T[]) new Object[m];
+        int s = 0;
+        for (int i = OVERSAMPLING - 1; i < sample.length; i += OVERSAMPLING) {
+            if (s == 0 || less(splitters[s - 1], sample[i], c)) {
+                splitters[s++] = sample[i];
+            }
+        }
+        return Arrays.copyOf(splitters, s);
+    }
+
+    /**
+     * Finds the buckets of a[from .. to] and counts the items of every bucket.
+     * Bucket 2j holds the items between splitters j-1 and j, bucket 2j+1 holds the items equal to splitter j.
+     */
+    private static <T> void classify(T[] a, int from, int to, int lo, T[] splitters, byte[] oracle,
+                                     int[] count, Comparator<T> c) {
+        int m = splitters.length;
+        for (int i = from; i <= to; i++) {
+            T v = a[i];
+
+            // the first splitter that is not less than v
+            int l = 0, r = m;
+            while (l < r) {
+                int mid = (l + r) >>> 1;
+                if (less(splitters[mid], v, c)) {
+                    l = mid + 1;
+                } else {
+                    r = mid;
+                }
+            }
+
+            int b = l < m && !less(v, splitters[l], c) ? 2 * l + 1 : 2 * l;
+            oracle[i - lo] = (byte) b;
+            count[b]++;
+        }
+    }
+
+    /**
+     * Moves a[from .. to] to their buckets in aux, {@param next} holds the next free
+     * position of every bucket reserved for the chunk.
+     */
+    private static <T> void scatter(T[] a, int from, int to, int lo, byte[] oracle, int[] next, T[] aux) {
+        for (int i = from; i <= to; i++) {
+            aux[next[oracle[i - lo] & 0xFF]++] = a[i];
+        }
+    }
+
+    /**
+     * @return the offset of chunk {@param t} of {@param chunks} equal chunks of {@param n} items.
+     */
+    private static int chunkStart(int n, int chunks, int t) {
+        return (int) ((long) n * t / chunks);
+    }
+
+    /**
+     * Runs the body for every index from 0 to {@param tasks} - 1 concurrently and waits for all of them.
+     */
+    private static void invokeAll(int tasks, IntConsumer body) {
+        List<ForkJoinTask<?>> list = new ArrayList<>(tasks);
+        for (int t = 0; t < tasks; t++) {
+            int task = t;
+            list.add(ForkJoinTask.adapt(() -> body.accept(task)));
+        }
+        ForkJoinTask.invokeAll(list);
+    }
+}
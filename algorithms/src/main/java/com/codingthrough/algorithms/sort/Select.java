@@ -0,0 +1,744 @@
+package com.codingthrough.algorithms.sort;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+import static com.codingthrough.algorithms.Preconditions.requireTrue;
+
+/**
+ * The <tt>Select</tt> provides a number of static methods to find the items
+ * of a given rank or the smallest items without sorting the whole input.
+ * <p>
+ * Selection partitions the array around a pivot like quick sort but continues only
+ * with the part containing the requested rank, which takes linear time on average.
+ * The pivot is the median of three items and 3-way partitioning handles equal keys,
+ * once the number of partitioning levels exceeds 2 * log2(n) the pivot is chosen
+ * by the median of medians of groups of five, which bounds the worst case.
+ * Partial sort selects the k smallest items and sorts only them in O(n + k log k).
+ * Top-k keeps the k smallest items seen so far in a bounded heap, so it works on
+ * an iterator of any length in O(n log k) time and O(k) memory.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Introselect">Wikipedia article - Introselect</a>
+ * and <a href="https://en.wikipedia.org/wiki/Median_of_medians">Wikipedia article - Median of Medians</a>.
+ * </p>
+ */
+public class Select extends SortSupport {
+    /**
+     * The initial capacity of the heap used by top-k, it grows up to k items.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * This class should not be instantiated.
+     */
+    private Select() {
+    }
+
+    /**
+     * Rearranges the array so that a[k] is the item of rank k in the natural order,
+     * no item before it is greater and no item after it is less than a[k].
+     *
+     * @param a the array to be rearranged
+     * @param k the rank of the item to be selected, 0 for the smallest one
+     * @return the item of rank k
+     * @throws IllegalArgumentException if the rank is outside the array
+     */
+    public static <T extends Comparable<T>> T select(T[] a, int k) {
+        return select(a, 0, a.length - 1, k);
+    }
+
+    /**
+     * Rearranges the array inside bounds so that a[k] is the item of rank k - lo in the natural order,
+     * no item of a[lo .. k-1] is greater and no item of a[k+1 .. hi] is less than a[k].
+     *
+     * @param a  the array to be rearranged
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param k  the index of the item to be selected
+     * @return the item of rank k - lo
+     * @throws IllegalArgumentException if the index is outside bounds
+     */
+    public static <T extends Comparable<T>> T select(T[] a, int lo, int hi, int k) {
+        checkBounds(a.length, lo, hi);
+        checkRank(lo, hi, k);
+
+        introselect(a, lo, hi, k);
+        return a[k];
+    }
+
+    /**
+     * Rearranges the array so that its k smallest items in the natural order
+     * are at a[0 .. k-1] in ascending order, the order of the rest is undefined.
+     *
+     * @param a the array to be rearranged
+     * @param k the number of the smallest items to be sorted
+     * @throws IllegalArgumentException if the number of items is negative or exceeds the array length
+     */
+    public static <T extends Comparable<T>> void partialSort(T[] a, int k) {
+        requireTrue(k >= 0 && k <= a.length, "Number of items [k] should be between 0 and %d.", a.length);
+        if (k == 0) {
+            return;
+        }
+
+        introselect(a, 0, a.length - 1, k - 1);
+        Quick.sort(a, 0, k - 1);
+    }
+
+    /**
+     * Moves the item of rank k - lo to a[k] partitioning a[lo .. hi] around sampled pivots,
+     * the pivot is the median of medians once the partitioning levels are exhausted.
+     */
+    private static <T extends Comparable<T>> void introselect(T[] a, int lo, int hi, int k) {
+        int depth = depthLimit(hi - lo + 1);
+        while (hi - lo >= Network.MAX_SIZE) {
+            int p = depth-- > 0
+                    ? medianOf3(a, lo, lo + (hi - lo) / 2, hi)
+                    : medianOfMedians(a, lo, hi);
+
+            // 3-way partitioning: a[lo .. lt-1] < v = a[lt .. gt] < a[gt+1 .. hi]
+            swap(a, lo, p);
+            T v = a[lo];
+            int lt = lo, gt = hi, i = lo + 1;
+            while (i <= gt) {
+                if (less(a[i], v)) {
+                    swap(a, lt++, i++);
+                } else if (less(v, a[i])) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+
+        if (lo < hi) {
+            Network.apply(a, lo, hi);
+        }
+    }
+
+    /**
+     * @return the index of the median of a[i], a[j] and a[k].
+     */
+    private static <T extends Comparable<T>> int medianOf3(T[] a, int i, int j, int k) {
+        return less(a[i], a[j])
+                ? (less(a[j], a[k]) ? j : less(a[i], a[k]) ? k : i)
+                : (less(a[k], a[j]) ? j : less(a[k], a[i]) ? k : i);
+    }
+
+    /**
+     * Moves the medians of the groups of five items of a[lo .. hi] to the front
+     * and selects their median.
+     *
+     * @return the index of the median of medians
+     */
+    private static <T extends Comparable<T>> int medianOfMedians(T[] a, int lo, int hi) {
+        int m = lo;
+        for (int i = lo; i <= hi; i += 5) {
+            int r = Math.min(i + 4, hi);
+            if (i < r) {
+                Network.apply(a, i, r);
+            }
+            swap(a, m++, i + (r - i) / 2);
+        }
+
+        int mid = lo + (m - 1 - lo) / 2;
+        introselect(a, lo, m - 1, mid);
+        return mid;
+    }
+
+    /**
+     * Rearranges the array so that a[k] is the item of rank k in the order of the comparator,
+     * no item before it is greater and no item after it is less than a[k].
+     *
+     * @param a the array to be rearranged
+     * @param k the rank of the item to be selected, 0 for the smallest one
+     * @param c the comparator specifying the order
+     * @return the item of rank k
+     * @throws IllegalArgumentException if the rank is outside the array
+     */
+    public static <T> T select(T[] a, int k, Comparator<T> c) {
+        return select(a, 0, a.length - 1, k, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds so that a[k] is the item of rank k - lo in the order of the comparator,
+     * no item of a[lo .. k-1] is greater and no item of a[k+1 .. hi] is less than a[k].
+     *
+     * @param a  the array to be rearranged
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param k  the index of the item to be selected
+     * @param c  the comparator specifying the order
+     * @return the item of rank k - lo
+     * @throws IllegalArgumentException if the index is outside bounds
+     */
+    public static <T> T select(T[] a, int lo, int hi, int k, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+        checkRank(lo, hi, k);
+
+        introselect(a, lo, hi, k, c);
+        return a[k];
+    }
+
+    /**
+     * Rearranges the array so that its k smallest items in the order of the comparator
+     * are at a[0 .. k-1] in ascending order, the order of the rest is undefined.
+     *
+     * @param a the array to be rearranged
+     * @param k the number of the smallest items to be sorted
+     * @param c the comparator specifying the order
+     * @throws IllegalArgumentException if the number of items is negative or exceeds the array length
+     */
+    public static <T> void partialSort(T[] a, int k, Comparator<T> c) {
+        requireTrue(k >= 0 && k <= a.length, "Number of items [k] should be between 0 and %d.", a.length);
+        if (k == 0) {
+            return;
+        }
+
+        introselect(a, 0, a.length - 1, k - 1, c);
+        Quick.sort(a, 0, k - 1, c);
+    }
+
+    /**
+     * Moves the item of rank k - lo to a[k] partitioning a[lo .. hi] around sampled pivots,
+     * the pivot is the median of medians once the partitioning levels are exhausted.
+     */
+    private static <T> void introselect(T[] a, int lo, int hi, int k, Comparator<T> c) {
+        int depth = depthLimit(hi - lo + 1);
+        while (hi - lo >= Network.MAX_SIZE) {
+            int p = depth-- > 0
+                    ? medianOf3(a, lo, lo + (hi - lo) / 2, hi, c)
+                    : medianOfMedians(a, lo, hi, c);
+
+            // 3-way partitioning: a[lo .. lt-1] < v = a[lt .. gt] < a[gt+1 .. hi]
+            swap(a, lo, p);
+            T v = a[lo];
+            int lt = lo, gt = hi, i = lo + 1;
+            while (i <= gt) {
+                if (less(a[i], v, c)) {
+                    swap(a, lt++, i++);
+                } else if (less(v, a[i], c)) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+
+        if (lo < hi) {
+            Network.apply(a, lo, hi, c);
+        }
+    }
+
+    /**
+     * @return the index of the median of a[i], a[j] and a[k].
+     */
+    private static <T> int medianOf3(T[] a, int i, int j, int k, Comparator<T> c) {
+        return less(a[i], a[j], c)
+                ? (less(a[j], a[k], c) ? j : less(a[i], a[k], c) ? k : i)
+                : (less(a[k], a[j], c) ? j : less(a[k], a[i], c) ? k : i);
+    }
+
+    /**
+     * Moves the medians of the groups of five items of a[lo .. hi] to the front
+     * and selects their median.
+     *
+     * @return the index of the median of medians
+     */
+    private static <T> int medianOfMedians(T[] a, int lo, int hi, Comparator<T> c) {
+        int m = lo;
+        for (int i = lo; i <= hi; i += 5) {
+            int r = Math.min(i + 4, hi);
+            if (i < r) {
+                Network.apply(a, i, r, c);
+            }
+            swap(a, m++, i + (r - i) / 2);
+        }
+
+        int mid = lo + (m - 1 - lo) / 2;
+        introselect(a, lo, m - 1, mid, c);
+        return mid;
+    }
+
+    /**
+     * Returns the k smallest items produced by the iterator in ascending natural order.
+     * At most k items are held in memory, the iterator is exhausted.
+     *
+     * @param it the iterator producing the items
+     * @param k  the number of the smallest items to be returned
+     * @return the list of at most k smallest items in ascending order
+     * @throws IllegalArgumentException if the iterator is {@code null} or the number of items is negative
+     */
+    public static <T extends Comparable<T>> List<T> topK(@Nonnull Iterator<T> it, int k) {
+        return topK(it, k, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Returns the k smallest items produced by the iterator in ascending order of the comparator,
+     * a reversed comparator gives the k largest items. At most k items are held in memory,
+     * the iterator is exhausted.
+     *
+     * @param it the iterator producing the items
+     * @param k  the number of the smallest items to be returned
+     * @param c  the comparator specifying the order
+     * @return the list of at most k smallest items in ascending order
+     * @throws IllegalArgumentException if the iterator or the comparator is {@code null},
+     *                                  or the number of items is negative
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> topK(@Nonnull Iterator<T> it, int k, @Nonnull Comparator<T> c) {
+        ensureNotNull(it, "Iterator [it] should not be null.");
+        ensureNotNull(c, "Comparator [c] should not be null.");
+        requireTrue(k >= 0, "Number of items [k] should not be negative.");
+        if (k == 0) {
+            return new ArrayList<>();
+        }
+
+        // max-heap of the k smallest items seen so far, the greatest of them is at heap[0]
+        T[] heap = (T[]) new Object[Math.min(k, INITIAL_CAPACITY)];
+        int n = 0;
+        while (it.hasNext()) {
+            T item = it.next();
+            if (n < k) {
+                if (n == heap.length) {
+                    heap = Arrays.copyOf(heap, (int) Math.min(2L * n, k));
+                }
+                heap[n] = item;
+                swim(heap, n++, c);
+            } else if (less(item, heap[0], c)) {
+                heap[0] = item;
+                sink(heap, 0, n, c);
+            }
+        }
+
+        if (n > 1) {
+            Quick.sort(heap, 0, n - 1, c);
+        }
+        return new ArrayList<>(Arrays.asList(heap).subList(0, n));
+    }
+
+    /**
+     * Rearranges the array so that a[k] is the item of rank k in numerical order,
+     * no item before it is greater and no item after it is less than a[k].
+     *
+     * @param a the array to be rearranged
+     * @param k the rank of the item to be selected, 0 for the smallest one
+     * @return the item of rank k
+     * @throws IllegalArgumentException if the rank is outside the array
+     */
+    public static int select(int[] a, int k) {
+        return select(a, 0, a.length - 1, k);
+    }
+
+    /**
+     * Rearranges the array inside bounds so that a[k] is the item of rank k - lo in numerical order,
+     * no item of a[lo .. k-1] is greater and no item of a[k+1 .. hi] is less than a[k].
+     *
+     * @param a  the array to be rearranged
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param k  the index of the item to be selected
+     * @return the item of rank k - lo
+     * @throws IllegalArgumentException if the index is outside bounds
+     */
+    public static int select(int[] a, int lo, int hi, int k) {
+        checkBounds(a.length, lo, hi);
+        checkRank(lo, hi, k);
+
+        introselect(a, lo, hi, k);
+        return a[k];
+    }
+
+    /**
+     * Rearranges the array so that its k smallest items in numerical order
+     * are at a[0 .. k-1] in ascending order, the order of the rest is undefined.
+     *
+     * @param a the array to be rearranged
+     * @param k the number of the smallest items to be sorted
+     * @throws IllegalArgumentException if the number of items is negative or exceeds the array length
+     */
+    public static void partialSort(int[] a, int k) {
+        requireTrue(k >= 0 && k <= a.length, "Number of items [k] should be between 0 and %d.", a.length);
+        if (k == 0) {
+            return;
+        }
+
+        introselect(a, 0, a.length - 1, k - 1);
+        MergeX.sort(a, 0, k - 1);
+    }
+
+    /**
+     * Moves the item of rank k - lo to a[k] partitioning a[lo .. hi] around sampled pivots,
+     * the pivot is the median of medians once the partitioning levels are exhausted.
+     */
+    private static void introselect(int[] a, int lo, int hi, int k) {
+        int depth = depthLimit(hi - lo + 1);
+        while (hi - lo >= Network.MAX_SIZE) {
+            int p = depth-- > 0
+                    ? medianOf3(a, lo, lo + (hi - lo) / 2, hi)
+                    : medianOfMedians(a, lo, hi);
+
+            // 3-way partitioning: a[lo .. lt-1] < v = a[lt .. gt] < a[gt+1 .. hi]
+            swap(a, lo, p);
+            int v = a[lo];
+            int lt = lo, gt = hi, i = lo + 1;
+            while (i <= gt) {
+                if (less(a[i], v)) {
+                    swap(a, lt++, i++);
+                } else if (less(v, a[i])) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+
+        if (lo < hi) {
+            Network.apply(a, lo, hi);
+        }
+    }
+
+    /**
+     * @return the index of the median of a[i], a[j] and a[k].
+     */
+    private static int medianOf3(int[] a, int i, int j, int k) {
+        return less(a[i], a[j])
+                ? (less(a[j], a[k]) ? j : less(a[i], a[k]) ? k : i)
+                : (less(a[k], a[j]) ? j : less(a[k], a[i]) ? k : i);
+    }
+
+    /**
+     * Moves the medians of the groups of five items of a[lo .. hi] to the front
+     * and selects their median.
+     *
+     * @return the index of the median of medians
+     */
+    private static int medianOfMedians(int[] a, int lo, int hi) {
+        int m = lo;
+        for (int i = lo; i <= hi; i += 5) {
+            int r = Math.min(i + 4, hi);
+            if (i < r) {
+                Network.apply(a, i, r);
+            }
+            swap(a, m++, i + (r - i) / 2);
+        }
+
+        int mid = lo + (m - 1 - lo) / 2;
+        introselect(a, lo, m - 1, mid);
+        return mid;
+    }
+
+    /**
+     * Rearranges the array so that a[k] is the item of rank k in numerical order,
+     * no item before it is greater and no item after it is less than a[k].
+     *
+     * @param a the array to be rearranged
+     * @param k the rank of the item to be selected, 0 for the smallest one
+     * @return the item of rank k
+     * @throws IllegalArgumentException if the rank is outside the array
+     */
+    public static long select(long[] a, int k) {
+        return select(a, 0, a.length - 1, k);
+    }
+
+    /**
+     * Rearranges the array inside bounds so that a[k] is the item of rank k - lo in numerical order,
+     * no item of a[lo .. k-1] is greater and no item of a[k+1 .. hi] is less than a[k].
+     *
+     * @param a  the array to be rearranged
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param k  the index of the item to be selected
+     * @return the item of rank k - lo
+     * @throws IllegalArgumentException if the index is outside bounds
+     */
+    public static long select(long[] a, int lo, int hi, int k) {
+        checkBounds(a.length, lo, hi);
+        checkRank(lo, hi, k);
+
+        introselect(a, lo, hi, k);
+        return a[k];
+    }
+
+    /**
+     * Rearranges the array so that its k smallest items in numerical order
+     * are at a[0 .. k-1] in ascending order, the order of the rest is undefined.
+     *
+     * @param a the array to be rearranged
+     * @param k the number of the smallest items to be sorted
+     * @throws IllegalArgumentException if the number of items is negative or exceeds the array length
+     */
+    public static void partialSort(long[] a, int k) {
+        requireTrue(k >= 0 && k <= a.length, "Number of items [k] should be between 0 and %d.", a.length);
+        if (k == 0) {
+            return;
+        }
+
+        introselect(a, 0, a.length - 1, k - 1);
+        MergeX.sort(a, 0, k - 1);
+    }
+
+    /**
+     * Moves the item of rank k - lo to a[k] partitioning a[lo .. hi] around sampled pivots,
+     * the pivot is the median of medians once the partitioning levels are exhausted.
+     */
+    private static void introselect(long[] a, int lo, int hi, int k) {
+        int depth = depthLimit(hi - lo + 1);
+        while (hi - lo >= Network.MAX_SIZE) {
+            int p = depth-- > 0
+                    ? medianOf3(a, lo, lo + (hi - lo) / 2, hi)
+                    : medianOfMedians(a, lo, hi);
+
+            // 3-way partitioning: a[lo .. lt-1] < v = a[lt .. gt] < a[gt+1 .. hi]
+            swap(a, lo, p);
+            long v = a[lo];
+            int lt = lo, gt = hi, i = lo + 1;
+            while (i <= gt) {
+                if (less(a[i], v)) {
+                    swap(a, lt++, i++);
+                } else if (less(v, a[i])) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+
+        if (lo < hi) {
+            Network.apply(a, lo, hi);
+        }
+    }
+
+    /**
+     * @return the index of the median of a[i], a[j] and a[k].
+     */
+    private static int medianOf3(long[] a, int i, int j, int k) {
+        return less(a[i], a[j])
+                ? (less(a[j], a[k]) ? j : less(a[i], a[k]) ? k : i)
+                : (less(a[k], a[j]) ? j : less(a[k], a[i]) ? k : i);
+    }
+
+    /**
+     * Moves the medians of the groups of five items of a[lo .. hi] to the front
+     * and selects their median.
+     *
+     * @return the index of the median of medians
+     */
+    private static int medianOfMedians(long[] a, int lo, int hi) {
+        int m = lo;
+        for (int i = lo; i <= hi; i += 5) {
+            int r = Math.min(i + 4, hi);
+            if (i < r) {
+                Network.apply(a, i, r);
+            }
+            swap(a, m++, i + (r - i) / 2);
+        }
+
+        int mid = lo + (m - 1 - lo) / 2;
+        introselect(a, lo, m - 1, mid);
+        return mid;
+    }
+
+    /**
+     * Rearranges the array so that a[k] is the item of rank k in numerical order, as defined by {@link Double#compare(double, double)},
+     * no item before it is greater and no item after it is less than a[k].
+     *
+     * @param a the array to be rearranged
+     * @param k the rank of the item to be selected, 0 for the smallest one
+     * @return the item of rank k
+     * @throws IllegalArgumentException if the rank is outside the array
+     */
+    public static double select(double[] a, int k) {
+        return select(a, 0, a.length - 1, k);
+    }
+
+    /**
+     * Rearranges the array inside bounds so that a[k] is the item of rank k - lo in numerical order, as defined by {@link Double#compare(double, double)},
+     * no item of a[lo .. k-1] is greater and no item of a[k+1 .. hi] is less than a[k].
+     *
+     * @param a  the array to be rearranged
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param k  the index of the item to be selected
+     * @return the item of rank k - lo
+     * @throws IllegalArgumentException if the index is outside bounds
+     */
+    public static double select(double[] a, int lo, int hi, int k) {
+        checkBounds(a.length, lo, hi);
+        checkRank(lo, hi, k);
+
+        introselect(a, lo, hi, k);
+        return a[k];
+    }
+
+    /**
+     * Rearranges the array so that its k smallest items in numerical order, as defined by {@link Double#compare(double, double)}
+     * are at a[0 .. k-1] in ascending order, the order of the rest is undefined.
+     *
+     * @param a the array to be rearranged
+     * @param k the number of the smallest items to be sorted
+     * @throws IllegalArgumentException if the number of items is negative or exceeds the array length
+     */
+    public static void partialSort(double[] a, int k) {
+        requireTrue(k >= 0 && k <= a.length, "Number of items [k] should be between 0 and %d.", a.length);
+        if (k == 0) {
+            return;
+        }
+
+        introselect(a, 0, a.length - 1, k - 1);
+        MergeX.sort(a, 0, k - 1);
+    }
+
+    /**
+     * Moves the item of rank k - lo to a[k] partitioning a[lo .. hi] around sampled pivots,
+     * the pivot is the median of medians once the partitioning levels are exhausted.
+     */
+    private static void introselect(double[] a, int lo, int hi, int k) {
+        int depth = depthLimit(hi - lo + 1);
+        while (hi - lo >= Network.MAX_SIZE) {
+            int p = depth-- > 0
+                    ? medianOf3(a, lo, lo + (hi - lo) / 2, hi)
+                    : medianOfMedians(a, lo, hi);
+
+            // 3-way partitioning: a[lo .. lt-1] < v = a[lt .. gt] < a[gt+1 .. hi]
+            swap(a, lo, p);
+            double v = a[lo];
+            int lt = lo, gt = hi, i = lo + 1;
+            while (i <= gt) {
+                if (less(a[i], v)) {
+                    swap(a, lt++, i++);
+                } else if (less(v, a[i])) {
+                    swap(a, i, gt--);
+                } else {
+                    i++;
+                }
+            }
+
+            if (k < lt) {
+                hi = lt - 1;
+            } else if (k > gt) {
+                lo = gt + 1;
+            } else {
+                return;
+            }
+        }
+
+        if (lo < hi) {
+            Network.apply(a, lo, hi);
+        }
+    }
+
+    /**
+     * @return the index of the median of a[i], a[j] and a[k].
+     */
+    private static int medianOf3(double[] a, int i, int j, int k) {
+        return less(a[i], a[j])
+                ? (less(a[j], a[k]) ? j : less(a[i], a[k]) ? k : i)
+                : (less(a[k], a[j]) ? j : less(a[k], a[i]) ? k : i);
+    }
+
+    /**
+     * Moves the medians of the groups of five items of a[lo .. hi] to the front
+     * and selects their median.
+     *
+     * @return the index of the median of medians
+     */
+    private static int medianOfMedians(double[] a, int lo, int hi) {
+        int m = lo;
+        for (int i = lo; i <= hi; i += 5) {
+            int r = Math.min(i + 4, hi);
+            if (i < r) {
+                Network.apply(a, i, r);
+            }
+            swap(a, m++, i + (r - i) / 2);
+        }
+
+        int mid = lo + (m - 1 - lo) / 2;
+        introselect(a, lo, m - 1, mid);
+        return mid;
+    }
+
+    /**
+     * Moves up the item at heap[i] of the max-heap.
+     */
+    private static <T> void swim(T[] heap, int i, Comparator<T> c) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (!less(heap[parent], heap[i], c)) {
+                break;
+            }
+            swap(heap, parent, i);
+            i = parent;
+        }
+    }
+
+    /**
+     * Moves down the item at heap[i] of the max-heap heap[0 .. n-1].
+     */
+    private static <T> void sink(T[] heap, int i, int n, Comparator<T> c) {
+        while (2 * i + 1 < n) {
+            int j = 2 * i + 1;
+            if (j + 1 < n && less(heap[j], heap[j + 1], c)) {
+                j++;
+            }
+            if (!less(heap[i], heap[j], c)) {
+                break;
+            }
+            swap(heap, i, j);
+            i = j;
+        }
+    }
+
+    /**
+     * @return the number of partitioning levels allowed for {@param n} items
+     * before the median of medians is used, that is 2 * floor(log2(n)).
+     */
+    private static int depthLimit(int n) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(n));
+    }
+
+    /**
+     * Checks that the index is inside bounds and throws an exception if it isn't.
+     */
+    private static void checkRank(int lo, int hi, int k) {
+        requireTrue(k >= lo && k <= hi, "Index [k] should be between %d and %d.", lo, hi);
+    }
+}
@@ -1,11 +1,20 @@
 package com.codingthrough.algorithms.sort;
 
+import javax.annotation.Nonnull;
 import java.util.Comparator;
 
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+
 /**
  * The <tt>Shell</tt> provides a number of static methods to sort an array
  * using shell sort algorithm.
  * <p>
+ * The array is h-sorted for every gap h of the {@link GapSequence}, from the largest gap
+ * smaller than the number of items down to 1. Items are inserted by shifting the greater
+ * items h positions right into the hole, so every position is written once per move.
+ * The sort uses {@link GapSequence#CIURA} unless another sequence is specified.
+ * </p>
+ * <p>
  * For additional documentation,
  * see <a href="https://en.wikipedia.org/wiki/Shellsort">Wikipedia article - Shell Sort</a>.
  * </p>
@@ -34,22 +43,40 @@ public class Shell extends SortSupport {
      * @param hi the highest index
      */
     public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi) {
-        checkBounds(a.length, lo, hi);
+        sort(a, lo, hi, GapSequence.CIURA);
+    }
 
-        int n = hi - lo + 1;
-        int h = 1;
-        while (h < n / 3) {
-            h = h * 3 + 1;
-        }
+    /**
+     * Rearranges the array in ascending order using the natural order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param gaps the gap sequence
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, @Nonnull GapSequence gaps) {
+        sort(a, 0, a.length - 1, gaps);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param gaps the gap sequence
+     */
+    public static <T extends Comparable<T>> void sort(T[] a, int lo, int hi, @Nonnull GapSequence gaps) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(gaps, "Gap sequence [gaps] should not be null.");
 
-        while (h >= 1) {
+        for (int h : gaps.gaps(hi - lo + 1)) {
             for (int i = lo + h; i <= hi; i++) {
-                for (int j = i; j >= lo + h && less(a[j], a[j - h]); j -= h) {
-                    swap(a, j, j - h);
+                T v = a[i];
+                int j = i;
+                for (; j >= lo + h && less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
                 }
+                a[j] = v;
             }
-
-            h /= 3;
         }
 
         assert sorted(a, lo, hi);
@@ -74,24 +101,436 @@ public class Shell extends SortSupport {
      * @param c  the comparator specifying the order
      */
     public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c) {
+        sort(a, lo, hi, c, GapSequence.CIURA);
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param c    the comparator specifying the order
+     * @param gaps the gap sequence
+     */
+    public static <T> void sort(T[] a, Comparator<T> c, @Nonnull GapSequence gaps) {
+        sort(a, 0, a.length - 1, c, gaps);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param c    the comparator specifying the order
+     * @param gaps the gap sequence
+     */
+    public static <T> void sort(T[] a, int lo, int hi, Comparator<T> c, @Nonnull GapSequence gaps) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(gaps, "Gap sequence [gaps] should not be null.");
+
+        for (int h : gaps.gaps(hi - lo + 1)) {
+            for (int i = lo + h; i <= hi; i++) {
+                T v = a[i];
+                int j = i;
+                for (; j >= lo + h && less(v, a[j - h], c); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
+        }
+
+        assert sorted(a, lo, hi, c);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(int[] a, int lo, int hi) {
+        sort(a, lo, hi, GapSequence.CIURA);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param gaps the gap sequence
+     */
+    public static void sort(int[] a, @Nonnull GapSequence gaps) {
+        sort(a, 0, a.length - 1, gaps);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param gaps the gap sequence
+     */
+    public static void sort(int[] a, int lo, int hi, @Nonnull GapSequence gaps) {
         checkBounds(a.length, lo, hi);
+        ensureNotNull(gaps, "Gap sequence [gaps] should not be null.");
 
-        int n = hi - lo + 1;
-        int h = 1;
-        while (h < n / 3) {
-            h = h * 3 + 1;
+        for (int h : gaps.gaps(hi - lo + 1)) {
+            for (int i = lo + h; i <= hi; i++) {
+                int v = a[i];
+                int j = i;
+                for (; j >= lo + h && less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
         }
 
-        while (h >= 1) {
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(long[] a, int lo, int hi) {
+        sort(a, lo, hi, GapSequence.CIURA);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param gaps the gap sequence
+     */
+    public static void sort(long[] a, @Nonnull GapSequence gaps) {
+        sort(a, 0, a.length - 1, gaps);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param gaps the gap sequence
+     */
+    public static void sort(long[] a, int lo, int hi, @Nonnull GapSequence gaps) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(gaps, "Gap sequence [gaps] should not be null.");
+
+        for (int h : gaps.gaps(hi - lo + 1)) {
             for (int i = lo + h; i <= hi; i++) {
-                for (int j = i; j >= lo + h && less(a[j], a[j - h], c); j -= h) {
-                    swap(a, j, j - h);
+                long v = a[i];
+                int j = i;
+                for (; j >= lo + h && less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
                 }
+                a[j] = v;
             }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(double[] a, int lo, int hi) {
+        sort(a, lo, hi, GapSequence.CIURA);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)} with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param gaps the gap sequence
+     */
+    public static void sort(double[] a, @Nonnull GapSequence gaps) {
+        sort(a, 0, a.length - 1, gaps);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)} with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param gaps the gap sequence
+     */
+    public static void sort(double[] a, int lo, int hi, @Nonnull GapSequence gaps) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(gaps, "Gap sequence [gaps] should not be null.");
 
-            h /= 3;
+        for (int h : gaps.gaps(hi - lo + 1)) {
+            for (int i = lo + h; i <= hi; i++) {
+                double v = a[i];
+                int j = i;
+                for (; j >= lo + h && less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
         }
 
-        assert sorted(a, lo, hi, c);
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(float[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)}.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(float[] a, int lo, int hi) {
+        sort(a, lo, hi, GapSequence.CIURA);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)} with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param gaps the gap sequence
+     */
+    public static void sort(float[] a, @Nonnull GapSequence gaps) {
+        sort(a, 0, a.length - 1, gaps);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)} with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param gaps the gap sequence
+     */
+    public static void sort(float[] a, int lo, int hi, @Nonnull GapSequence gaps) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(gaps, "Gap sequence [gaps] should not be null.");
+
+        for (int h : gaps.gaps(hi - lo + 1)) {
+            for (int i = lo + h; i <= hi; i++) {
+                float v = a[i];
+                int j = i;
+                for (; j >= lo + h && less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(short[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(short[] a, int lo, int hi) {
+        sort(a, lo, hi, GapSequence.CIURA);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param gaps the gap sequence
+     */
+    public static void sort(short[] a, @Nonnull GapSequence gaps) {
+        sort(a, 0, a.length - 1, gaps);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param gaps the gap sequence
+     */
+    public static void sort(short[] a, int lo, int hi, @Nonnull GapSequence gaps) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(gaps, "Gap sequence [gaps] should not be null.");
+
+        for (int h : gaps.gaps(hi - lo + 1)) {
+            for (int i = lo + h; i <= hi; i++) {
+                short v = a[i];
+                int j = i;
+                for (; j >= lo + h && less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(char[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(char[] a, int lo, int hi) {
+        sort(a, lo, hi, GapSequence.CIURA);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param gaps the gap sequence
+     */
+    public static void sort(char[] a, @Nonnull GapSequence gaps) {
+        sort(a, 0, a.length - 1, gaps);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param gaps the gap sequence
+     */
+    public static void sort(char[] a, int lo, int hi, @Nonnull GapSequence gaps) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(gaps, "Gap sequence [gaps] should not be null.");
+
+        for (int h : gaps.gaps(hi - lo + 1)) {
+            for (int i = lo + h; i <= hi; i++) {
+                char v = a[i];
+                int j = i;
+                for (; j >= lo + h && less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
+        }
+
+        assert sorted(a, lo, hi);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order.
+     *
+     * @param a the array to be sorted
+     */
+    public static void sort(byte[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     */
+    public static void sort(byte[] a, int lo, int hi) {
+        sort(a, lo, hi, GapSequence.CIURA);
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param gaps the gap sequence
+     */
+    public static void sort(byte[] a, @Nonnull GapSequence gaps) {
+        sort(a, 0, a.length - 1, gaps);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order with the specified gap sequence.
+     *
+     * @param a    the array to be sorted
+     * @param lo   the lowest index
+     * @param hi   the highest index
+     * @param gaps the gap sequence
+     */
+    public static void sort(byte[] a, int lo, int hi, @Nonnull GapSequence gaps) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(gaps, "Gap sequence [gaps] should not be null.");
+
+        for (int h : gaps.gaps(hi - lo + 1)) {
+            for (int i = lo + h; i <= hi; i++) {
+                byte v = a[i];
+                int j = i;
+                for (; j >= lo + h && less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
+        }
+
+        assert sorted(a, lo, hi);
     }
 }
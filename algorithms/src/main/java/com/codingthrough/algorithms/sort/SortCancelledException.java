@@ -0,0 +1,14 @@
+package com.codingthrough.algorithms.sort;
+
+/**
+ * Thrown by cancellable sorts to indicate that the sort has been cancelled
+ * by its <code>CancellationToken</code>. The sorted array holds a permutation
+ * of its original items.
+ */
+public class SortCancelledException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public SortCancelledException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,163 @@
+package com.codingthrough.algorithms.sort;
+
+import java.lang.reflect.Array;
+
+/**
+ * The <tt>SortContext</tt> owns growable scratch buffers for the sort algorithms
+ * that need an auxiliary array, see {@link Merge}, {@link MergeBU} and {@link MergeX}.
+ * <p>
+ * A buffer grows to the largest range sorted through the context and is reused
+ * afterwards, so repeated sorts of ranges up to that size allocate nothing. One buffer
+ * is kept per primitive type, the object buffer is reallocated when the component type
+ * of the sorted array changes.
+ * </p>
+ * <p>
+ * The context is not thread-safe, it should be confined to a single thread, for example
+ * by using {@link #local()}. The object buffer keeps references to sorted items until
+ * they are overwritten or the buffers are released by {@link #clear()}.
+ * </p>
+ */
+public class SortContext {
+    /**
+     * The maximum size of array to allocate.
+     * Some VMs reserve some header words in an array.
+     * Attempts to allocate larger arrays may result in
+     * OutOfMemoryError: Requested array size exceeds VM limit
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The contexts confined to their threads.
+     */
+    private static final ThreadLocal<SortContext> LOCAL = ThreadLocal.withInitial(SortContext::new);
+
+    private Object[] objects;
+    private int[] ints;
+    private long[] longs;
+    private double[] doubles;
+    private float[] floats;
+    private short[] shorts;
+    private char[] chars;
+    private byte[] bytes;
+
+    /**
+     * Creates a new context without buffers, they are allocated on the first use.
+     */
+    public SortContext() {
+    }
+
+    /**
+     * Returns the context confined to the current thread.
+     *
+     * @return the context of the current thread
+     */
+    public static SortContext local() {
+        return LOCAL.get();
+    }
+
+    /**
+     * Releases all buffers owned by the context.
+     */
+    public void clear() {
+        objects = null;
+        ints = null;
+        longs = null;
+        doubles = null;
+        floats = null;
+        shorts = null;
+        chars = null;
+        bytes = null;
+    }
+
+    /**
+     * @return the buffer of the same type as {@param a} having at least {@param n} items.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T[] aux(T[] a, int n) {
+        if (objects == null || objects.getClass() != a.getClass()) {
+            objects = (Object[]) Array.newInstance(a.getClass().getComponentType(), n);
+        } else if (objects.length < n) {
+            objects = (Object[]) Array.newInstance(a.getClass().getComponentType(), capacity(objects.length, n));
+        }
+        return (T[]) objects;
+    }
+
+    /**
+     * @return the buffer having at least {@param n} items.
+     */
+    int[] aux(int[] a, int n) {
+        if (ints == null || ints.length < n) {
+            ints = new int[capacity(ints == null ? 0 : ints.length, n)];
+        }
+        return ints;
+    }
+
+    /**
+     * @return the buffer having at least {@param n} items.
+     */
+    long[] aux(long[] a, int n) {
+        if (longs == null || longs.length < n) {
+            longs = new long[capacity(longs == null ? 0 : longs.length, n)];
+        }
+        return longs;
+    }
+
+    /**
+     * @return the buffer having at least {@param n} items.
+     */
+    double[] aux(double[] a, int n) {
+        if (doubles == null || doubles.length < n) {
+            doubles = new double[capacity(doubles == null ? 0 : doubles.length, n)];
+        }
+        return doubles;
+    }
+
+    /**
+     * @return the buffer having at least {@param n} items.
+     */
+    float[] aux(float[] a, int n) {
+        if (floats == null || floats.length < n) {
+            floats = new float[capacity(floats == null ? 0 : floats.length, n)];
+        }
+        return floats;
+    }
+
+    /**
+     * @return the buffer having at least {@param n} items.
+     */
+    short[] aux(short[] a, int n) {
+        if (shorts == null || shorts.length < n) {
+            shorts = new short[capacity(shorts == null ? 0 : shorts.length, n)];
+        }
+        return shorts;
+    }
+
+    /**
+     * @return the buffer having at least {@param n} items.
+     */
+    char[] aux(char[] a, int n) {
+        if (chars == null || chars.length < n) {
+            chars = new char[capacity(chars == null ? 0 : chars.length, n)];
+        }
+        return chars;
+    }
+
+    /**
+     * @return the buffer having at least {@param n} items.
+     */
+    byte[] aux(byte[] a, int n) {
+        if (bytes == null || bytes.length < n) {
+            bytes = new byte[capacity(bytes == null ? 0 : bytes.length, n)];
+        }
+        return bytes;
+    }
+
+    /**
+     * @return the new length of a buffer of {@param length} items that has to hold
+     * {@param n} items, the buffer grows at least by half to amortize reallocation.
+     */
+    private static int capacity(int length, int n) {
+        long grown = (long) length + (length >> 1);
+        return (int) Math.max(n, Math.min(grown, MAX_ARRAY_SIZE));
+    }
+}
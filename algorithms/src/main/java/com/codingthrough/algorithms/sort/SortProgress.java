@@ -0,0 +1,17 @@
+package com.codingthrough.algorithms.sort;
+
+/**
+ * The <tt>SortProgress</tt> receives the progress of a cancellable sort,
+ * see {@link MergeBU#sort(Comparable[], CancellationToken, SortProgress)}.
+ */
+@FunctionalInterface
+public interface SortProgress {
+    /**
+     * Reports the progress of the sort, called by the thread running the sort
+     * before every check of the cancellation token.
+     *
+     * @param done  the number of items merged so far, counting every pass over the array
+     * @param total the number of items merged by the whole sort
+     */
+    void progress(long done, long total);
+}
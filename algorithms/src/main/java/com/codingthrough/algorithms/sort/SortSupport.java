@@ -28,6 +28,93 @@ public abstract class SortSupport {
         return c.compare(a, b) < 0;
     }
 
+    /**
+     * @return true if {@param a} is less than {@param b}.
+     */
+    protected static boolean less(int a, int b) {
+        return a < b;
+    }
+
+    /**
+     * @return true if {@param a} is less than {@param b}.
+     */
+    protected static boolean less(long a, long b) {
+        return a < b;
+    }
+
+    /**
+     * @return true if {@param a} is less than {@param b} as defined by {@link Double#compare(double, double)}.
+     */
+    protected static boolean less(double a, double b) {
+        return Double.compare(a, b) < 0;
+    }
+
+    /**
+     * @return true if {@param a} is less than {@param b} as defined by {@link Float#compare(float, float)}.
+     */
+    protected static boolean less(float a, float b) {
+        return Float.compare(a, b) < 0;
+    }
+
+    /**
+     * @return true if {@param a} is less than {@param b}.
+     */
+    protected static boolean less(short a, short b) {
+        return a < b;
+    }
+
+    /**
+     * @return true if {@param a} is less than {@param b}.
+     */
+    protected static boolean less(char a, char b) {
+        return a < b;
+    }
+
+    /**
+     * @return true if {@param a} is less than {@param b}.
+     */
+    protected static boolean less(byte a, byte b) {
+        return a < b;
+    }
+
+    /**
+     * Compares strings starting at character {@param d}, the characters before it
+     * are known to be equal.
+     *
+     * @return true if {@param v} is less than {@param w}.
+     */
+    protected static boolean less(String v, String w, int d) {
+        int n = Math.min(v.length(), w.length());
+        for (int i = d; i < n; i++) {
+            char x = v.charAt(i);
+            char y = w.charAt(i);
+            if (x != y) {
+                return x < y;
+            }
+        }
+
+        return v.length() < w.length();
+    }
+
+    /**
+     * Compares keys as unsigned bytes starting at byte {@param d}, the bytes before it
+     * are known to be equal. For UTF-8 encoded strings the order is the order of code points.
+     *
+     * @return true if {@param v} is less than {@param w}.
+     */
+    protected static boolean less(byte[] v, byte[] w, int d) {
+        int n = Math.min(v.length, w.length);
+        for (int i = d; i < n; i++) {
+            int x = v[i] & 0xFF;
+            int y = w[i] & 0xFF;
+            if (x != y) {
+                return x < y;
+            }
+        }
+
+        return v.length < w.length;
+    }
+
     /**
      * Swaps item with index {@param x} and the item with index {@param y}.
      */
@@ -37,6 +124,69 @@ public abstract class SortSupport {
         a[j] = temp;
     }
 
+    /**
+     * Swaps item with index {@param x} and the item with index {@param y}.
+     */
+    protected static void swap(int[] a, int i, int j) {
+        final int temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Swaps item with index {@param x} and the item with index {@param y}.
+     */
+    protected static void swap(long[] a, int i, int j) {
+        final long temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Swaps item with index {@param x} and the item with index {@param y}.
+     */
+    protected static void swap(double[] a, int i, int j) {
+        final double temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Swaps item with index {@param x} and the item with index {@param y}.
+     */
+    protected static void swap(float[] a, int i, int j) {
+        final float temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Swaps item with index {@param x} and the item with index {@param y}.
+     */
+    protected static void swap(short[] a, int i, int j) {
+        final short temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Swaps item with index {@param x} and the item with index {@param y}.
+     */
+    protected static void swap(char[] a, int i, int j) {
+        final char temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
+    /**
+     * Swaps item with index {@param x} and the item with index {@param y}.
+     */
+    protected static void swap(byte[] a, int i, int j) {
+        final byte temp = a[i];
+        a[i] = a[j];
+        a[j] = temp;
+    }
+
     /**
      * @return true if {@param a} array is sorted, otherwise false.
      */
@@ -81,6 +231,183 @@ public abstract class SortSupport {
         return true;
     }
 
+    /**
+     * @return true if {@param a} array is sorted, otherwise false.
+     */
+    public static boolean sorted(int[] a) {
+        return sorted(a, 0, a.length - 1);
+    }
+
+    /**
+     * @return true if {@param a} array inside bounds is sorted, otherwise false.
+     */
+    public static boolean sorted(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i], a[i - 1])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if {@param a} array is sorted, otherwise false.
+     */
+    public static boolean sorted(long[] a) {
+        return sorted(a, 0, a.length - 1);
+    }
+
+    /**
+     * @return true if {@param a} array inside bounds is sorted, otherwise false.
+     */
+    public static boolean sorted(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i], a[i - 1])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if {@param a} array is sorted, otherwise false.
+     */
+    public static boolean sorted(double[] a) {
+        return sorted(a, 0, a.length - 1);
+    }
+
+    /**
+     * @return true if {@param a} array inside bounds is sorted, otherwise false.
+     */
+    public static boolean sorted(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i], a[i - 1])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if {@param a} array is sorted, otherwise false.
+     */
+    public static boolean sorted(float[] a) {
+        return sorted(a, 0, a.length - 1);
+    }
+
+    /**
+     * @return true if {@param a} array inside bounds is sorted, otherwise false.
+     */
+    public static boolean sorted(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i], a[i - 1])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if {@param a} array is sorted, otherwise false.
+     */
+    public static boolean sorted(short[] a) {
+        return sorted(a, 0, a.length - 1);
+    }
+
+    /**
+     * @return true if {@param a} array inside bounds is sorted, otherwise false.
+     */
+    public static boolean sorted(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i], a[i - 1])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if {@param a} array is sorted, otherwise false.
+     */
+    public static boolean sorted(char[] a) {
+        return sorted(a, 0, a.length - 1);
+    }
+
+    /**
+     * @return true if {@param a} array inside bounds is sorted, otherwise false.
+     */
+    public static boolean sorted(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i], a[i - 1])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if {@param a} array is sorted, otherwise false.
+     */
+    public static boolean sorted(byte[] a) {
+        return sorted(a, 0, a.length - 1);
+    }
+
+    /**
+     * @return true if {@param a} array inside bounds is sorted, otherwise false.
+     */
+    public static boolean sorted(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i], a[i - 1])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return true if {@param a} array of keys is sorted in unsigned lexicographic order, otherwise false.
+     */
+    public static boolean sorted(byte[][] a) {
+        return sorted(a, 0, a.length - 1);
+    }
+
+    /**
+     * @return true if {@param a} array of keys inside bounds is sorted in unsigned lexicographic order,
+     * otherwise false.
+     */
+    public static boolean sorted(byte[][] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i], a[i - 1], 0)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     /**
      * Checks that indexes are inside array bounds and throws an exception if they aren't.
      *
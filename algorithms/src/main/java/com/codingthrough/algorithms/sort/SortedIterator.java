@@ -0,0 +1,236 @@
+package com.codingthrough.algorithms.sort;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+import static com.codingthrough.algorithms.adt.ArrayPreconditions.ensureBounds;
+
+/**
+ * Array iterator returning the elements of the specified array in ascending order,
+ * starting at the specified position and (optional) ending at the specified position
+ * in the array, see {@link com.codingthrough.algorithms.adt.ArrayIterator}.
+ * <p>
+ * The iterator uses incremental quick sort: the array is sorted in place only as far as
+ * the returned elements require. To return the next element the leftmost unsorted part
+ * is partitioned around a random pivot until the part starting at the current position
+ * is small enough to be sorted by a sorting network, the right parts are kept on a stack
+ * for later calls. Returning k smallest elements of n takes O(n + k log k) expected time,
+ * so stopping early is much cheaper than sorting the whole array. Iteration rearranges
+ * the array, the returned elements are at the beginning of the iterated range in ascending
+ * order. The order of equal elements is not preserved.
+ * </p>
+ * <p>
+ * For additional documentation,
+ * see <a href="https://en.wikipedia.org/wiki/Partial_sorting#Incremental_sorting">Wikipedia article - Incremental Sorting</a>.
+ * </p>
+ */
+public class SortedIterator<E> extends SortSupport implements Iterator<E> {
+    /**
+     * The array to be iterated.
+     */
+    private final E[] a;
+
+    /**
+     * The comparator specifying the order.
+     */
+    private final Comparator<E> c;
+
+    /**
+     * The current iteration position.
+     */
+    private int index;
+
+    /**
+     * The last index to be iterated.
+     */
+    private final int lastIndex;
+
+    /**
+     * a[index .. sorted-1] are in their final positions.
+     */
+    private int sorted;
+
+    /**
+     * The parts of the array right of the current position, the top one is the leftmost.
+     * An item is the exclusive end of a part that starts where the previous part ends,
+     * a negative item ~end marks a part already in its final positions.
+     */
+    private int[] stack = new int[16];
+
+    /**
+     * The number of parts on the stack.
+     */
+    private int size;
+
+    /**
+     * Creates new iterator over the specified array starting at
+     * position zero till the end of the array.
+     *
+     * @param a the array to be iterated
+     * @param c the comparator specifying the order
+     * @throws IllegalArgumentException if the specified array or comparator is {@code null}
+     */
+    public SortedIterator(@Nonnull E[] a, @Nonnull Comparator<E> c) {
+        ensureNotNull(a);
+        ensureNotNull(c);
+
+        this.a = a;
+        this.c = c;
+        this.lastIndex = a.length - 1;
+        push(a.length);
+    }
+
+    /**
+     * Creates new iterator over the specified array starting at
+     * the specified position till the end of the array.
+     *
+     * @param a     the array to be iterated
+     * @param index the starting position for iteration
+     * @param c     the comparator specifying the order
+     * @throws IllegalArgumentException if the specified array or comparator is {@code null}
+     * @throws IllegalArgumentException if the specified index is outside of the array bounds
+     */
+    public SortedIterator(@Nonnull E[] a, int index, @Nonnull Comparator<E> c) {
+        this(a, index, ensureNotNull(a).length - 1, c);
+    }
+
+    /**
+     * Creates new iterator over the specified array starting at
+     * the specified position till the specified upper bound.
+     *
+     * @param a     the array to be iterated
+     * @param start the starting position for iteration
+     * @param end   the ending position for iteration
+     * @param c     the comparator specifying the order
+     * @throws IllegalArgumentException if the specified array or comparator is {@code null}
+     * @throws IllegalArgumentException if the specified indexes are outside of the array bounds
+     */
+    public SortedIterator(@Nonnull E[] a, int start, int end, @Nonnull Comparator<E> c) {
+        ensureNotNull(a);
+        ensureNotNull(c);
+        ensureBounds(a.length, start, end);
+
+        this.a = a;
+        this.c = c;
+        this.index = start;
+        this.sorted = start;
+        this.lastIndex = end;
+        push(end + 1);
+    }
+
+    /**
+     * Creates new iterator over the specified array in the natural order.
+     *
+     * @param a the array to be iterated
+     * @return the iterator returning the elements in ascending order
+     * @throws IllegalArgumentException if the specified array is {@code null}
+     */
+    public static <E extends Comparable<E>> SortedIterator<E> naturalOrder(@Nonnull E[] a) {
+        return new SortedIterator<>(a, Comparator.<E>naturalOrder());
+    }
+
+    /**
+     * Creates new iterator over the specified array in the natural order starting at
+     * the specified position till the specified upper bound.
+     *
+     * @param a     the array to be iterated
+     * @param start the starting position for iteration
+     * @param end   the ending position for iteration
+     * @return the iterator returning the elements in ascending order
+     * @throws IllegalArgumentException if the specified array is {@code null}
+     * @throws IllegalArgumentException if the specified indexes are outside of the array bounds
+     */
+    public static <E extends Comparable<E>> SortedIterator<E> naturalOrder(@Nonnull E[] a, int start, int end) {
+        return new SortedIterator<>(a, start, end, Comparator.<E>naturalOrder());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        return index <= lastIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E next() {
+        if (index > lastIndex) {
+            throw new NoSuchElementException();
+        }
+
+        while (index == sorted) {
+            int end = stack[--size];
+            if (end < 0) {
+                sorted = ~end;
+            } else if (end - index <= Network.MAX_SIZE) {
+                if (end - index > 1) {
+                    Network.apply(a, index, end - 1, c);
+                }
+                sorted = end;
+            } else {
+                partition(index, end - 1);
+            }
+        }
+        return a[index++];
+    }
+
+    /**
+     * Partitions a[lo .. hi] around a random pivot and pushes the resulting parts,
+     * the items equal to the pivot are in their final positions.
+     */
+    private void partition(int lo, int hi) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i1 = lo + random.nextInt(hi - lo + 1);
+        int i2 = lo + random.nextInt(hi - lo + 1);
+        int i3 = lo + random.nextInt(hi - lo + 1);
+        swap(a, lo, medianOf3(i1, i2, i3));
+
+        // 3-way partitioning: a[lo .. lt-1] < v = a[lt .. gt] < a[gt+1 .. hi]
+        E v = a[lo];
+        int lt = lo, gt = hi, i = lo + 1;
+        while (i <= gt) {
+            if (less(a[i], v, c)) {
+                swap(a, lt++, i++);
+            } else if (less(v, a[i], c)) {
+                swap(a, i, gt--);
+            } else {
+                i++;
+            }
+        }
+
+        if (gt < hi) {
+            push(hi + 1);
+        }
+        push(~(gt + 1));
+        if (lo < lt) {
+            push(lt);
+        }
+    }
+
+    /**
+     * @return the index of the median of a[i], a[j] and a[k].
+     */
+    private int medianOf3(int i, int j, int k) {
+        return less(a[i], a[j], c)
+                ? (less(a[j], a[k], c) ? j : less(a[i], a[k], c) ? k : i)
+                : (less(a[k], a[j], c) ? j : less(a[k], a[i], c) ? k : i);
+    }
+
+    /**
+     * Pushes the end of a part on the stack.
+     */
+    private void push(int end) {
+        if (size == stack.length) {
+            stack = Arrays.copyOf(stack, 2 * size);
+        }
+        stack[size++] = end;
+    }
+}
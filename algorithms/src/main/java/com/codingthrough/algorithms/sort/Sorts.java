@@ -0,0 +1,820 @@
+package com.codingthrough.algorithms.sort;
+
+import javax.annotation.Nonnull;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static com.codingthrough.algorithms.Preconditions.ensureNotNull;
+
+/**
+ * The <tt>Sorts</tt> provides a number of static methods to sort an array
+ * choosing the sort algorithm by a cheap probe of the input.
+ * <p>
+ * Small arrays are checked to be sorted and sorted by {@link Insertion} sort. Larger arrays
+ * are probed by comparing 64 pairs of adjacent items spread over the array, an array with no
+ * descending pair is checked to be sorted in a single pass. For objects the probe also estimates
+ * the fraction of inversions among 32 sampled items: nearly sorted or nearly descending input
+ * is sorted by {@link MergeBU#sortNatural(Object[], Comparator)}, which merges the natural runs
+ * of the input, other input by {@link MergeX}, in parallel for large arrays when more than
+ * one processor is available. The sort of objects is always stable.
+ * </p>
+ * <p>
+ * Primitive arrays in descending order are reversed. <tt>byte</tt> arrays, and large <tt>short</tt>
+ * and <tt>char</tt> arrays are sorted by {@link Counting} sort. Large <tt>int</tt> arrays are sorted
+ * by {@link Counting} sort when the sampled keys, and then all keys, span a range much smaller than
+ * the array, so the keys repeat a lot. Other large <tt>int</tt>, <tt>long</tt>, <tt>float</tt> and
+ * <tt>double</tt> arrays are sorted by {@link Radix} sort, the rest by {@link MergeX}.
+ * </p>
+ * <p>
+ * Objects can also be sorted by a primitive key extracted from every item exactly once. The keys
+ * are sorted together with the indexes of their items by {@link Radix#sortByInt(Object[], ToIntFunction)}
+ * and {@link Radix#sortByLong(Object[], ToLongFunction)}, so the comparisons are primitive comparisons
+ * instead of calls to a {@link Comparator}, and then the items are moved to the positions of their keys.
+ * </p>
+ * Every method returns the {@link Strategy} used, so the choice can be reported.
+ */
+public class Sorts extends SortSupport {
+    /**
+     * Arrays up to this size are sorted by insertion sort.
+     */
+    private static final int INSERTION_THRESHOLD = 32;
+
+    /**
+     * Arrays smaller than this are not probed for inversions.
+     */
+    private static final int INVERSIONS_THRESHOLD = 1 << 10;
+
+    /**
+     * Arrays of this size or larger are sorted by radix sort.
+     */
+    private static final int RADIX_THRESHOLD = 1 << 10;
+
+    /**
+     * Arrays of this size or larger are considered for counting sort.
+     */
+    private static final int COUNTING_THRESHOLD = 1 << 14;
+
+    /**
+     * The maximum range of <tt>int</tt> keys sorted by counting sort.
+     */
+    private static final int MAX_COUNTING_RANGE = 1 << 20;
+
+    /**
+     * Arrays of this size or larger are sorted in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * The number of adjacent pairs compared by the probe.
+     */
+    private static final int PAIRS = 64;
+
+    /**
+     * The number of items sampled to estimate inversions and the range of keys.
+     */
+    private static final int SAMPLE = 32;
+
+    /**
+     * The sort strategy chosen for the input.
+     */
+    public enum Strategy {
+        /**
+         * The input was already sorted and has not been modified.
+         */
+        ALREADY_SORTED,
+
+        /**
+         * The input was in descending order and has been reversed.
+         */
+        REVERSED,
+
+        /**
+         * The input has been sorted by {@link Insertion} sort.
+         */
+        INSERTION,
+
+        /**
+         * The input has been sorted by merging its natural runs, see {@link MergeBU}.
+         */
+        NATURAL_MERGE,
+
+        /**
+         * The input has been sorted by {@link MergeX} sort.
+         */
+        MERGE,
+
+        /**
+         * The input has been sorted by parallel {@link MergeX} sort.
+         */
+        PARALLEL_MERGE,
+
+        /**
+         * The input has been sorted by {@link Radix} sort.
+         */
+        RADIX,
+
+        /**
+         * The input has been sorted by {@link Counting} sort.
+         */
+        COUNTING
+    }
+
+    /**
+     * This class should not be instantiated.
+     */
+    private Sorts() {
+    }
+
+    /**
+     * Rearranges the array in ascending order using the natural order
+     * and the strategy chosen for the input. The sort is stable.
+     *
+     * @param a the array to be sorted
+     * @return the strategy used to sort the array
+     */
+    public static <T extends Comparable<T>> Strategy sort(T[] a) {
+        return sort(a, 0, a.length - 1, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the natural order
+     * and the strategy chosen for the input. The sort is stable.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the strategy used to sort the array
+     */
+    public static <T extends Comparable<T>> Strategy sort(T[] a, int lo, int hi) {
+        return sort(a, lo, hi, Comparator.<T>naturalOrder());
+    }
+
+    /**
+     * Rearranges the array in ascending order using the comparator
+     * and the strategy chosen for the input. The sort is stable.
+     *
+     * @param a the array to be sorted
+     * @param c the comparator specifying the order
+     * @return the strategy used to sort the array
+     */
+    public static <T> Strategy sort(T[] a, Comparator<T> c) {
+        return sort(a, 0, a.length - 1, c);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order using the comparator
+     * and the strategy chosen for the input. The sort is stable.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @param c  the comparator specifying the order
+     * @return the strategy used to sort the array
+     */
+    public static <T> Strategy sort(T[] a, int lo, int hi, Comparator<T> c) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        if (n <= INSERTION_THRESHOLD) {
+            if (sorted(a, lo, hi, c)) {
+                return Strategy.ALREADY_SORTED;
+            }
+            Insertion.sort(a, lo, hi, c);
+            return Strategy.INSERTION;
+        }
+
+        Probe probe = new Probe(lo, hi, (i, j) -> less(a[i], a[j], c));
+        if (probe.descents == 0 && sorted(a, lo, hi, c)) {
+            return Strategy.ALREADY_SORTED;
+        }
+        if (probe.descents * 8 <= PAIRS || probe.ascents * 8 <= PAIRS
+                || (n >= INVERSIONS_THRESHOLD && Math.abs(probe.inversions() - 0.5) >= 0.5 - 1.0 / 32)) {
+            MergeBU.sortNatural(a, lo, hi, c);
+            return Strategy.NATURAL_MERGE;
+        }
+        if (n >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            MergeX.parallelSort(a, lo, hi, c);
+            return Strategy.PARALLEL_MERGE;
+        }
+
+        MergeX.sort(a, lo, hi, c);
+        return Strategy.MERGE;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order using the strategy chosen for the input.
+     *
+     * @param a the array to be sorted
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(int[] a) {
+        return sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order using the strategy chosen for the input.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(int[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        if (n <= INSERTION_THRESHOLD) {
+            if (sorted(a, lo, hi)) {
+                return Strategy.ALREADY_SORTED;
+            }
+            Insertion.sort(a, lo, hi);
+            return Strategy.INSERTION;
+        }
+
+        Probe probe = new Probe(lo, hi, (i, j) -> less(a[i], a[j]));
+        if (probe.descents == 0 && sorted(a, lo, hi)) {
+            return Strategy.ALREADY_SORTED;
+        }
+        if (probe.ascents == 0 && descending(a, lo, hi)) {
+            for (int i = lo, j = hi; i < j; i++, j--) {
+                swap(a, i, j);
+            }
+            return Strategy.REVERSED;
+        }
+
+        if (n >= COUNTING_THRESHOLD && span(a, probe.sample()) < n / 4) {
+            int min = a[lo], max = a[lo];
+            for (int i = lo + 1; i <= hi; i++) {
+                min = Math.min(min, a[i]);
+                max = Math.max(max, a[i]);
+            }
+            if ((long) max - min < Math.min(n / 2, MAX_COUNTING_RANGE)) {
+                Counting.sort(a, lo, hi, min, max);
+                return Strategy.COUNTING;
+            }
+        }
+        if (n >= RADIX_THRESHOLD) {
+            Radix.sort(a, lo, hi);
+            return Strategy.RADIX;
+        }
+
+        MergeX.sort(a, lo, hi);
+        return Strategy.MERGE;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order using the strategy chosen for the input.
+     *
+     * @param a the array to be sorted
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(long[] a) {
+        return sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order using the strategy chosen for the input.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(long[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        if (n <= INSERTION_THRESHOLD) {
+            if (sorted(a, lo, hi)) {
+                return Strategy.ALREADY_SORTED;
+            }
+            Insertion.sort(a, lo, hi);
+            return Strategy.INSERTION;
+        }
+
+        Probe probe = new Probe(lo, hi, (i, j) -> less(a[i], a[j]));
+        if (probe.descents == 0 && sorted(a, lo, hi)) {
+            return Strategy.ALREADY_SORTED;
+        }
+        if (probe.ascents == 0 && descending(a, lo, hi)) {
+            for (int i = lo, j = hi; i < j; i++, j--) {
+                swap(a, i, j);
+            }
+            return Strategy.REVERSED;
+        }
+
+        if (n >= RADIX_THRESHOLD) {
+            Radix.sort(a, lo, hi);
+            return Strategy.RADIX;
+        }
+
+        MergeX.sort(a, lo, hi);
+        return Strategy.MERGE;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Double#compare(double, double)} using the strategy chosen for the input.
+     *
+     * @param a the array to be sorted
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(double[] a) {
+        return sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Double#compare(double, double)} using the strategy chosen for the input.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(double[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        if (n <= INSERTION_THRESHOLD) {
+            if (sorted(a, lo, hi)) {
+                return Strategy.ALREADY_SORTED;
+            }
+            Insertion.sort(a, lo, hi);
+            return Strategy.INSERTION;
+        }
+
+        Probe probe = new Probe(lo, hi, (i, j) -> less(a[i], a[j]));
+        if (probe.descents == 0 && sorted(a, lo, hi)) {
+            return Strategy.ALREADY_SORTED;
+        }
+        if (probe.ascents == 0 && descending(a, lo, hi)) {
+            for (int i = lo, j = hi; i < j; i++, j--) {
+                swap(a, i, j);
+            }
+            return Strategy.REVERSED;
+        }
+
+        if (n >= RADIX_THRESHOLD) {
+            Radix.sort(a, lo, hi);
+            return Strategy.RADIX;
+        }
+
+        MergeX.sort(a, lo, hi);
+        return Strategy.MERGE;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order, as defined by {@link Float#compare(float, float)} using the strategy chosen for the input.
+     *
+     * @param a the array to be sorted
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(float[] a) {
+        return sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order, as defined by {@link Float#compare(float, float)} using the strategy chosen for the input.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(float[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        if (n <= INSERTION_THRESHOLD) {
+            if (sorted(a, lo, hi)) {
+                return Strategy.ALREADY_SORTED;
+            }
+            Insertion.sort(a, lo, hi);
+            return Strategy.INSERTION;
+        }
+
+        Probe probe = new Probe(lo, hi, (i, j) -> less(a[i], a[j]));
+        if (probe.descents == 0 && sorted(a, lo, hi)) {
+            return Strategy.ALREADY_SORTED;
+        }
+        if (probe.ascents == 0 && descending(a, lo, hi)) {
+            for (int i = lo, j = hi; i < j; i++, j--) {
+                swap(a, i, j);
+            }
+            return Strategy.REVERSED;
+        }
+
+        if (n >= RADIX_THRESHOLD) {
+            Radix.sort(a, lo, hi);
+            return Strategy.RADIX;
+        }
+
+        MergeX.sort(a, lo, hi);
+        return Strategy.MERGE;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order using the strategy chosen for the input.
+     *
+     * @param a the array to be sorted
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(short[] a) {
+        return sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order using the strategy chosen for the input.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(short[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        if (n <= INSERTION_THRESHOLD) {
+            if (sorted(a, lo, hi)) {
+                return Strategy.ALREADY_SORTED;
+            }
+            Insertion.sort(a, lo, hi);
+            return Strategy.INSERTION;
+        }
+
+        Probe probe = new Probe(lo, hi, (i, j) -> less(a[i], a[j]));
+        if (probe.descents == 0 && sorted(a, lo, hi)) {
+            return Strategy.ALREADY_SORTED;
+        }
+        if (probe.ascents == 0 && descending(a, lo, hi)) {
+            for (int i = lo, j = hi; i < j; i++, j--) {
+                swap(a, i, j);
+            }
+            return Strategy.REVERSED;
+        }
+
+        if (n >= COUNTING_THRESHOLD) {
+            Counting.sort(a, lo, hi);
+            return Strategy.COUNTING;
+        }
+
+        MergeX.sort(a, lo, hi);
+        return Strategy.MERGE;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order using the strategy chosen for the input.
+     *
+     * @param a the array to be sorted
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(char[] a) {
+        return sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order using the strategy chosen for the input.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(char[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        if (n <= INSERTION_THRESHOLD) {
+            if (sorted(a, lo, hi)) {
+                return Strategy.ALREADY_SORTED;
+            }
+            Insertion.sort(a, lo, hi);
+            return Strategy.INSERTION;
+        }
+
+        Probe probe = new Probe(lo, hi, (i, j) -> less(a[i], a[j]));
+        if (probe.descents == 0 && sorted(a, lo, hi)) {
+            return Strategy.ALREADY_SORTED;
+        }
+        if (probe.ascents == 0 && descending(a, lo, hi)) {
+            for (int i = lo, j = hi; i < j; i++, j--) {
+                swap(a, i, j);
+            }
+            return Strategy.REVERSED;
+        }
+
+        if (n >= COUNTING_THRESHOLD) {
+            Counting.sort(a, lo, hi);
+            return Strategy.COUNTING;
+        }
+
+        MergeX.sort(a, lo, hi);
+        return Strategy.MERGE;
+    }
+
+    /**
+     * Rearranges the array in ascending numerical order using the strategy chosen for the input.
+     *
+     * @param a the array to be sorted
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(byte[] a) {
+        return sort(a, 0, a.length - 1);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending numerical order using the strategy chosen for the input.
+     *
+     * @param a  the array to be sorted
+     * @param lo the lowest index
+     * @param hi the highest index
+     * @return the strategy used to sort the array
+     */
+    public static Strategy sort(byte[] a, int lo, int hi) {
+        checkBounds(a.length, lo, hi);
+
+        int n = hi - lo + 1;
+        if (n <= INSERTION_THRESHOLD) {
+            if (sorted(a, lo, hi)) {
+                return Strategy.ALREADY_SORTED;
+            }
+            Insertion.sort(a, lo, hi);
+            return Strategy.INSERTION;
+        }
+
+        Probe probe = new Probe(lo, hi, (i, j) -> less(a[i], a[j]));
+        if (probe.descents == 0 && sorted(a, lo, hi)) {
+            return Strategy.ALREADY_SORTED;
+        }
+        if (probe.ascents == 0 && descending(a, lo, hi)) {
+            for (int i = lo, j = hi; i < j; i++, j--) {
+                swap(a, i, j);
+            }
+            return Strategy.REVERSED;
+        }
+
+        Counting.sort(a, lo, hi);
+        return Strategy.COUNTING;
+    }
+
+    /**
+     * Rearranges the array in ascending order of the {@code int} keys extracted from its items
+     * using the strategy chosen for the keys. The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param key the function extracting the sort key
+     * @return the strategy used to sort the keys
+     * @throws IllegalArgumentException if the key extractor is {@code null}
+     */
+    public static <T> Strategy sortByInt(T[] a, @Nonnull ToIntFunction<? super T> key) {
+        return sortByInt(a, 0, a.length - 1, key);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order of the {@code int} keys extracted from its items
+     * using the strategy chosen for the keys. The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param key the function extracting the sort key
+     * @return the strategy used to sort the keys
+     * @throws IllegalArgumentException if the key extractor is {@code null}
+     */
+    public static <T> Strategy sortByInt(T[] a, int lo, int hi, @Nonnull ToIntFunction<? super T> key) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(key, "Key extractor [key] should not be null.");
+
+        return Radix.sortByKeys(a, lo, Radix.intKeys(a, lo, hi, key));
+    }
+
+    /**
+     * Rearranges the array in ascending order of the {@code long} keys extracted from its items
+     * using the strategy chosen for the keys. The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param key the function extracting the sort key
+     * @return the strategy used to sort the keys
+     * @throws IllegalArgumentException if the key extractor is {@code null}
+     */
+    public static <T> Strategy sortByLong(T[] a, @Nonnull ToLongFunction<? super T> key) {
+        return sortByLong(a, 0, a.length - 1, key);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order of the {@code long} keys extracted from its items
+     * using the strategy chosen for the keys. The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param key the function extracting the sort key
+     * @return the strategy used to sort the keys
+     * @throws IllegalArgumentException if the key extractor is {@code null}
+     */
+    public static <T> Strategy sortByLong(T[] a, int lo, int hi, @Nonnull ToLongFunction<? super T> key) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(key, "Key extractor [key] should not be null.");
+
+        return Radix.sortByKeys(a, lo, Radix.longKeys(a, lo, hi, key));
+    }
+
+    /**
+     * Rearranges the array in ascending order of the {@code double} keys extracted from its items,
+     * as defined by {@link Double#compare(double, double)}, using the strategy chosen for the keys.
+     * The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param key the function extracting the sort key
+     * @return the strategy used to sort the keys
+     * @throws IllegalArgumentException if the key extractor is {@code null}
+     */
+    public static <T> Strategy sortByDouble(T[] a, @Nonnull ToDoubleFunction<? super T> key) {
+        return sortByDouble(a, 0, a.length - 1, key);
+    }
+
+    /**
+     * Rearranges the array inside bounds in ascending order of the {@code double} keys extracted from its items,
+     * as defined by {@link Double#compare(double, double)}, using the strategy chosen for the keys.
+     * The sort is stable, every key is extracted exactly once.
+     *
+     * @param a   the array to be sorted
+     * @param lo  the lowest index
+     * @param hi  the highest index
+     * @param key the function extracting the sort key
+     * @return the strategy used to sort the keys
+     * @throws IllegalArgumentException if the key extractor is {@code null}
+     */
+    public static <T> Strategy sortByDouble(T[] a, int lo, int hi, @Nonnull ToDoubleFunction<? super T> key) {
+        checkBounds(a.length, lo, hi);
+        ensureNotNull(key, "Key extractor [key] should not be null.");
+
+        return Radix.sortByKeys(a, lo, Radix.doubleKeys(a, lo, hi, key));
+    }
+
+    /**
+     * @return {@code true} if a[lo .. hi] is in descending order.
+     */
+    private static boolean descending(int[] a, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i - 1], a[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if a[lo .. hi] is in descending order.
+     */
+    private static boolean descending(long[] a, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i - 1], a[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if a[lo .. hi] is in descending order.
+     */
+    private static boolean descending(double[] a, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i - 1], a[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if a[lo .. hi] is in descending order.
+     */
+    private static boolean descending(float[] a, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i - 1], a[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if a[lo .. hi] is in descending order.
+     */
+    private static boolean descending(short[] a, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i - 1], a[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if a[lo .. hi] is in descending order.
+     */
+    private static boolean descending(char[] a, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i - 1], a[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return {@code true} if a[lo .. hi] is in descending order.
+     */
+    private static boolean descending(byte[] a, int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            if (less(a[i - 1], a[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the difference between the largest and the smallest sampled item.
+     */
+    private static long span(int[] a, int[] sample) {
+        int min = a[sample[0]], max = min;
+        for (int i : sample) {
+            min = Math.min(min, a[i]);
+            max = Math.max(max, a[i]);
+        }
+        return (long) max - min;
+    }
+
+    /**
+     * The order of two items of the probed array given by their indexes.
+     */
+    private interface IndexOrder {
+        boolean less(int i, int j);
+    }
+
+    /**
+     * The probe of the order of a[lo .. hi], which should contain more than {@link #SAMPLE} items.
+     */
+    private static class Probe {
+        private final int lo;
+        private final int n;
+        private final IndexOrder order;
+
+        /**
+         * The number of ascending and descending pairs of {@link #PAIRS} adjacent pairs.
+         */
+        final int ascents;
+        final int descents;
+
+        Probe(int lo, int hi, IndexOrder order) {
+            this.lo = lo;
+            this.n = hi - lo + 1;
+            this.order = order;
+
+            int up = 0, down = 0;
+            for (int p = 0; p < PAIRS; p++) {
+                int i = lo + (int) ((long) p * (n - 1) / PAIRS);
+                if (order.less(i, i + 1)) {
+                    up++;
+                } else if (order.less(i + 1, i)) {
+                    down++;
+                }
+            }
+            this.ascents = up;
+            this.descents = down;
+        }
+
+        /**
+         * @return the fraction of the pairs of sampled items in descending order.
+         */
+        double inversions() {
+            int[] sample = sample();
+            int inversions = 0;
+            for (int i = 0; i < SAMPLE; i++) {
+                for (int j = i + 1; j < SAMPLE; j++) {
+                    if (order.less(sample[j], sample[i])) {
+                        inversions++;
+                    }
+                }
+            }
+            return inversions / (SAMPLE * (SAMPLE - 1) / 2.0);
+        }
+
+        /**
+         * @return the indexes of {@link #SAMPLE} items spread evenly over the array.
+         */
+        int[] sample() {
+            int[] sample = new int[SAMPLE];
+            for (int s = 0; s < SAMPLE; s++) {
+                sample[s] = lo + (int) ((long) s * (n - 1) / (SAMPLE - 1));
+            }
+            return sample;
+        }
+    }
+}